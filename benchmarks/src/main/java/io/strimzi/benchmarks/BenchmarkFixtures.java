@@ -0,0 +1,179 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.ArrayOrObjectKafkaListeners;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.api.kafka.model.storage.SingleVolumeStorage;
+import io.strimzi.api.kafka.model.storage.Storage;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.topic.Topic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+
+/**
+ * Builds the custom resources and models used by the benchmarks. The size of the generated resources is driven by the
+ * parameters of the benchmarks, so that the cost of the operator code can be compared across cluster sizes.
+ */
+public class BenchmarkFixtures {
+    public static final String NAMESPACE = "my-namespace";
+    public static final String CLUSTER_NAME = "my-cluster";
+
+    private static final KafkaListenerType[] LISTENER_TYPES = {
+        KafkaListenerType.INTERNAL,
+        KafkaListenerType.NODEPORT,
+        KafkaListenerType.LOADBALANCER,
+        KafkaListenerType.ROUTE
+    };
+
+    private BenchmarkFixtures() { }
+
+    /**
+     * @return A KafkaVersion.Lookup for all supported Kafka versions with dummy container images
+     */
+    public static KafkaVersion.Lookup kafkaVersionLookup() {
+        Set<String> versions = new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap(), emptyMap()).supportedVersions();
+        Map<String, String> images = versions.stream()
+                .collect(Collectors.toMap(Function.identity(), version -> "strimzi/kafka:latest-kafka-" + version));
+
+        return new KafkaVersion.Lookup(images, images, images, images, images);
+    }
+
+    /**
+     * Generates listeners of all types which do not need any additional configuration. The first two listeners are
+     * the usual plain and TLS internal listeners.
+     *
+     * @param count Number of listeners
+     * @return List with the listeners
+     */
+    public static List<GenericKafkaListener> listeners(int count) {
+        List<GenericKafkaListener> listeners = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            listeners.add(new GenericKafkaListenerBuilder()
+                    .withName("listener" + i)
+                    .withPort(9092 + i)
+                    .withType(i < 2 ? KafkaListenerType.INTERNAL : LISTENER_TYPES[i % LISTENER_TYPES.length])
+                    .withTls(i % 2 == 1)
+                    .build());
+        }
+
+        return listeners;
+    }
+
+    /**
+     * @param volumes Number of JBOD volumes
+     * @return JBOD storage with the given number of persistent volumes
+     */
+    public static Storage jbodStorage(int volumes) {
+        List<SingleVolumeStorage> jbodVolumes = new ArrayList<>(volumes);
+
+        for (int i = 0; i < volumes; i++) {
+            jbodVolumes.add(new PersistentClaimStorageBuilder()
+                    .withId(i)
+                    .withSize("100Gi")
+                    .withDeleteClaim(false)
+                    .build());
+        }
+
+        return new JbodStorageBuilder().withVolumes(jbodVolumes).build();
+    }
+
+    /**
+     * @param entries Number of options
+     * @return User configuration of the Kafka brokers with the given number of options
+     */
+    public static Map<String, Object> kafkaConfiguration(int entries) {
+        Map<String, Object> config = new LinkedHashMap<>(entries);
+        config.put("auto.create.topics.enable", "false");
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("transaction.state.log.min.isr", 2);
+
+        for (int i = config.size(); i < entries; i++) {
+            config.put("custom.option." + i, "value-" + i);
+        }
+
+        return config;
+    }
+
+    /**
+     * Creates the Kafka custom resource.
+     *
+     * @param replicas  Number of Kafka and ZooKeeper replicas
+     * @param listeners Number of listeners
+     * @param config    Kafka broker configuration
+     * @return The Kafka custom resource
+     */
+    public static Kafka kafka(int replicas, int listeners, Map<String, Object> config) {
+        return new KafkaBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName(CLUSTER_NAME)
+                        .withNamespace(NAMESPACE)
+                        .withLabels(singletonMap("app", "benchmark"))
+                        .build())
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(replicas)
+                        .withListeners(new ArrayOrObjectKafkaListeners(listeners(listeners)))
+                        .withConfig(config)
+                        .withStorage(jbodStorage(2))
+                        .withNewRack()
+                            .withTopologyKey("topology.kubernetes.io/zone")
+                        .endRack()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(replicas)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Creates topics with the given number of partitions and options. The topics alternate between the delete and
+     * compact cleanup policies, so that they are not all identical.
+     *
+     * @param count      Number of topics
+     * @param partitions Number of partitions of each topic
+     * @param configs    Number of config options of each topic
+     * @return List with the topics
+     */
+    public static List<Topic> topics(int count, int partitions, int configs) {
+        List<Topic> topics = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            Map<String, String> config = new HashMap<>(configs);
+            config.put("cleanup.policy", i % 2 == 0 ? "delete" : "compact");
+            for (int j = config.size(); j < configs; j++) {
+                config.put("custom.option." + j, Integer.toString(i * j));
+            }
+
+            topics.add(new Topic.Builder("my-topic-" + i, partitions, (short) 3, config,
+                    new ObjectMetaBuilder().withLabels(singletonMap("strimzi.io/cluster", CLUSTER_NAME)).build())
+                    .build());
+        }
+
+        return topics;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.crdgenerator;
+
+import io.fabric8.kubernetes.client.CustomResource;
+import io.strimzi.api.annotations.ApiVersion;
+import io.strimzi.api.annotations.KubeVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+
+/**
+ * Measures the generation of the CRD schemas from the API model, with the same options as the build of the
+ * installation files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CrdGeneratorBenchmark {
+    @Param({"io.strimzi.api.kafka.model.Kafka", "io.strimzi.api.kafka.model.KafkaConnect", "io.strimzi.api.kafka.model.KafkaTopic"})
+    public String crd;
+
+    private Class<? extends CustomResource> crdClass;
+    private CrdGenerator generator;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        crdClass = Class.forName(crd).asSubclass(CustomResource.class);
+        generator = new CrdGenerator(KubeVersion.V1_11_PLUS, ApiVersion.V1BETA1, CrdGenerator.YAML_MAPPER, emptyMap(),
+                new CrdGenerator.DefaultReporter(), asList(ApiVersion.V1ALPHA1, ApiVersion.V1BETA1), null, null,
+                new CrdGenerator.NoneConversionStrategy());
+    }
+
+    @Benchmark
+    public String generate() throws IOException {
+        StringWriter out = new StringWriter();
+        generator.generate(crdClass, out);
+        return out.toString();
+    }
+}
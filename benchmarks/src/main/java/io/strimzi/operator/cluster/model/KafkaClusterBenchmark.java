@@ -0,0 +1,61 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.benchmarks.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the Kafka cluster model from the custom resource and generating its StatefulSet, which is done
+ * in every reconciliation of every Kafka cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaClusterBenchmark {
+    @Param({"3", "12", "48"})
+    public int replicas;
+
+    @Param({"2", "8", "32"})
+    public int listeners;
+
+    private KafkaVersion.Lookup versions;
+    private Kafka kafka;
+    private KafkaCluster kafkaCluster;
+
+    @Setup
+    public void setup() {
+        versions = BenchmarkFixtures.kafkaVersionLookup();
+        kafka = BenchmarkFixtures.kafka(replicas, listeners, BenchmarkFixtures.kafkaConfiguration(20));
+        kafkaCluster = KafkaCluster.fromCrd(kafka, versions);
+    }
+
+    @Benchmark
+    public KafkaCluster fromCrd() {
+        return KafkaCluster.fromCrd(kafka, versions);
+    }
+
+    @Benchmark
+    public StatefulSet generateStatefulSet() {
+        return kafkaCluster.generateStatefulSet(false, null, null);
+    }
+}
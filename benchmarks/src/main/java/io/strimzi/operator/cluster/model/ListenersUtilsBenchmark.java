@@ -0,0 +1,79 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.benchmarks.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the listener helpers which are called for every broker and every listener when generating the services,
+ * routes and ingresses and when collecting the advertised addresses of the brokers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListenersUtilsBenchmark {
+    @Param({"3", "12", "48"})
+    public int replicas;
+
+    @Param({"2", "8", "32"})
+    public int listeners;
+
+    private List<GenericKafkaListener> kafkaListeners;
+    private List<GenericKafkaListener> externalListeners;
+
+    @Setup
+    public void setup() {
+        kafkaListeners = BenchmarkFixtures.listeners(listeners);
+        externalListeners = ListenersUtils.externalListeners(kafkaListeners);
+    }
+
+    @Benchmark
+    public void listenerTypes(Blackhole blackhole) {
+        blackhole.consume(ListenersUtils.internalListeners(kafkaListeners));
+        blackhole.consume(ListenersUtils.externalListeners(kafkaListeners));
+        blackhole.consume(ListenersUtils.nodePortListeners(kafkaListeners));
+        blackhole.consume(ListenersUtils.loadBalancerListeners(kafkaListeners));
+        blackhole.consume(ListenersUtils.routeListeners(kafkaListeners));
+        blackhole.consume(ListenersUtils.alternativeNames(kafkaListeners));
+    }
+
+    @Benchmark
+    public void perBrokerAddresses(Blackhole blackhole) {
+        for (GenericKafkaListener listener : kafkaListeners) {
+            blackhole.consume(ListenersUtils.identifier(listener));
+            blackhole.consume(ListenersUtils.backwardsCompatibleBootstrapServiceName(BenchmarkFixtures.CLUSTER_NAME, listener));
+        }
+
+        for (GenericKafkaListener listener : externalListeners) {
+            for (int pod = 0; pod < replicas; pod++) {
+                blackhole.consume(ListenersUtils.backwardsCompatibleBrokerServiceName(BenchmarkFixtures.CLUSTER_NAME, pod, listener));
+                blackhole.consume(ListenersUtils.brokerHost(listener, pod));
+                blackhole.consume(ListenersUtils.brokerAdvertisedHost(listener, pod));
+                blackhole.consume(ListenersUtils.brokerAdvertisedPort(listener, pod));
+                blackhole.consume(ListenersUtils.brokerNodePort(listener, pod));
+                blackhole.consume(ListenersUtils.brokerAnnotations(listener, pod));
+            }
+        }
+    }
+}
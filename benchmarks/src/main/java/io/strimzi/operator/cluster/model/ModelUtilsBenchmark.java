@@ -0,0 +1,74 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.api.kafka.model.storage.Storage;
+import io.strimzi.benchmarks.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ModelUtils} helpers which are used in every reconciliation, such as the encoding of the storage
+ * configuration into the StatefulSet annotation and the parsing of the broker configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelUtilsBenchmark {
+    @Param({"1", "10"})
+    public int volumes;
+
+    @Param({"10", "100"})
+    public int lines;
+
+    private Storage storage;
+    private String storageJson;
+    private String config;
+
+    @Setup
+    public void setup() {
+        storage = BenchmarkFixtures.jbodStorage(volumes);
+        storageJson = ModelUtils.encodeStorageToJson(storage);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            if (i % 5 == 0) {
+                sb.append("# Comment ").append(i).append("\n\n");
+            }
+            sb.append("custom.option.").append(i).append("=value-").append(i).append('\n');
+        }
+        config = sb.toString();
+    }
+
+    @Benchmark
+    public String encodeStorage() {
+        return ModelUtils.encodeStorageToJson(storage);
+    }
+
+    @Benchmark
+    public Storage decodeStorage() {
+        return ModelUtils.decodeStorageFromJson(storageJson);
+    }
+
+    @Benchmark
+    public List<String> linesWithoutComments() {
+        return ModelUtils.getLinesWithoutCommentsAndEmptyLines(config);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.api.kafka.model.status.KafkaStatus;
+import io.strimzi.api.kafka.model.status.KafkaStatusBuilder;
+import io.strimzi.api.kafka.model.status.ListenerAddressBuilder;
+import io.strimzi.api.kafka.model.status.ListenerStatus;
+import io.strimzi.api.kafka.model.status.ListenerStatusBuilder;
+import io.strimzi.api.kafka.model.status.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
+/**
+ * Compares {@link StatusDiff} with the previous implementation which diffed the JSON trees of the statuses. Both
+ * statuses differ only in the {@code lastTransitionTime} of the conditions, which is the common case when the
+ * status of a ready resource is updated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatusDiffBenchmark {
+    private static final ObjectMapper PATCH_MAPPER = patchMapper().copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    private static final Pattern IGNORABLE_PATHS = Pattern.compile("^(/conditions/[0-9]+/lastTransitionTime)$");
+
+    @Param({"3", "30"})
+    public int listeners;
+
+    @Param({"2", "20"})
+    public int conditions;
+
+    private KafkaStatus current;
+    private KafkaStatus desired;
+
+    @Setup
+    public void setup() {
+        current = kafkaStatus("2020-11-02T10:00:00Z");
+        desired = kafkaStatus("2020-11-02T11:00:00Z");
+    }
+
+    private KafkaStatus kafkaStatus(String lastTransitionTime) {
+        List<ListenerStatus> listenerStatuses = new ArrayList<>(listeners);
+        for (int i = 0; i < listeners; i++) {
+            listenerStatuses.add(new ListenerStatusBuilder()
+                    .withNewType("listener" + i)
+                    .withAddresses(new ListenerAddressBuilder()
+                            .withHost("my-cluster-kafka-listener" + i + "-bootstrap.my-namespace.svc")
+                            .withPort(9092 + i)
+                            .build())
+                    .withCertificates("-----BEGIN CERTIFICATE-----\nMIIDLTCCAhWgAwIBAgIJAJ\n-----END CERTIFICATE-----\n")
+                    .build());
+        }
+
+        List<Condition> statusConditions = new ArrayList<>(conditions);
+        for (int i = 0; i < conditions; i++) {
+            statusConditions.add(new ConditionBuilder()
+                    .withLastTransitionTime(lastTransitionTime)
+                    .withType(i == 0 ? "Ready" : "Warning")
+                    .withStatus("True")
+                    .withReason(i == 0 ? null : "DeprecatedFields")
+                    .withMessage(i == 0 ? null : "The property spec.kafka.property" + i + " has been deprecated")
+                    .build());
+        }
+
+        return new KafkaStatusBuilder()
+                .withObservedGeneration(5L)
+                .withConditions(statusConditions)
+                .withListeners(listenerStatuses)
+                .build();
+    }
+
+    @Benchmark
+    public boolean structuralDiff() {
+        return new StatusDiff(current, desired).isEmpty();
+    }
+
+    @Benchmark
+    public boolean jsonDiff() {
+        return jsonDiffIsEmpty(current, desired);
+    }
+
+    /**
+     * The JSON tree based implementation of StatusDiff which was used before
+     */
+    private static boolean jsonDiffIsEmpty(Status current, Status desired) {
+        JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
+        JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
+        JsonNode diff = JsonDiff.asJson(source, target);
+
+        for (JsonNode d : diff) {
+            if (!IGNORABLE_PATHS.matcher(d.get("path").asText()).matches()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
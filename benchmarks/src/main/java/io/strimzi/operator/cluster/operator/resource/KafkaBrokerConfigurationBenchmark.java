@@ -0,0 +1,84 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.benchmarks.BenchmarkFixtures;
+import io.strimzi.operator.cluster.model.KafkaBrokerConfigurationBuilder;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures generating the broker configuration and diffing it against the configuration of a running broker. The
+ * current broker configuration is the desired configuration with a single changed option, which is the common case
+ * when the broker configuration is updated dynamically.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaBrokerConfigurationBenchmark {
+    @Param({"2", "8", "32"})
+    public int listeners;
+
+    @Param({"10", "100"})
+    public int options;
+
+    private List<GenericKafkaListener> kafkaListeners;
+    private KafkaConfiguration userConfiguration;
+    private KafkaVersion kafkaVersion;
+    private String desired;
+    private Config brokerConfigs;
+
+    @Setup
+    public void setup() {
+        kafkaListeners = BenchmarkFixtures.listeners(listeners);
+        userConfiguration = new KafkaConfiguration(BenchmarkFixtures.kafkaConfiguration(options).entrySet());
+        kafkaVersion = BenchmarkFixtures.kafkaVersionLookup().defaultVersion();
+        desired = configuration();
+
+        Map<String, String> current = new OrderedProperties().addStringPairs(desired).asMap();
+        current.put("auto.create.topics.enable", "true");
+        brokerConfigs = new Config(current.entrySet().stream()
+                .map(entry -> new ConfigEntry(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public String configuration() {
+        return new KafkaBrokerConfigurationBuilder()
+                .withBrokerId()
+                .withZookeeper(BenchmarkFixtures.CLUSTER_NAME)
+                .withListeners(BenchmarkFixtures.CLUSTER_NAME, BenchmarkFixtures.NAMESPACE, kafkaListeners)
+                .withUserConfiguration(userConfiguration)
+                .build();
+    }
+
+    @Benchmark
+    public int configurationDiff() {
+        return new KafkaBrokerConfigurationDiff(brokerConfigs, desired, kafkaVersion, 0).getDiffSize();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.benchmarks.BenchmarkFixtures;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures diffing the Kafka StatefulSets. The unchanged case is what happens in most reconciliations. In the changed
+ * case, the desired StatefulSet uses a different container image, which changes the pod template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatefulSetDiffBenchmark {
+    @Param({"3", "12", "48"})
+    public int replicas;
+
+    @Param({"2", "8", "32"})
+    public int listeners;
+
+    private StatefulSet current;
+    private StatefulSet unchanged;
+    private StatefulSet changed;
+
+    @Setup
+    public void setup() {
+        KafkaVersion.Lookup versions = BenchmarkFixtures.kafkaVersionLookup();
+        Kafka kafka = BenchmarkFixtures.kafka(replicas, listeners, BenchmarkFixtures.kafkaConfiguration(20));
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(kafka, versions);
+
+        current = kafkaCluster.generateStatefulSet(false, null, null);
+        unchanged = kafkaCluster.generateStatefulSet(false, null, null);
+
+        Kafka updatedKafka = new KafkaBuilder(kafka)
+                .editSpec()
+                    .editKafka()
+                        .withImage("strimzi/kafka:custom")
+                    .endKafka()
+                .endSpec()
+                .build();
+        changed = KafkaCluster.fromCrd(updatedKafka, versions).generateStatefulSet(false, null, null);
+    }
+
+    @Benchmark
+    public boolean unchanged() {
+        return new StatefulSetDiff(current, unchanged).isEmpty();
+    }
+
+    @Benchmark
+    public boolean changed() {
+        return new StatefulSetDiff(current, changed).isEmpty();
+    }
+}
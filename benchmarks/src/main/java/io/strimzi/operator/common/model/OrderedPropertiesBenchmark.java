@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing and writing properties files, such as the broker configuration and logging configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderedPropertiesBenchmark {
+    @Param({"10", "100", "1000"})
+    public int entries;
+
+    private String properties;
+    private OrderedProperties orderedProperties;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("# Generated properties\n");
+        for (int i = 0; i < entries; i++) {
+            sb.append("listener.name.listener-").append(i).append(".ssl.keystore.location=/tmp/kafka/cluster.keystore.p12\n");
+            if (i % 10 == 0) {
+                sb.append("\n# Comment ").append(i).append('\n');
+            }
+        }
+
+        properties = sb.toString();
+        orderedProperties = new OrderedProperties().addStringPairs(properties);
+    }
+
+    @Benchmark
+    public OrderedProperties parse() {
+        return new OrderedProperties().addStringPairs(properties);
+    }
+
+    @Benchmark
+    public String write() {
+        return orderedProperties.asPairs();
+    }
+}
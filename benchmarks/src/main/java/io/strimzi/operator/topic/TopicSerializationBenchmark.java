@@ -0,0 +1,106 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.benchmarks.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the serialization of the private topic state which the Topic Operator keeps in its topic store, comparing
+ * the JSON and the binary encoding. Each invocation (de)serializes all the topics, as is done when the Topic Operator
+ * reconciles all topics. The serialization benchmarks also report the total size of the encoded topics as the
+ * {@code bytes} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TopicSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    public int topics;
+
+    @Param({"1", "20"})
+    public int configs;
+
+    private List<Topic> topicList;
+    private List<byte[]> jsonList;
+    private List<byte[]> binaryList;
+
+    /**
+     * The total size of the topics encoded by the last invocation
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        topicList = BenchmarkFixtures.topics(topics, 12, configs);
+        jsonList = topicList.stream().map(TopicSerialization::toJson).collect(Collectors.toList());
+        binaryList = topicList.stream().map(TopicSerialization::toBinary).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void toJson(Blackhole blackhole, EncodedSize size) {
+        long bytes = 0;
+        for (Topic topic : topicList) {
+            byte[] json = TopicSerialization.toJson(topic);
+            bytes += json.length;
+            blackhole.consume(json);
+        }
+        size.bytes = bytes;
+    }
+
+    @Benchmark
+    public void fromJson(Blackhole blackhole) {
+        for (byte[] json : jsonList) {
+            blackhole.consume(TopicSerialization.fromJson(json));
+        }
+    }
+
+    @Benchmark
+    public void toBinary(Blackhole blackhole, EncodedSize size) {
+        long bytes = 0;
+        for (Topic topic : topicList) {
+            byte[] binary = TopicSerialization.toBinary(topic);
+            bytes += binary.length;
+            blackhole.consume(binary);
+        }
+        size.bytes = bytes;
+    }
+
+    @Benchmark
+    public void fromBinary(Blackhole blackhole) {
+        for (byte[] binary : binaryList) {
+            blackhole.consume(TopicSerialization.fromBinary(binary));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+/**
+ * The implementations of the certificates manager which can be selected in the operators configuration
+ */
+public enum CertManagerType {
+    /**
+     * {@link OpenSslCertManager}, which runs the openssl command
+     */
+    OPENSSL,
+
+    /**
+     * {@link JcaCertManager}, which uses the Java Cryptography Architecture in-process
+     */
+    JCA;
+
+    /**
+     * @return A new certificates manager of this type
+     */
+    public CertManager create() {
+        return create(null);
+    }
+
+    /**
+     * @param keyPairPool The pool of pre-generated key pairs to use, or null for generating the keys when needed
+     * @return A new certificates manager of this type
+     */
+    public CertManager create(KeyPairPool keyPairPool) {
+        switch (this) {
+            case JCA:
+                return new JcaCertManager(keyPairPool);
+            case OPENSSL:
+            default:
+                return new OpenSslCertManager(keyPairPool);
+        }
+    }
+}
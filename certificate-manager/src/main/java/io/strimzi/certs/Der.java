@@ -0,0 +1,216 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal ASN.1 DER encoder and reader, covering only what is needed for building X.509 certificates and PKCS#10
+ * certificate signing requests.
+ */
+final class Der {
+    static final int BOOLEAN = 0x01;
+    static final int INTEGER = 0x02;
+    static final int BIT_STRING = 0x03;
+    static final int OCTET_STRING = 0x04;
+    static final int NULL = 0x05;
+    static final int OBJECT_IDENTIFIER = 0x06;
+    static final int UTF8_STRING = 0x0c;
+    static final int UTC_TIME = 0x17;
+    static final int GENERALIZED_TIME = 0x18;
+    static final int SEQUENCE = 0x30;
+    static final int SET = 0x31;
+
+    private static final DateTimeFormatter UTC_TIME_FORMAT = DateTimeFormatter.ofPattern("yyMMddHHmmss'Z'");
+    private static final DateTimeFormatter GENERALIZED_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'");
+
+    private Der() { }
+
+    static byte[] encode(int tag, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length + 6);
+        out.write(tag);
+        if (content.length < 0x80) {
+            out.write(content.length);
+        } else {
+            byte[] length = BigInteger.valueOf(content.length).toByteArray();
+            int offset = length[0] == 0 ? 1 : 0;
+            out.write(0x80 | (length.length - offset));
+            out.write(length, offset, length.length - offset);
+        }
+        out.write(content, 0, content.length);
+        return out.toByteArray();
+    }
+
+    static byte[] sequence(byte[]... elements) {
+        return encode(SEQUENCE, concat(elements));
+    }
+
+    static byte[] sequence(List<byte[]> elements) {
+        return sequence(elements.toArray(new byte[0][]));
+    }
+
+    static byte[] set(byte[]... elements) {
+        return encode(SET, concat(elements));
+    }
+
+    /**
+     * @return A constructed, context specific element (such as {@code [0] EXPLICIT})
+     */
+    static byte[] explicit(int tagNumber, byte[]... elements) {
+        return encode(0xa0 | tagNumber, concat(elements));
+    }
+
+    /**
+     * @return A primitive, context specific element (such as {@code [2] IMPLICIT IA5String})
+     */
+    static byte[] implicit(int tagNumber, byte[] content) {
+        return encode(0x80 | tagNumber, content);
+    }
+
+    static byte[] integer(BigInteger value) {
+        return encode(INTEGER, value.toByteArray());
+    }
+
+    static byte[] bool(boolean value) {
+        return encode(BOOLEAN, new byte[] {value ? (byte) 0xff : 0});
+    }
+
+    static byte[] nullValue() {
+        return encode(NULL, new byte[0]);
+    }
+
+    static byte[] octetString(byte[] value) {
+        return encode(OCTET_STRING, value);
+    }
+
+    static byte[] bitString(byte[] value) {
+        byte[] content = new byte[value.length + 1];
+        System.arraycopy(value, 0, content, 1, value.length);
+        return encode(BIT_STRING, content);
+    }
+
+    static byte[] utf8String(String value) {
+        return encode(UTF8_STRING, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return The time encoded as UTCTime until 2049 and as GeneralizedTime from 2050 on, as required by RFC 5280
+     */
+    static byte[] time(ZonedDateTime time) {
+        ZonedDateTime utc = time.withZoneSameInstant(ZoneOffset.UTC);
+        if (utc.getYear() < 2050) {
+            return encode(UTC_TIME, UTC_TIME_FORMAT.format(utc).getBytes(StandardCharsets.US_ASCII));
+        } else {
+            return encode(GENERALIZED_TIME, GENERALIZED_TIME_FORMAT.format(utc).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    static byte[] oid(String oid) {
+        String[] arcs = oid.split("\\.");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeBase128(out, Long.parseLong(arcs[0]) * 40 + Long.parseLong(arcs[1]));
+        for (int i = 2; i < arcs.length; i++) {
+            writeBase128(out, Long.parseLong(arcs[i]));
+        }
+        return encode(OBJECT_IDENTIFIER, out.toByteArray());
+    }
+
+    private static void writeBase128(ByteArrayOutputStream out, long value) {
+        int groups = 1;
+        for (long rest = value >>> 7; rest != 0; rest >>>= 7) {
+            groups++;
+        }
+        for (int i = groups - 1; i >= 0; i--) {
+            int group = (int) (value >>> (7 * i)) & 0x7f;
+            out.write(i == 0 ? group : group | 0x80);
+        }
+    }
+
+    private static byte[] concat(byte[]... elements) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] element : elements) {
+            out.write(element, 0, element.length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return The tag of the given encoded element
+     */
+    static int tag(byte[] element) {
+        return element[0] & 0xff;
+    }
+
+    /**
+     * @return The content of the given encoded element
+     * @throws IOException If the element is not valid DER
+     */
+    static byte[] content(byte[] element) throws IOException {
+        int[] header = header(element, 0);
+        byte[] content = new byte[header[1]];
+        System.arraycopy(element, header[0], content, 0, header[1]);
+        return content;
+    }
+
+    /**
+     * @return The encoded elements contained in the given encoded constructed element (such as a SEQUENCE)
+     * @throws IOException If the element is not valid DER
+     */
+    static List<byte[]> elements(byte[] element) throws IOException {
+        int[] header = header(element, 0);
+        int end = header[0] + header[1];
+        List<byte[]> elements = new ArrayList<>();
+        int offset = header[0];
+        while (offset < end) {
+            int[] childHeader = header(element, offset);
+            int childLength = childHeader[0] - offset + childHeader[1];
+            byte[] child = new byte[childLength];
+            System.arraycopy(element, offset, child, 0, childLength);
+            elements.add(child);
+            offset += childLength;
+        }
+        return elements;
+    }
+
+    /**
+     * @return The offset of the content and the length of the content of the element starting at the given offset
+     */
+    private static int[] header(byte[] data, int offset) throws IOException {
+        if (offset + 2 > data.length) {
+            throw new IOException("Truncated DER element");
+        }
+
+        int lengthOffset = offset + 1;
+        int first = data[lengthOffset] & 0xff;
+        int contentOffset = lengthOffset + 1;
+        int length;
+        if (first < 0x80) {
+            length = first;
+        } else {
+            int lengthBytes = first & 0x7f;
+            if (lengthBytes == 0 || lengthBytes > 4 || contentOffset + lengthBytes > data.length) {
+                throw new IOException("Unsupported DER length");
+            }
+            length = 0;
+            for (int i = 0; i < lengthBytes; i++) {
+                length = (length << 8) | (data[contentOffset + i] & 0xff);
+            }
+            contentOffset += lengthBytes;
+        }
+
+        if (length < 0 || contentOffset + length > data.length) {
+            throw new IOException("Truncated DER element");
+        }
+        return new int[] {contentOffset, length};
+    }
+}
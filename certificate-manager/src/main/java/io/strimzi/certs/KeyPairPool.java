@@ -0,0 +1,166 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of pre-generated RSA key pairs. The key pairs are generated by background refill threads, so that
+ * issuing a certificate does not have to wait for the key generation, which is the most expensive part of it. When
+ * the pool is empty the key pair is generated by the caller, so a drained pool is never slower than no pool.
+ */
+public class KeyPairPool implements AutoCloseable {
+    private static final Logger log = LogManager.getLogger(KeyPairPool.class);
+
+    private final int size;
+    private final int refillThreads;
+    private final BlockingQueue<KeyPair> pool;
+    private final List<Thread> threads;
+
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong taken = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    /**
+     * @param size The maximum number of pre-generated key pairs
+     * @param refillThreads The number of threads generating the key pairs
+     */
+    public KeyPairPool(int size, int refillThreads) {
+        if (size < 1 || refillThreads < 1) {
+            throw new IllegalArgumentException("The key pair pool size and the number of refill threads have to be at least 1");
+        }
+
+        this.size = size;
+        this.refillThreads = refillThreads;
+        this.pool = new ArrayBlockingQueue<>(size);
+        this.threads = new ArrayList<>(refillThreads);
+    }
+
+    /**
+     * Starts the refill threads
+     *
+     * @return This pool
+     */
+    public synchronized KeyPairPool start() {
+        if (threads.isEmpty()) {
+            for (int i = 0; i < refillThreads; i++) {
+                Thread thread = new Thread(this::refill, "key-pair-pool-refill-" + i);
+                thread.setDaemon(true);
+                thread.start();
+                threads.add(thread);
+            }
+            log.info("Started {} threads pre-generating up to {} key pairs", refillThreads, size);
+        }
+        return this;
+    }
+
+    private void refill() {
+        try {
+            KeyPairGenerator generator = generator();
+            while (!Thread.currentThread().isInterrupted()) {
+                // Blocks while the pool is full
+                pool.put(generator.generateKeyPair());
+                generated.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (NoSuchAlgorithmException e) {
+            log.error("Failed to create the key pair generator, the key pairs will not be pre-generated", e);
+        }
+    }
+
+    /**
+     * Takes a pre-generated key pair from the pool, or generates one if the pool is empty.
+     *
+     * @return A new RSA key pair, never returned by this method before
+     * @throws NoSuchAlgorithmException If the pool is empty and the key pair could not be generated
+     */
+    public KeyPair take() throws NoSuchAlgorithmException {
+        long start = System.nanoTime();
+        try {
+            KeyPair keyPair = pool.poll();
+            if (keyPair == null) {
+                misses.incrementAndGet();
+                keyPair = generator().generateKeyPair();
+            }
+            taken.incrementAndGet();
+            return keyPair;
+        } finally {
+            waitNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    static KeyPairGenerator generator() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(JcaCertManager.KEY_SIZE, new SecureRandom());
+        return generator;
+    }
+
+    /**
+     * @return The number of pre-generated key pairs currently in the pool
+     */
+    public int depth() {
+        return pool.size();
+    }
+
+    /**
+     * @return The maximum number of pre-generated key pairs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of key pairs generated by the refill threads so far
+     */
+    public long generated() {
+        return generated.get();
+    }
+
+    /**
+     * @return The number of key pairs taken from the pool so far (including the ones generated by the caller)
+     */
+    public long taken() {
+        return taken.get();
+    }
+
+    /**
+     * @return The number of key pairs which were generated by the caller because the pool was empty
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The total time the callers spent waiting for a key pair, in nanoseconds
+     */
+    public long waitNanos() {
+        return waitNanos.get();
+    }
+
+    /**
+     * Stops the refill threads
+     */
+    @Override
+    public synchronized void close() {
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        threads.clear();
+        pool.clear();
+    }
+}
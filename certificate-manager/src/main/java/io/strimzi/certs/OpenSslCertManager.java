@@ -39,7 +39,19 @@ public class OpenSslCertManager implements CertManager {
 
     private static final Logger log = LogManager.getLogger(OpenSslCertManager.class);
 
-    public OpenSslCertManager() {}
+    private final KeyPairPool keyPairPool;
+
+    public OpenSslCertManager() {
+        this(null);
+    }
+
+    /**
+     * @param keyPairPool The pool from which the keys of the certificate sign requests are taken, or null for
+     *                    letting openssl generate them
+     */
+    public OpenSslCertManager(KeyPairPool keyPairPool) {
+        this.keyPairPool = keyPairPool;
+    }
 
     @Override
     public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
@@ -266,8 +278,19 @@ public class OpenSslCertManager implements CertManager {
     @Override
     public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
 
-        List<String> cmd = new ArrayList<>(asList("openssl", "req", "-new", "-batch", "-nodes",
-                "-keyout", keyFile.getAbsolutePath(), "-out", csrFile.getAbsolutePath()));
+        List<String> cmd = new ArrayList<>(asList("openssl", "req", "-new", "-batch", "-out", csrFile.getAbsolutePath()));
+
+        if (keyPairPool != null) {
+            // the pre-generated key is written in the same format as openssl writes it
+            try {
+                JcaCertManager.writePem(keyFile, "PRIVATE KEY", keyPairPool.take().getPrivate().getEncoded());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IOException("Failed to generate the key pair", e);
+            }
+            cmd.addAll(asList("-key", keyFile.getAbsolutePath()));
+        } else {
+            cmd.addAll(asList("-nodes", "-keyout", keyFile.getAbsolutePath()));
+        }
 
         File sna = null;
         File openSslConf = null;
@@ -30,7 +30,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
@@ -97,9 +96,6 @@ public class ClusterOperator extends AbstractVerticle {
     public void start(Promise<Void> start) {
         log.info("Starting ClusterOperator for namespace {}", namespace);
 
-        // Configure the executor here, but it is used only in other places
-        getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
-
         List<Future> watchFutures = new ArrayList<>(8);
         List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(asList(
                 kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
@@ -146,19 +142,21 @@ public class ClusterOperator extends AbstractVerticle {
     }
 
     /**
-      Periodical reconciliation (in case we lost some event)
+      Periodical reconciliation (in case we lost some event). The reconciliations are spread over the first half of
+      the reconciliation interval so that they do not all start at the same time.
      */
     private void reconcileAll(String trigger) {
         Handler<AsyncResult<Void>> ignore = ignored -> { };
-        kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+        long spreadMs = reconciliationInterval / 2;
+        kafkaAssemblyOperator.reconcileAll(trigger, namespace, spreadMs, ignore);
+        kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, spreadMs, ignore);
+        kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, spreadMs, ignore);
+        kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, spreadMs, ignore);
+        kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, spreadMs, ignore);
+        kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, spreadMs, ignore);
 
         if (kafkaConnectS2IAssemblyOperator != null) {
-            kafkaConnectS2IAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+            kafkaConnectS2IAssemblyOperator.reconcileAll(trigger, namespace, spreadMs, ignore);
         }
     }
 
@@ -6,11 +6,15 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
+import io.strimzi.operator.cluster.operator.resource.PooledHttpClient;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
 import org.apache.logging.log4j.LogManager;
@@ -42,6 +46,18 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_IMAGE_PULL_SECRETS = "STRIMZI_IMAGE_PULL_SECRETS";
     public static final String STRIMZI_OPERATOR_NAMESPACE = "STRIMZI_OPERATOR_NAMESPACE";
     public static final String STRIMZI_OPERATOR_NAMESPACE_LABELS = "STRIMZI_OPERATOR_NAMESPACE_LABELS";
+    public static final String STRIMZI_RESOURCE_CACHE_ENABLED = "STRIMZI_RESOURCE_CACHE_ENABLED";
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String STRIMZI_OPERAND_HTTP_MAX_POOL_SIZE = "STRIMZI_OPERAND_HTTP_MAX_POOL_SIZE";
+    public static final String STRIMZI_OPERAND_HTTP_PIPELINING = "STRIMZI_OPERAND_HTTP_PIPELINING";
+    public static final String STRIMZI_OPERAND_HTTP_REQUEST_TIMEOUT_MS = "STRIMZI_OPERAND_HTTP_REQUEST_TIMEOUT_MS";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
+    public static final String STRIMZI_KEY_PAIR_POOL_SIZE = "STRIMZI_KEY_PAIR_POOL_SIZE";
+    public static final String STRIMZI_KEY_PAIR_POOL_REFILL_THREADS = "STRIMZI_KEY_PAIR_POOL_REFILL_THREADS";
+    public static final String STRIMZI_KAFKA_ROLLER_MAX_PARALLELISM = "STRIMZI_KAFKA_ROLLER_MAX_PARALLELISM";
+    public static final String STRIMZI_KUBERNETES_OPS_POOL_SIZE = "STRIMZI_KUBERNETES_OPS_POOL_SIZE";
+    public static final String STRIMZI_ZOOKEEPER_OPS_POOL_SIZE = "STRIMZI_ZOOKEEPER_OPS_POOL_SIZE";
+    public static final String STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE = "STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE";
 
     // Env vars for configuring images
     public static final String STRIMZI_KAFKA_IMAGES = "STRIMZI_KAFKA_IMAGES";
@@ -62,6 +78,18 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
+    public static final boolean DEFAULT_RESOURCE_CACHE_ENABLED = false;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = AbstractOperator.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS;
+    public static final int DEFAULT_OPERAND_HTTP_MAX_POOL_SIZE = PooledHttpClient.DEFAULT_MAX_POOL_SIZE;
+    public static final boolean DEFAULT_OPERAND_HTTP_PIPELINING = PooledHttpClient.DEFAULT_PIPELINING;
+    public static final long DEFAULT_OPERAND_HTTP_REQUEST_TIMEOUT_MS = PooledHttpClient.DEFAULT_REQUEST_TIMEOUT_MS;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
+    public static final int DEFAULT_KEY_PAIR_POOL_SIZE = 0;
+    public static final int DEFAULT_KEY_PAIR_POOL_REFILL_THREADS = 1;
+    public static final int DEFAULT_KAFKA_ROLLER_MAX_PARALLELISM = 1;
+    public static final int DEFAULT_KUBERNETES_OPS_POOL_SIZE = 10;
+    public static final int DEFAULT_ZOOKEEPER_OPS_POOL_SIZE = 10;
+    public static final int DEFAULT_KAFKA_ADMIN_OPS_POOL_SIZE = 10;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -72,6 +100,18 @@ public class ClusterOperatorConfig {
     private final List<LocalObjectReference> imagePullSecrets;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
+    private final boolean resourceCacheEnabled;
+    private final int maxConcurrentReconciliations;
+    private final int operandHttpMaxPoolSize;
+    private final boolean operandHttpPipelining;
+    private final long operandHttpRequestTimeoutMs;
+    private final CertManagerType certManagerType;
+    private final int keyPairPoolSize;
+    private final int keyPairPoolRefillThreads;
+    private final int kafkaRollerMaxParallelism;
+    private final int kubernetesOpsPoolSize;
+    private final int zookeeperOpsPoolSize;
+    private final int kafkaAdminOpsPoolSize;
 
     /**
      * Constructor
@@ -85,11 +125,28 @@ public class ClusterOperatorConfig {
      * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
      * @param operatorNamespace Name of the namespace in which the operator is running
      * @param operatorNamespaceLabels Labels of the namespace in which the operator is running (used for network policies)
+     * @param resourceCacheEnabled true to serve the reads of the Kubernetes resources from an in-memory cache
+     * @param maxConcurrentReconciliations Maximum number of reconciliations of each kind of custom resource which run at the same time
+     * @param operandHttpMaxPoolSize Maximum number of connections kept open to each Kafka Connect or Cruise Control REST API
+     * @param operandHttpPipelining true to pipeline the requests to the Kafka Connect and Cruise Control REST APIs
+     * @param operandHttpRequestTimeoutMs timeout for the requests to the Kafka Connect and Cruise Control REST APIs specified in milliseconds
+     * @param certManagerType The implementation of the certificates manager used for the CA and the operands certificates
+     * @param keyPairPoolSize Number of key pairs generated in advance, or 0 for generating the key pairs when needed
+     * @param keyPairPoolRefillThreads Number of threads generating the key pairs in advance
+     * @param kafkaRollerMaxParallelism Maximum number of Kafka brokers which are rolled at the same time
+     * @param kubernetesOpsPoolSize Number of threads of the worker pool for the blocking Kubernetes API calls
+     * @param zookeeperOpsPoolSize Number of threads of the worker pool for the blocking ZooKeeper calls
+     * @param kafkaAdminOpsPoolSize Number of threads of the worker pool for the blocking Kafka Admin API calls
      */
+    @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs,
                                  boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy,
                                  List<LocalObjectReference> imagePullSecrets, String operatorNamespace,
-                                 Labels operatorNamespaceLabels) {
+                                 Labels operatorNamespaceLabels, boolean resourceCacheEnabled, int maxConcurrentReconciliations,
+                                 int operandHttpMaxPoolSize, boolean operandHttpPipelining, long operandHttpRequestTimeoutMs,
+                                 CertManagerType certManagerType, int keyPairPoolSize, int keyPairPoolRefillThreads,
+                                 int kafkaRollerMaxParallelism, int kubernetesOpsPoolSize, int zookeeperOpsPoolSize,
+                                 int kafkaAdminOpsPoolSize) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -99,6 +156,18 @@ public class ClusterOperatorConfig {
         this.imagePullSecrets = imagePullSecrets;
         this.operatorNamespace = operatorNamespace;
         this.operatorNamespaceLabels = operatorNamespaceLabels;
+        this.resourceCacheEnabled = resourceCacheEnabled;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.operandHttpMaxPoolSize = operandHttpMaxPoolSize;
+        this.operandHttpPipelining = operandHttpPipelining;
+        this.operandHttpRequestTimeoutMs = operandHttpRequestTimeoutMs;
+        this.certManagerType = certManagerType;
+        this.keyPairPoolSize = keyPairPoolSize;
+        this.keyPairPoolRefillThreads = keyPairPoolRefillThreads;
+        this.kafkaRollerMaxParallelism = kafkaRollerMaxParallelism;
+        this.kubernetesOpsPoolSize = kubernetesOpsPoolSize;
+        this.zookeeperOpsPoolSize = zookeeperOpsPoolSize;
+        this.kafkaAdminOpsPoolSize = kafkaAdminOpsPoolSize;
     }
 
     /**
@@ -142,9 +211,27 @@ public class ClusterOperatorConfig {
         List<LocalObjectReference> imagePullSecrets = parseImagePullSecrets(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_SECRETS));
         String operatorNamespace = map.get(ClusterOperatorConfig.STRIMZI_OPERATOR_NAMESPACE);
         Labels operatorNamespaceLabels = parseOperatorNamespaceLabels(map.get(ClusterOperatorConfig.STRIMZI_OPERATOR_NAMESPACE_LABELS));
+        boolean resourceCacheEnabled = parseResourceCacheEnabled(map.get(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED));
+        int maxConcurrentReconciliations = parseMaxConcurrentReconciliations(map.get(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS));
+        int operandHttpMaxPoolSize = parseOperandHttpMaxPoolSize(map.get(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_MAX_POOL_SIZE));
+        boolean operandHttpPipelining = parseOperandHttpPipelining(map.get(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_PIPELINING));
+        long operandHttpRequestTimeout = parseOperandHttpRequestTimeout(map.get(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_REQUEST_TIMEOUT_MS));
+        CertManagerType certManagerType = parseCertManagerType(map.get(ClusterOperatorConfig.STRIMZI_CERT_MANAGER));
+        int keyPairPoolSize = parseKeyPairPoolSize(map.get(ClusterOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE));
+        int keyPairPoolRefillThreads = parseKeyPairPoolRefillThreads(map.get(ClusterOperatorConfig.STRIMZI_KEY_PAIR_POOL_REFILL_THREADS));
+        int kafkaRollerMaxParallelism = parseKafkaRollerMaxParallelism(map.get(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLER_MAX_PARALLELISM));
+        int kubernetesOpsPoolSize = WorkerPools.parsePoolSize(ClusterOperatorConfig.STRIMZI_KUBERNETES_OPS_POOL_SIZE,
+                map.get(ClusterOperatorConfig.STRIMZI_KUBERNETES_OPS_POOL_SIZE), DEFAULT_KUBERNETES_OPS_POOL_SIZE);
+        int zookeeperOpsPoolSize = WorkerPools.parsePoolSize(ClusterOperatorConfig.STRIMZI_ZOOKEEPER_OPS_POOL_SIZE,
+                map.get(ClusterOperatorConfig.STRIMZI_ZOOKEEPER_OPS_POOL_SIZE), DEFAULT_ZOOKEEPER_OPS_POOL_SIZE);
+        int kafkaAdminOpsPoolSize = WorkerPools.parsePoolSize(ClusterOperatorConfig.STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE,
+                map.get(ClusterOperatorConfig.STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE), DEFAULT_KAFKA_ADMIN_OPS_POOL_SIZE);
 
         return new ClusterOperatorConfig(namespaces, reconciliationInterval, operationTimeout, createClusterRoles,
-                lookup, imagePullPolicy, imagePullSecrets, operatorNamespace, operatorNamespaceLabels);
+                lookup, imagePullPolicy, imagePullSecrets, operatorNamespace, operatorNamespaceLabels, resourceCacheEnabled,
+                maxConcurrentReconciliations, operandHttpMaxPoolSize, operandHttpPipelining, operandHttpRequestTimeout,
+                certManagerType, keyPairPoolSize, keyPairPoolRefillThreads, kafkaRollerMaxParallelism,
+                kubernetesOpsPoolSize, zookeeperOpsPoolSize, kafkaAdminOpsPoolSize);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -196,6 +283,137 @@ public class ClusterOperatorConfig {
         return createClusterRoles;
     }
 
+    private static boolean parseResourceCacheEnabled(String resourceCacheEnabledEnvVar) {
+        boolean resourceCacheEnabled = DEFAULT_RESOURCE_CACHE_ENABLED;
+
+        if (resourceCacheEnabledEnvVar != null) {
+            resourceCacheEnabled = Boolean.parseBoolean(resourceCacheEnabledEnvVar);
+        }
+
+        return resourceCacheEnabled;
+    }
+
+    private static int parseMaxConcurrentReconciliations(String maxConcurrentReconciliationsEnvVar) {
+        int maxConcurrentReconciliations = DEFAULT_MAX_CONCURRENT_RECONCILIATIONS;
+
+        if (maxConcurrentReconciliationsEnvVar != null) {
+            maxConcurrentReconciliations = Integer.parseInt(maxConcurrentReconciliationsEnvVar);
+
+            if (maxConcurrentReconciliations < 1) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS
+                        + " has to be at least 1");
+            }
+        }
+
+        return maxConcurrentReconciliations;
+    }
+
+    private static int parseOperandHttpMaxPoolSize(String operandHttpMaxPoolSizeEnvVar) {
+        int operandHttpMaxPoolSize = DEFAULT_OPERAND_HTTP_MAX_POOL_SIZE;
+
+        if (operandHttpMaxPoolSizeEnvVar != null) {
+            operandHttpMaxPoolSize = Integer.parseInt(operandHttpMaxPoolSizeEnvVar);
+
+            if (operandHttpMaxPoolSize < 1) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_MAX_POOL_SIZE
+                        + " has to be at least 1");
+            }
+        }
+
+        return operandHttpMaxPoolSize;
+    }
+
+    private static boolean parseOperandHttpPipelining(String operandHttpPipeliningEnvVar) {
+        boolean operandHttpPipelining = DEFAULT_OPERAND_HTTP_PIPELINING;
+
+        if (operandHttpPipeliningEnvVar != null) {
+            operandHttpPipelining = Boolean.parseBoolean(operandHttpPipeliningEnvVar);
+        }
+
+        return operandHttpPipelining;
+    }
+
+    private static long parseOperandHttpRequestTimeout(String operandHttpRequestTimeoutEnvVar) {
+        long operandHttpRequestTimeout = DEFAULT_OPERAND_HTTP_REQUEST_TIMEOUT_MS;
+
+        if (operandHttpRequestTimeoutEnvVar != null) {
+            operandHttpRequestTimeout = Long.parseLong(operandHttpRequestTimeoutEnvVar);
+
+            if (operandHttpRequestTimeout < 1) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_REQUEST_TIMEOUT_MS
+                        + " has to be at least 1");
+            }
+        }
+
+        return operandHttpRequestTimeout;
+    }
+
+    private static CertManagerType parseCertManagerType(String certManagerEnvVar) {
+        CertManagerType certManagerType = DEFAULT_CERT_MANAGER;
+
+        if (certManagerEnvVar != null) {
+            switch (certManagerEnvVar.trim().toLowerCase(Locale.ENGLISH)) {
+                case "openssl":
+                    certManagerType = CertManagerType.OPENSSL;
+                    break;
+                case "jca":
+                    certManagerType = CertManagerType.JCA;
+                    break;
+                default:
+                    throw new InvalidConfigurationException(certManagerEnvVar
+                            + " is not a valid " + ClusterOperatorConfig.STRIMZI_CERT_MANAGER + " value. " +
+                            ClusterOperatorConfig.STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, jca.");
+            }
+        }
+
+        return certManagerType;
+    }
+
+    private static int parseKeyPairPoolSize(String keyPairPoolSizeEnvVar) {
+        int keyPairPoolSize = DEFAULT_KEY_PAIR_POOL_SIZE;
+
+        if (keyPairPoolSizeEnvVar != null) {
+            keyPairPoolSize = Integer.parseInt(keyPairPoolSizeEnvVar);
+
+            if (keyPairPoolSize < 0) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE
+                        + " cannot be negative");
+            }
+        }
+
+        return keyPairPoolSize;
+    }
+
+    private static int parseKeyPairPoolRefillThreads(String keyPairPoolRefillThreadsEnvVar) {
+        int keyPairPoolRefillThreads = DEFAULT_KEY_PAIR_POOL_REFILL_THREADS;
+
+        if (keyPairPoolRefillThreadsEnvVar != null) {
+            keyPairPoolRefillThreads = Integer.parseInt(keyPairPoolRefillThreadsEnvVar);
+
+            if (keyPairPoolRefillThreads < 1) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_KEY_PAIR_POOL_REFILL_THREADS
+                        + " has to be at least 1");
+            }
+        }
+
+        return keyPairPoolRefillThreads;
+    }
+
+    private static int parseKafkaRollerMaxParallelism(String kafkaRollerMaxParallelismEnvVar) {
+        int kafkaRollerMaxParallelism = DEFAULT_KAFKA_ROLLER_MAX_PARALLELISM;
+
+        if (kafkaRollerMaxParallelismEnvVar != null) {
+            kafkaRollerMaxParallelism = Integer.parseInt(kafkaRollerMaxParallelismEnvVar);
+
+            if (kafkaRollerMaxParallelism < 1) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLER_MAX_PARALLELISM
+                        + " has to be at least 1");
+            }
+        }
+
+        return kafkaRollerMaxParallelism;
+    }
+
     private static ImagePullPolicy parseImagePullPolicy(String imagePullPolicyEnvVar) {
         ImagePullPolicy imagePullPolicy = null;
 
@@ -346,6 +564,90 @@ public class ClusterOperatorConfig {
         return operatorNamespaceLabels;
     }
 
+    /**
+     * @return  Indicates whether the reads of Kubernetes resources should be served from an in-memory cache
+     */
+    public boolean isResourceCacheEnabled() {
+        return resourceCacheEnabled;
+    }
+
+    /**
+     * @return  The maximum number of reconciliations of each kind of custom resource which run at the same time
+     */
+    public int getMaxConcurrentReconciliations() {
+        return maxConcurrentReconciliations;
+    }
+
+    /**
+     * @return  The maximum number of connections kept open to each Kafka Connect or Cruise Control REST API
+     */
+    public int getOperandHttpMaxPoolSize() {
+        return operandHttpMaxPoolSize;
+    }
+
+    /**
+     * @return  Indicates whether the requests to the Kafka Connect and Cruise Control REST APIs should be pipelined
+     */
+    public boolean isOperandHttpPipelining() {
+        return operandHttpPipelining;
+    }
+
+    /**
+     * @return  how many milliseconds should we wait for the responses of the Kafka Connect and Cruise Control REST APIs
+     */
+    public long getOperandHttpRequestTimeoutMs() {
+        return operandHttpRequestTimeoutMs;
+    }
+
+    /**
+     * @return  The implementation of the certificates manager
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
+    /**
+     * @return  The number of key pairs generated in advance, or 0 if the key pairs are generated when needed
+     */
+    public int getKeyPairPoolSize() {
+        return keyPairPoolSize;
+    }
+
+    /**
+     * @return  The number of threads generating the key pairs in advance
+     */
+    public int getKeyPairPoolRefillThreads() {
+        return keyPairPoolRefillThreads;
+    }
+
+    /**
+     * @return  The maximum number of Kafka brokers which are rolled at the same time
+     */
+    public int getKafkaRollerMaxParallelism() {
+        return kafkaRollerMaxParallelism;
+    }
+
+    /**
+     * @return  The number of threads of the worker pool for the blocking Kubernetes API calls
+     */
+    public int getKubernetesOpsPoolSize() {
+        return kubernetesOpsPoolSize;
+    }
+
+    /**
+     * @return  The number of threads of the worker pool for the blocking ZooKeeper calls
+     */
+    public int getZookeeperOpsPoolSize() {
+        return zookeeperOpsPoolSize;
+    }
+
+    /**
+     * @return  The number of threads of the worker pool for the blocking Kafka Admin API calls
+     */
+    public int getKafkaAdminOpsPoolSize() {
+        return kafkaAdminOpsPoolSize;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -358,6 +660,18 @@ public class ClusterOperatorConfig {
                 ",imagePullSecrets=" + imagePullSecrets +
                 ",operatorNamespace=" + operatorNamespace +
                 ",operatorNamespaceLabels=" + operatorNamespaceLabels +
+                ",resourceCacheEnabled=" + resourceCacheEnabled +
+                ",maxConcurrentReconciliations=" + maxConcurrentReconciliations +
+                ",operandHttpMaxPoolSize=" + operandHttpMaxPoolSize +
+                ",operandHttpPipelining=" + operandHttpPipelining +
+                ",operandHttpRequestTimeoutMs=" + operandHttpRequestTimeoutMs +
+                ",certManagerType=" + certManagerType +
+                ",keyPairPoolSize=" + keyPairPoolSize +
+                ",keyPairPoolRefillThreads=" + keyPairPoolRefillThreads +
+                ",kafkaRollerMaxParallelism=" + kafkaRollerMaxParallelism +
+                ",kubernetesOpsPoolSize=" + kubernetesOpsPoolSize +
+                ",zookeeperOpsPoolSize=" + zookeeperOpsPoolSize +
+                ",kafkaAdminOpsPoolSize=" + kafkaAdminOpsPoolSize +
                 ")";
     }
 }
@@ -9,7 +9,8 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -19,8 +20,10 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOpe
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.KeyPairPoolMetrics;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.operator.resource.ClusterRoleOperator;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -41,8 +44,10 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.Label;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
+import io.vertx.micrometer.backends.BackendRegistries;
 
 @SuppressFBWarnings("DM_EXIT")
 public class Main {
@@ -68,9 +73,16 @@ public class Main {
                 new MicrometerMetricsOptions()
                         .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
                         .setJvmMetricsEnabled(true)
+                        // The metrics of the worker pools are labeled by the pool name
+                        .addLabels(Label.POOL_NAME)
                         .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
-        
+
+        WorkerPools.publishHistograms(BackendRegistries.getDefaultNow());
+        WorkerPools.create(vertx, WorkerPools.KUBERNETES_OPS_POOL, config.getKubernetesOpsPoolSize());
+        WorkerPools.create(vertx, WorkerPools.ZOOKEEPER_OPS_POOL, config.getZookeeperOpsPoolSize());
+        WorkerPools.create(vertx, WorkerPools.KAFKA_ADMIN_OPS_POOL, config.getKafkaAdminOpsPoolSize());
+
         KubernetesClient client = new DefaultKubernetesClient();
 
         maybeCreateClusterRoles(vertx, config, client).onComplete(crs -> {
@@ -102,7 +114,13 @@ public class Main {
 
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.getOperationTimeoutMs());
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        KeyPairPool keyPairPool = null;
+        if (config.getKeyPairPoolSize() > 0) {
+            keyPairPool = new KeyPairPool(config.getKeyPairPoolSize(), config.getKeyPairPoolRefillThreads()).start();
+            KeyPairPoolMetrics.register(keyPairPool, resourceOperatorSupplier.metricsProvider);
+        }
+
+        CertManager certManager = config.getCertManagerType().create(keyPairPool);
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -131,10 +149,20 @@ public class Main {
                 new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
 
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator =
-                new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier);
+                new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
 
         List<Future> futures = new ArrayList<>(config.getNamespaces().size());
         for (String namespace : config.getNamespaces()) {
+            if (config.isResourceCacheEnabled()) {
+                resourceOperatorSupplier.enableCaches(namespace).onComplete(res -> {
+                    if (res.succeeded()) {
+                        log.info("Resource caches in namespace {} are in sync", namespace);
+                    } else {
+                        log.warn("Resource caches in namespace {} failed to sync. Reads will go to the Kubernetes API server.", namespace, res.cause());
+                    }
+                });
+            }
+
             Promise<String> prom = Promise.promise();
             futures.add(prom.future());
             ClusterOperator operator = new ClusterOperator(namespace,
@@ -5,21 +5,18 @@
 
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.KafkaClusterSpec;
 import io.strimzi.kafka.config.model.ConfigModel;
-import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.kafka.config.model.ConfigModelRegistry;
+import io.strimzi.kafka.config.model.IndexedConfigModels;
 import io.strimzi.kafka.config.model.Scope;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 
@@ -101,18 +98,17 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
-        try {
-            try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                if (!kafkaVersion.version().equals(configModels.getVersion())) {
-                    throw new RuntimeException("Incorrect version");
-                }
-                return configModels.getConfigs();
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading from classpath resource " + name, e);
-        }
+        return configModels(kafkaVersion).getConfigs();
+    }
+
+    /**
+     * Gets the indexed config models for the given version of the Kafka broker. They are read only once per version
+     * and shared.
+     * @param kafkaVersion The broker version.
+     * @return The indexed config models for that broker version.
+     */
+    public static IndexedConfigModels configModels(KafkaVersion kafkaVersion) {
+        return ConfigModelRegistry.forVersion(kafkaVersion.version());
     }
 
     /**
@@ -153,13 +149,8 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     private Set<String> withScope(KafkaVersion kafkaVersion, Scope scope) {
-        Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
-        List<String> configsOfScope = c.entrySet().stream()
-                .filter(config -> scope.equals(config.getValue().getScope()))
-                .map(config -> config.getKey())
-                .collect(Collectors.toList());
         Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
-        result.retainAll(configsOfScope);
+        result.retainAll(configModels(kafkaVersion).withScope(scope));
         return Collections.unmodifiableSet(result);
     }
 
@@ -170,9 +161,8 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The unknown configs.
      */
     public Set<String> unknownConfigs(KafkaVersion kafkaVersion) {
-        Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
         Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
-        result.removeAll(c.keySet());
+        result.removeAll(readConfigModel(kafkaVersion).keySet());
         return result;
     }
 
@@ -183,10 +173,10 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The unknown configs.
      */
     public Set<String> unknownConfigsWithValues(KafkaVersion kafkaVersion) {
-        Map<String, ConfigModel> configModel = readConfigModel(kafkaVersion);
+        IndexedConfigModels configModels = configModels(kafkaVersion);
         Set<String> result = new HashSet<>();
         for (Map.Entry<String, String> e :this.asOrderedProperties().asMap().entrySet()) {
-            if (!configModel.containsKey(e.getKey())) {
+            if (!configModels.isKnown(e.getKey())) {
                 result.add(e.getKey() + "=" + e.getValue());
             }
         }
@@ -53,6 +53,7 @@ import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.cluster.model.KafkaConnectCluster;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.cluster.operator.resource.PooledHttpClient;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
@@ -165,6 +166,21 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 metricTags);
     }
 
+    /**
+     * Creates a provider of Kafka Connect REST API clients which share a single pool of keep-alive connections.
+     *
+     * @param vertx The Vertx instance
+     * @param supplier Supplies the metrics provider used for the request metrics
+     * @param config ClusterOperator configuration. Used to get the configuration of the connection pool.
+     * @return Provider of the Kafka Connect REST API clients
+     */
+    protected static Function<Vertx, KafkaConnectApi> pooledConnectClientProvider(Vertx vertx, ResourceOperatorSupplier supplier,
+                                                                                  ClusterOperatorConfig config) {
+        PooledHttpClient httpClient = new PooledHttpClient(vertx, "KafkaConnect", config.getOperandHttpMaxPoolSize(),
+                config.isOperandHttpPipelining(), config.getOperandHttpRequestTimeoutMs(), true, supplier.metricsProvider);
+        return connect -> new KafkaConnectApiImpl(connect, httpClient);
+    }
+
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
         // When deleting KafkaConnect we need to update the status of all selected KafkaConnector
@@ -91,6 +91,7 @@ import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractScalableResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -160,6 +161,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private static final Logger log = LogManager.getLogger(KafkaAssemblyOperator.class.getName());
 
     private final long operationTimeoutMs;
+    private final int kafkaRollerMaxParallelism;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
 
@@ -192,6 +194,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         super(vertx, pfa, Kafka.RESOURCE_KIND, certManager, passwordGenerator,
                 supplier.kafkaOperator, supplier, config);
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.kafkaRollerMaxParallelism = config.getKafkaRollerMaxParallelism();
         this.operatorNamespace = config.getOperatorNamespace();
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.routeOperations = supplier.routeOperations;
@@ -248,108 +251,133 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
+    /**
+     * Runs the reconciliation steps. Steps which depend on each other run in sequence. Steps which do not depend on
+     * each other (for example the Services, Service Accounts or Config Maps of one component or the Entity Operator,
+     * Cruise Control, Kafka Exporter and JMX Trans deployments) run concurrently.
+     *
+     * @param reconcileState    The reconciliation state
+     *
+     * @return  Future which completes when all the steps are completed
+     */
     Future<Void> reconcile(ReconciliationState reconcileState)  {
         Promise<Void> chainPromise = Promise.promise();
 
         reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
+                .compose(state -> state.step("reconcileCas", () -> state.reconcileCas(this::dateSupplier)))
+                .compose(state -> state.step("clusterOperatorSecret", () -> state.clusterOperatorSecret(this::dateSupplier)))
+                .compose(state -> state.step("getKafkaClusterDescription", state::getKafkaClusterDescription))
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaVersionChangeCheck())
-                .compose(state -> state.kafkaVersionChange(false))
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
-                .compose(state -> state.kafkaInternalServicesReady())
-                .compose(state -> state.kafkaLoadBalancerServicesReady())
-                .compose(state -> state.kafkaNodePortServicesReady())
-                .compose(state -> state.kafkaRoutesReady())
-                .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaVersionChange(true))
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
+                .compose(state -> state.step("rollingUpdateForNewCaKey", state::rollingUpdateForNewCaKey))
+                .compose(state -> state.step("getZookeeperDescription", state::getZookeeperDescription))
+                .compose(state -> state.step("zkModelWarnings", state::zkModelWarnings))
+                .compose(state -> state.step("zkManualPodCleaning", state::zkManualPodCleaning))
+                .compose(state -> state.step("zkNetPolicy", state::zkNetPolicy))
+                .compose(state -> state.step("zkManualRollingUpdate", state::zkManualRollingUpdate))
+                .compose(state -> state.step("zkVersionChange", state::zkVersionChange))
+                .compose(state -> state.concurrently(
+                        state.step("zookeeperServiceAccount", state::zookeeperServiceAccount),
+                        state.step("zkPvcs", state::zkPvcs),
+                        state.step("zkService", state::zkService),
+                        state.step("zkHeadlessService", state::zkHeadlessService)))
+                .compose(state -> state.step("zkGenerateCertificates", () -> state.zkGenerateCertificates(this::dateSupplier)))
+                .compose(state -> state.concurrently(
+                        state.step("zkAncillaryCm", state::zkAncillaryCm),
+                        state.step("zkNodesSecret", state::zkNodesSecret),
+                        state.step("zkPodDisruptionBudget", state::zkPodDisruptionBudget)))
+                .compose(state -> state.step("zkStatefulSet", state::zkStatefulSet))
+                .compose(state -> state.step("zkScalingDown", state::zkScalingDown))
+                .compose(state -> state.step("zkRollingUpdate", state::zkRollingUpdate))
+                .compose(state -> state.step("zkPodsReady", state::zkPodsReady))
+                .compose(state -> state.step("zkScalingUp", state::zkScalingUp))
+                .compose(state -> state.step("zkScalingCheck", state::zkScalingCheck))
+                .compose(state -> state.concurrently(
+                        state.step("zkServiceEndpointReadiness", state::zkServiceEndpointReadiness),
+                        state.step("zkHeadlessServiceEndpointReadiness", state::zkHeadlessServiceEndpointReadiness)))
+                .compose(state -> state.step("zkPersistentClaimDeletion", state::zkPersistentClaimDeletion))
+
+                .compose(state -> state.step("checkKafkaSpec", state::checkKafkaSpec))
+                .compose(state -> state.step("kafkaModelWarnings", state::kafkaModelWarnings))
+                .compose(state -> state.step("kafkaManualPodCleaning", state::kafkaManualPodCleaning))
+                .compose(state -> state.step("kafkaNetPolicy", state::kafkaNetPolicy))
+                .compose(state -> state.step("kafkaManualRollingUpdate", state::kafkaManualRollingUpdate))
+                .compose(state -> state.step("kafkaVersionChangeCheck", state::kafkaVersionChangeCheck))
+                .compose(state -> state.step("kafkaVersionChange", () -> state.kafkaVersionChange(false)))
+                .compose(state -> state.concurrently(
+                        state.step("kafkaPvcs", state::kafkaPvcs),
+                        state.step("kafkaInitServiceAccount", state::kafkaInitServiceAccount),
+                        state.step("kafkaInitClusterRoleBinding", state::kafkaInitClusterRoleBinding)))
+                .compose(state -> state.step("kafkaScaleDown", state::kafkaScaleDown))
+                .compose(state -> state.concurrently(
+                        state.step("kafkaServices", state::kafkaServices),
+                        state.step("kafkaRoutes", state::kafkaRoutes),
+                        state.step("kafkaIngresses", state::kafkaIngresses)))
+                // The readiness steps add the listener addresses to the status. They run in sequence to keep the
+                // order of the listeners in the status stable.
+                .compose(state -> state.step("kafkaInternalServicesReady", state::kafkaInternalServicesReady))
+                .compose(state -> state.step("kafkaLoadBalancerServicesReady", state::kafkaLoadBalancerServicesReady))
+                .compose(state -> state.step("kafkaNodePortServicesReady", state::kafkaNodePortServicesReady))
+                .compose(state -> state.step("kafkaRoutesReady", state::kafkaRoutesReady))
+                .compose(state -> state.step("kafkaIngressesReady", state::kafkaIngressesReady))
+                .compose(state -> state.step("kafkaGenerateCertificates", () -> state.kafkaGenerateCertificates(this::dateSupplier)))
+                .compose(state -> state.step("customListenerCertificates", state::customListenerCertificates))
+                .compose(state -> state.concurrently(
+                        state.step("kafkaAncillaryCm", state::kafkaAncillaryCm),
+                        state.step("kafkaBrokersSecret", state::kafkaBrokersSecret),
+                        state.step("kafkaJmxSecret", state::kafkaJmxSecret),
+                        state.step("kafkaPodDisruptionBudget", state::kafkaPodDisruptionBudget)))
+                .compose(state -> state.step("kafkaStatefulSet", state::kafkaStatefulSet))
+                .compose(state -> state.step("kafkaVersionChange", () -> state.kafkaVersionChange(true)))
+                .compose(state -> state.step("kafkaRollingUpdate", state::kafkaRollingUpdate))
+                .compose(state -> state.step("kafkaScaleUp", state::kafkaScaleUp))
+                .compose(state -> state.step("kafkaPodsReady", state::kafkaPodsReady))
+                .compose(state -> state.concurrently(
+                        state.step("kafkaServiceEndpointReady", state::kafkaServiceEndpointReady),
+                        state.step("kafkaHeadlessServiceEndpointReady", state::kafkaHeadlessServiceEndpointReady)))
+                .compose(state -> state.step("kafkaPersistentClaimDeletion", state::kafkaPersistentClaimDeletion))
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaCustomCertificatesToStatus())
-
-                .compose(state -> state.checkUnsupportedTopicOperator())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBinding())
-                .compose(state -> state.entityOperatorUserOpRoleBinding())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
+                .compose(state -> state.step("kafkaNodePortExternalListenerStatus", state::kafkaNodePortExternalListenerStatus))
+                .compose(state -> state.step("kafkaCustomCertificatesToStatus", state::kafkaCustomCertificatesToStatus))
+
+                .compose(state -> state.step("checkUnsupportedTopicOperator", state::checkUnsupportedTopicOperator))
+
+                // The Entity Operator, Cruise Control, Kafka Exporter and JMX Trans do not depend on each other
+                .compose(state -> state.concurrently(
+                        state.step("getEntityOperatorDescription", state::getEntityOperatorDescription)
+                            .compose(ignore -> state.concurrently(
+                                    state.step("entityOperatorServiceAccount", state::entityOperatorServiceAccount),
+                                    state.step("entityOperatorTopicOpRoleBinding", state::entityOperatorTopicOpRoleBinding),
+                                    state.step("entityOperatorUserOpRoleBinding", state::entityOperatorUserOpRoleBinding),
+                                    state.step("entityOperatorTopicOpAncillaryCm", state::entityOperatorTopicOpAncillaryCm),
+                                    state.step("entityOperatorUserOpAncillaryCm", state::entityOperatorUserOpAncillaryCm),
+                                    state.step("entityOperatorSecret", () -> state.entityOperatorSecret(this::dateSupplier))))
+                            .compose(ignore -> state.step("entityOperatorDeployment", state::entityOperatorDeployment))
+                            .compose(ignore -> state.step("entityOperatorReady", state::entityOperatorReady)),
+
+                        state.step("getCruiseControlDescription", state::getCruiseControlDescription)
+                            .compose(ignore -> state.concurrently(
+                                    state.step("cruiseControlNetPolicy", state::cruiseControlNetPolicy),
+                                    state.step("cruiseControlServiceAccount", state::cruiseControlServiceAccount),
+                                    state.step("cruiseControlAncillaryCm", state::cruiseControlAncillaryCm),
+                                    state.step("cruiseControlSecret", () -> state.cruiseControlSecret(this::dateSupplier))))
+                            .compose(ignore -> state.concurrently(
+                                    state.step("cruiseControlDeployment", state::cruiseControlDeployment),
+                                    state.step("cruiseControlService", state::cruiseControlService)))
+                            .compose(ignore -> state.step("cruiseControlReady", state::cruiseControlReady)),
+
+                        state.step("getKafkaExporterDescription", state::getKafkaExporterDescription)
+                            .compose(ignore -> state.concurrently(
+                                    state.step("kafkaExporterServiceAccount", state::kafkaExporterServiceAccount),
+                                    state.step("kafkaExporterSecret", () -> state.kafkaExporterSecret(this::dateSupplier))))
+                            .compose(ignore -> state.step("kafkaExporterDeployment", state::kafkaExporterDeployment))
+                            .compose(ignore -> state.step("kafkaExporterReady", state::kafkaExporterReady)),
+
+                        state.step("getJmxTransDescription", state::getJmxTransDescription)
+                            .compose(ignore -> state.concurrently(
+                                    state.step("jmxTransServiceAccount", state::jmxTransServiceAccount),
+                                    state.step("jmxTransConfigMap", state::jmxTransConfigMap)))
+                            .compose(ignore -> state.step("jmxTransDeployment", state::jmxTransDeployment))
+                            .compose(ignore -> state.step("jmxTransDeploymentReady", state::jmxTransDeploymentReady))))
 
                 .map((Void) null)
                 .onComplete(chainPromise);
@@ -566,7 +594,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             Labels selectorLabels = Labels.EMPTY.withStrimziKind(reconciliation.kind()).withStrimziCluster(reconciliation.name());
             Labels caLabels = Labels.generateDefaultLabels(kafkaAssembly, Labels.APPLICATION_NAME, AbstractModel.STRIMZI_CLUSTER_OPERATOR_NAME);
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         String clusterCaCertName = AbstractModel.clusterCaCertSecretName(name);
@@ -723,7 +751,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
                         .compose(sts -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                             () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion())
+                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), kafkaRollerMaxParallelism, metrics)
                             .rollingRestart(rollPodAndLogReason))
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
@@ -1392,7 +1420,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return adminClientSecrets()
                 .compose(compositeFuture -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                     () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
-                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion())
+                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), kafkaRollerMaxParallelism, metrics)
                     .rollingRestart(podNeedsRestart));
         }
 
@@ -1518,6 +1546,48 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return r.map(this);
         }
 
+        /**
+         * Runs a single reconciliation step and records how long it took.
+         *
+         * @param stepName  Name of the step used for logging and metrics
+         * @param step      The step
+         *
+         * @return  Future which completes when the step is completed
+         */
+        Future<ReconciliationState> step(String stepName, Supplier<Future<ReconciliationState>> step) {
+            return timedStep(reconciliation, stepName, step);
+        }
+
+        /**
+         * Waits for steps which were started concurrently. The returned future completes only once all the steps are
+         * completed, so no step is still running when the next step starts or when the reconciliation fails.
+         *
+         * @param steps The started steps
+         *
+         * @return  Future which completes when all steps are completed. It fails with the cause of the first failed
+         *          step if any of the steps failed.
+         */
+        Future<ReconciliationState> concurrently(Future<?>... steps) {
+            Promise<ReconciliationState> result = Promise.promise();
+
+            CompositeFuture.join(Arrays.asList(steps)).onComplete(res -> {
+                if (res.succeeded()) {
+                    result.complete(this);
+                } else {
+                    for (Future<?> step : steps) {
+                        if (step.failed()) {
+                            result.fail(step.cause());
+                            return;
+                        }
+                    }
+
+                    result.fail(res.cause());
+                }
+            });
+
+            return result.future();
+        }
+
         Future<ReconciliationState> zookeeperServiceAccount() {
             return withVoid(serviceAccountOperations.reconcile(namespace,
                     ZookeeperCluster.containerServiceAccountName(zkCluster.getCluster()),
@@ -1769,7 +1839,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> zkGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         zkCluster.generateCertificates(kafkaAssembly, clusterCa, isMaintenanceTimeWindowsSatisfied(dateSupplier));
@@ -2406,7 +2476,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> kafkaGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         kafkaCluster.generateCertificates(kafkaAssembly,
@@ -3280,7 +3350,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     metricsCm = Future.succeededFuture(null);
                 }
 
-                CompositeFuture.join(metricsCm, loggingCmFut).compose(metricsAndLoggingCm -> {
+                return CompositeFuture.join(metricsCm, loggingCmFut).compose(metricsAndLoggingCm -> {
                     ConfigMap logAndMetricsConfigMap = cruiseControl.generateMetricsAndLogConfigMap(metricsAndLoggingCm.resultAt(1), metricsAndLoggingCm.resultAt(0));
 
                     Map<String, String> annotations = singletonMap(CruiseControl.ANNO_STRIMZI_IO_LOGGING, logAndMetricsConfigMap.getData().get(ANCILLARY_CM_KEY_LOG_CONFIG));
@@ -83,16 +83,16 @@ public class KafkaBridgeAssemblyOperator extends AbstractAssemblyOperator<Kubern
 
         boolean bridgeHasZeroReplicas = bridge.getReplicas() == 0;
         log.debug("{}: Updating Kafka Bridge cluster", reconciliation);
-        kafkaBridgeServiceAccount(namespace, bridge)
-            .compose(i -> deploymentOperations.scaleDown(namespace, bridge.getName(), bridge.getReplicas()))
-            .compose(scale -> serviceOperations.reconcile(namespace, bridge.getServiceName(), bridge.generateService()))
-            .compose(i -> getLoggingCmAsync(configMapOperations, namespace, bridge))
-            .compose(loggingCm -> configMapOperations.reconcile(namespace, bridge.getAncillaryConfigMapName(), bridge.generateMetricsAndLogConfigMap(loggingCm, null)))
-            .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, bridge.getName(), bridge.generatePodDisruptionBudget()))
-            .compose(i -> deploymentOperations.reconcile(namespace, bridge.getName(), bridge.generateDeployment(Collections.emptyMap(), pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-            .compose(i -> deploymentOperations.scaleUp(namespace, bridge.getName(), bridge.getReplicas()))
-            .compose(i -> deploymentOperations.waitForObserved(namespace, bridge.getName(), 1_000, operationTimeoutMs))
-            .compose(i -> bridgeHasZeroReplicas ? Future.succeededFuture() : deploymentOperations.readiness(namespace, bridge.getName(), 1_000, operationTimeoutMs))
+        timedStep(reconciliation, "serviceAccount", () -> kafkaBridgeServiceAccount(namespace, bridge))
+            .compose(i -> timedStep(reconciliation, "scaleDown", () -> deploymentOperations.scaleDown(namespace, bridge.getName(), bridge.getReplicas())))
+            .compose(scale -> timedStep(reconciliation, "service", () -> serviceOperations.reconcile(namespace, bridge.getServiceName(), bridge.generateService())))
+            .compose(i -> timedStep(reconciliation, "loggingConfigMap", () -> getLoggingCmAsync(configMapOperations, namespace, bridge)))
+            .compose(loggingCm -> timedStep(reconciliation, "ancillaryConfigMap", () -> configMapOperations.reconcile(namespace, bridge.getAncillaryConfigMapName(), bridge.generateMetricsAndLogConfigMap(loggingCm, null))))
+            .compose(i -> timedStep(reconciliation, "podDisruptionBudget", () -> podDisruptionBudgetOperator.reconcile(namespace, bridge.getName(), bridge.generatePodDisruptionBudget())))
+            .compose(i -> timedStep(reconciliation, "deployment", () -> deploymentOperations.reconcile(namespace, bridge.getName(), bridge.generateDeployment(Collections.emptyMap(), pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+            .compose(i -> timedStep(reconciliation, "scaleUp", () -> deploymentOperations.scaleUp(namespace, bridge.getName(), bridge.getReplicas())))
+            .compose(i -> timedStep(reconciliation, "waitForObserved", () -> deploymentOperations.waitForObserved(namespace, bridge.getName(), 1_000, operationTimeoutMs)))
+            .compose(i -> timedStep(reconciliation, "readiness", () -> bridgeHasZeroReplicas ? Future.succeededFuture() : deploymentOperations.readiness(namespace, bridge.getName(), 1_000, operationTimeoutMs)))
             .onComplete(reconciliationResult -> {
                 StatusUtils.setStatusConditionAndObservedGeneration(assemblyResource, kafkaBridgeStatus, reconciliationResult.mapEmpty());
                 if (!bridgeHasZeroReplicas) {
@@ -111,7 +111,12 @@ public interface KafkaConnectApi {
     Future<Void> resume(String host, int port, String connectorName);
 
     /**
-     * Make a {@code GET} request to {@code /connectors}
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}.
+     * When the Connect cluster supports the {@code expand} query parameter, the response contains the status and
+     * the config of all connectors. They are kept by the client as a snapshot, which answers the subsequent
+     * {@link #status(String, int, String)} and {@link #getConnectorConfig(String, int, String)} requests for the
+     * connectors which were not changed through the client since.
+     * Older Connect clusters ignore the query parameter and return only the connector names.
      * @param host The host to make the request to.
      * @param port The port to make the request to.
      * @return A Future which completes with the result of the request. If the request was successful,
@@ -8,6 +8,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.cluster.operator.resource.PooledHttpClient;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.OrderedProperties;
@@ -17,8 +18,6 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.http.HttpClientOptions;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,6 +31,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -50,9 +50,21 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     };
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final PooledHttpClient client;
+    /**
+     * The expanded connectors returned by the last {@link #list(String, int)} request to each Connect cluster, indexed
+     * by host and port and then by the connector name. The client is used for a single reconciliation, so the
+     * snapshot is not refreshed. The connectors changed through this client are removed from the snapshot instead.
+     */
+    private final Map<String, Map<String, Map<String, Object>>> snapshots = new ConcurrentHashMap<>();
 
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, PooledHttpClient.shared(vertx, "KafkaConnect", () -> new PooledHttpClient(vertx, "KafkaConnect", true)));
+    }
+
+    public KafkaConnectApiImpl(Vertx vertx, PooledHttpClient client) {
         this.vertx = vertx;
+        this.client = client;
     }
 
     @Override
@@ -62,8 +74,9 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             String connectorName, JsonObject configJson) {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
+        forget(host, port, connectorName);
         log.debug("Making PUT request to {} with body {}", path, configJson);
-        return withHttpClient((httpClient, result) ->
+        return withHttpClient("PUT /connectors/{connector}/config", (httpClient, result) ->
             httpClient.put(port, host, path, response -> {
                 response.exceptionHandler(result::tryFail);
                 if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -86,6 +99,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }
             })
             .exceptionHandler(result::tryFail)
+            .setTimeout(client.getRequestTimeoutMs())
             .setFollowRedirects(true)
             .putHeader("Accept", "application/json")
             .putHeader("Content-Type", "application/json")
@@ -95,39 +109,29 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     /**
-     * Perform the given operation, which completes the promise, using an HTTP client instance,
-     * after which the client is closed and the future for the promise returned.
+     * Perform the given operation, which completes the promise, using the shared HTTP client
+     * and return the future for the promise.
+     * @param endpoint The endpoint used in the metrics of the request.
      * @param operation The operation to perform.
      * @param <T> The type of the result
      * @return A future which is completed with the result performed by the operation
      */
-    private <T> Future<T> withHttpClient(BiConsumer<HttpClient, Promise<T>> operation) {
-        HttpClient httpClient = vertx.createHttpClient(new HttpClientOptions().setLogActivity(true));
-        Promise<T> promise = Promise.promise();
-        operation.accept(httpClient, promise);
-        return promise.future().compose(
-            result -> {
-                httpClient.close();
-                return Future.succeededFuture(result);
-            },
-            error -> {
-                httpClient.close();
-                return Future.failedFuture(error);
-            });
+    private <T> Future<T> withHttpClient(String endpoint, BiConsumer<HttpClient, Promise<T>> operation) {
+        return client.request(endpoint, operation);
     }
 
     @Override
     public Future<Map<String, Object>> getConnector(
             String host, int port,
             String connectorName) {
-        return doGet(host, port, String.format("/connectors/%s", connectorName),
+        return doGet(host, port, String.format("/connectors/%s", connectorName), "GET /connectors/{connector}",
                 new HashSet<>(asList(200, 201)),
                 TREE_TYPE);
     }
 
-    private <T> Future<T> doGet(String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
+    private <T> Future<T> doGet(String host, int port, String path, String endpoint, Set<Integer> okStatusCodes, TypeReference<T> type) {
         log.debug("Making GET request to {}", path);
-        return withHttpClient((httpClient, result) ->
+        return withHttpClient(endpoint, (httpClient, result) ->
             httpClient.get(port, host, path, response -> {
                 response.exceptionHandler(result::tryFail);
                 if (okStatusCodes.contains(response.statusCode())) {
@@ -150,16 +154,27 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }
             })
             .exceptionHandler(result::tryFail)
+            .setTimeout(client.getRequestTimeoutMs())
             .setFollowRedirects(true)
             .putHeader("Accept", "application/json")
             .end());
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Future<Map<String, String>> getConnectorConfig(
             String host, int port,
             String connectorName) {
-        return doGet(host, port, String.format("/connectors/%s/config", connectorName),
+        Map<String, Object> connector = fromSnapshot(host, port, connectorName);
+        if (connector != null && connector.get("info") instanceof Map) {
+            Object config = ((Map<String, Object>) connector.get("info")).get("config");
+            if (config instanceof Map) {
+                log.debug("Using the config of connector {} from the snapshot", connectorName);
+                return Future.succeededFuture((Map<String, String>) config);
+            }
+        }
+
+        return doGet(host, port, String.format("/connectors/%s/config", connectorName), "GET /connectors/{connector}/config",
                 new HashSet<>(asList(200, 201)),
                 MAP_OF_STRINGS);
     }
@@ -173,7 +188,8 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Void> delete(String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
-        return withHttpClient((httpClient, result) ->
+        forget(host, port, connectorName);
+        return withHttpClient("DELETE /connectors/{connector}", (httpClient, result) ->
             httpClient.delete(port, host, path, response -> {
                 response.exceptionHandler(result::tryFail);
                 if (response.statusCode() == 204) {
@@ -196,6 +212,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }
             })
             .exceptionHandler(result::tryFail)
+            .setTimeout(client.getRequestTimeoutMs())
             .setFollowRedirects(true)
             .putHeader("Accept", "application/json")
             .putHeader("Content-Type", "application/json")
@@ -262,28 +279,37 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Future<Map<String, Object>> status(String host, int port, String connectorName) {
+        Map<String, Object> connector = fromSnapshot(host, port, connectorName);
+        if (connector != null && connector.get("status") instanceof Map) {
+            log.debug("Using the status of connector {} from the snapshot", connectorName);
+            return Future.succeededFuture((Map<String, Object>) connector.get("status"));
+        }
+
         return status(host, port, connectorName, Collections.singleton(200));
     }
 
     @Override
     public Future<Map<String, Object>> status(String host, int port, String connectorName, Set<Integer> okStatusCodes) {
         String path = "/connectors/" + connectorName + "/status";
-        return doGet(host, port, path, okStatusCodes, TREE_TYPE);
+        return doGet(host, port, path, "GET /connectors/{connector}/status", okStatusCodes, TREE_TYPE);
     }
 
     @Override
     public Future<Void> pause(String host, int port, String connectorName) {
-        return pauseResume(host, port, "/connectors/" + connectorName + "/pause");
+        forget(host, port, connectorName);
+        return pauseResume(host, port, "/connectors/" + connectorName + "/pause", "PUT /connectors/{connector}/pause");
     }
 
     @Override
     public Future<Void> resume(String host, int port, String connectorName) {
-        return pauseResume(host, port, "/connectors/" + connectorName + "/resume");
+        forget(host, port, connectorName);
+        return pauseResume(host, port, "/connectors/" + connectorName + "/resume", "PUT /connectors/{connector}/resume");
     }
 
-    private Future<Void> pauseResume(String host, int port, String path) {
-        return withHttpClient((httpClient, result) -> httpClient
+    private Future<Void> pauseResume(String host, int port, String path, String endpoint) {
+        return withHttpClient(endpoint, (httpClient, result) -> httpClient
                 .put(port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 202) {
@@ -294,44 +320,86 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::tryFail)
+                .setTimeout(client.getRequestTimeoutMs())
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end());
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Future<List<String>> list(String host, int port) {
-        String path = "/connectors";
-        return withHttpClient((httpClient, result) -> httpClient
+        String path = "/connectors?expand=status&expand=info";
+        return withHttpClient("GET /connectors", (httpClient, result) -> httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 200) {
                         response.bodyHandler(buffer -> {
-                            JsonArray objects = buffer.toJsonArray();
-                            List<String> list = new ArrayList<>(objects.size());
-                            for (Object o : objects) {
-                                if (o instanceof String) {
-                                    list.add((String) o);
-                                } else {
-                                    result.fail(o == null ? "null" : o.getClass().getName());
+                            Object connectors;
+                            try {
+                                connectors = mapper.readValue(buffer.getBytes(), Object.class);
+                            } catch (IOException e) {
+                                result.fail(new ConnectRestException(response, "Could not deserialize response: " + e));
+                                return;
+                            }
+
+                            if (connectors instanceof Map) {
+                                // Connect supports the expand parameter => the connectors are keyed by their names
+                                Map<String, Map<String, Object>> expanded = (Map<String, Map<String, Object>>) connectors;
+                                Map<String, Map<String, Object>> snapshot = new ConcurrentHashMap<>(expanded.size());
+                                expanded.forEach((name, connector) -> {
+                                    if (connector != null) {
+                                        snapshot.put(name, connector);
+                                    }
+                                });
+                                snapshots.put(snapshotKey(host, port), snapshot);
+                                result.complete(new ArrayList<>(expanded.keySet()));
+                            } else if (connectors instanceof List) {
+                                List<String> list = new ArrayList<>(((List<Object>) connectors).size());
+                                for (Object o : (List<Object>) connectors) {
+                                    if (o instanceof String) {
+                                        list.add((String) o);
+                                    } else {
+                                        result.fail(o == null ? "null" : o.getClass().getName());
+                                        return;
+                                    }
                                 }
+                                result.complete(list);
+                            } else {
+                                result.fail(new ConnectRestException(response, "Unexpected response"));
                             }
-                            result.complete(list);
                         });
                     } else {
                         result.fail(new ConnectRestException(response, "Unexpected status code"));
                     }
                 })
                 .exceptionHandler(result::tryFail)
+                .setTimeout(client.getRequestTimeoutMs())
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end());
     }
 
+    private static String snapshotKey(String host, int port) {
+        return host + ":" + port;
+    }
+
+    private Map<String, Object> fromSnapshot(String host, int port, String connectorName) {
+        Map<String, Map<String, Object>> snapshot = snapshots.get(snapshotKey(host, port));
+        return snapshot != null ? snapshot.get(connectorName) : null;
+    }
+
+    private void forget(String host, int port, String connectorName) {
+        Map<String, Map<String, Object>> snapshot = snapshots.get(snapshotKey(host, port));
+        if (snapshot != null) {
+            snapshot.remove(connectorName);
+        }
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(String host, int port) {
         String path = "/connector-plugins";
-        return withHttpClient((httpClient, result) -> httpClient
+        return withHttpClient("GET " + path, (httpClient, result) -> httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 200) {
@@ -348,6 +416,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::tryFail)
+                .setTimeout(client.getRequestTimeoutMs())
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end());
@@ -358,7 +427,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         log.debug("Making PUT request to {} with body {}", path, levelJO);
-        return withHttpClient((httpClient, result) -> {
+        return withHttpClient("PUT /admin/loggers/{logger}", (httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .put(port, host, path, response -> {
@@ -375,6 +444,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     })
                     .exceptionHandler(result::tryFail)
                     .putHeader("Content-Type", "application/json")
+                    .setTimeout(client.getRequestTimeoutMs())
                     .setFollowRedirects(true)
                     .end(buffer);
         });
@@ -383,7 +453,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, Map<String, String>>> listConnectLoggers(String host, int port) {
         String path = "/admin/loggers/";
-        return withHttpClient((httpClient, result) -> httpClient
+        return withHttpClient("GET " + path, (httpClient, result) -> httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 200) {
@@ -401,6 +471,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::tryFail)
+                .setTimeout(client.getRequestTimeoutMs())
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end());
@@ -67,7 +67,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, pooledConnectClientProvider(vertx, supplier, config));
     }
 
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
@@ -127,25 +127,25 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                         return Future.succeededFuture();
                     }
                 })
-                .compose(i -> connectServiceAccount(namespace, connect))
-                .compose(i -> connectInitClusterRoleBinding(namespace, kafkaConnect.getMetadata().getName(), connect))
-                .compose(i -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), isUseResources(kafkaConnect), operatorNamespace, operatorNamespaceLabels)))
-                .compose(i -> deploymentOperations.scaleDown(namespace, connect.getName(), connect.getReplicas()))
-                .compose(scale -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService()))
-                .compose(i -> connectMetricsAndLoggingConfigMap(namespace, connect))
-                .compose(metricsAndLoggingCm -> {
+                .compose(i -> timedStep(reconciliation, "serviceAccount", () -> connectServiceAccount(namespace, connect)))
+                .compose(i -> timedStep(reconciliation, "initClusterRoleBinding", () -> connectInitClusterRoleBinding(namespace, kafkaConnect.getMetadata().getName(), connect)))
+                .compose(i -> timedStep(reconciliation, "networkPolicy", () -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), isUseResources(kafkaConnect), operatorNamespace, operatorNamespaceLabels))))
+                .compose(i -> timedStep(reconciliation, "scaleDown", () -> deploymentOperations.scaleDown(namespace, connect.getName(), connect.getReplicas())))
+                .compose(scale -> timedStep(reconciliation, "service", () -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService())))
+                .compose(i -> timedStep(reconciliation, "metricsAndLoggingConfigMaps", () -> connectMetricsAndLoggingConfigMap(namespace, connect)))
+                .compose(metricsAndLoggingCm -> timedStep(reconciliation, "ancillaryConfigMap", () -> {
                     ConfigMap logAndMetricsConfigMap = connect.generateMetricsAndLogConfigMap(metricsAndLoggingCm.loggingCm, metricsAndLoggingCm.metricsCm);
                     annotations.put(Annotations.ANNO_STRIMZI_LOGGING_DYNAMICALLY_UNCHANGEABLE_HASH,
                             Util.stringHash(Util.getLoggingDynamicallyUnmodifiableEntries(logAndMetricsConfigMap.getData().get(AbstractModel.ANCILLARY_CM_KEY_LOG_CONFIG))));
                     desiredLogging.set(logAndMetricsConfigMap.getData().get(AbstractModel.ANCILLARY_CM_KEY_LOG_CONFIG));
                     return configMapOperations.reconcile(namespace, connect.getAncillaryConfigMapName(), logAndMetricsConfigMap);
-                })
-                .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget()))
-                .compose(i -> deploymentOperations.reconcile(namespace, connect.getName(), connect.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-                .compose(i -> deploymentOperations.scaleUp(namespace, connect.getName(), connect.getReplicas()))
-                .compose(i -> deploymentOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> connectHasZeroReplicas ? Future.succeededFuture() : deploymentOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> reconcileConnectors(reconciliation, kafkaConnect, kafkaConnectStatus, connectHasZeroReplicas, desiredLogging.get(), connect.getDefaultLogConfig()))
+                }))
+                .compose(i -> timedStep(reconciliation, "podDisruptionBudget", () -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget())))
+                .compose(i -> timedStep(reconciliation, "deployment", () -> deploymentOperations.reconcile(namespace, connect.getName(), connect.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+                .compose(i -> timedStep(reconciliation, "scaleUp", () -> deploymentOperations.scaleUp(namespace, connect.getName(), connect.getReplicas())))
+                .compose(i -> timedStep(reconciliation, "waitForObserved", () -> deploymentOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(i -> timedStep(reconciliation, "readiness", () -> connectHasZeroReplicas ? Future.succeededFuture() : deploymentOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(i -> timedStep(reconciliation, "connectors", () -> reconcileConnectors(reconciliation, kafkaConnect, kafkaConnectStatus, connectHasZeroReplicas, desiredLogging.get(), connect.getDefaultLogConfig())))
                 .onComplete(reconciliationResult -> {
                     StatusUtils.setStatusConditionAndObservedGeneration(kafkaConnect, kafkaConnectStatus, reconciliationResult);
 
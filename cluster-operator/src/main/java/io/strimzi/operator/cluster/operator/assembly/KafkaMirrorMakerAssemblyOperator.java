@@ -90,19 +90,19 @@ public class KafkaMirrorMakerAssemblyOperator extends AbstractAssemblyOperator<K
         boolean mirrorHasZeroReplicas = mirror.getReplicas() == 0;
 
         log.debug("{}: Updating Kafka Mirror Maker cluster", reconciliation);
-        mirrorMakerServiceAccount(namespace, mirror)
-                .compose(i -> deploymentOperations.scaleDown(namespace, mirror.getName(), mirror.getReplicas()))
-                .compose(i -> mirrorMetricsAndLoggingConfigMap(namespace, mirror))
-                .compose(metricsAndLoggingCm -> {
+        timedStep(reconciliation, "serviceAccount", () -> mirrorMakerServiceAccount(namespace, mirror))
+                .compose(i -> timedStep(reconciliation, "scaleDown", () -> deploymentOperations.scaleDown(namespace, mirror.getName(), mirror.getReplicas())))
+                .compose(i -> timedStep(reconciliation, "metricsAndLoggingConfigMaps", () -> mirrorMetricsAndLoggingConfigMap(namespace, mirror)))
+                .compose(metricsAndLoggingCm -> timedStep(reconciliation, "ancillaryConfigMap", () -> {
                     ConfigMap logAndMetricsConfigMap = mirror.generateMetricsAndLogConfigMap(metricsAndLoggingCm.loggingCm, metricsAndLoggingCm.metricsCm);
                     annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(mirror.ANCILLARY_CM_KEY_LOG_CONFIG));
                     return configMapOperations.reconcile(namespace, mirror.getAncillaryConfigMapName(), logAndMetricsConfigMap);
-                })
-                .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, mirror.getName(), mirror.generatePodDisruptionBudget()))
-                .compose(i -> deploymentOperations.reconcile(namespace, mirror.getName(), mirror.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-                .compose(i -> deploymentOperations.scaleUp(namespace, mirror.getName(), mirror.getReplicas()))
-                .compose(i -> deploymentOperations.waitForObserved(namespace, mirror.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> mirrorHasZeroReplicas ? Future.succeededFuture() : deploymentOperations.readiness(namespace, mirror.getName(), 1_000, operationTimeoutMs))
+                }))
+                .compose(i -> timedStep(reconciliation, "podDisruptionBudget", () -> podDisruptionBudgetOperator.reconcile(namespace, mirror.getName(), mirror.generatePodDisruptionBudget())))
+                .compose(i -> timedStep(reconciliation, "deployment", () -> deploymentOperations.reconcile(namespace, mirror.getName(), mirror.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+                .compose(i -> timedStep(reconciliation, "scaleUp", () -> deploymentOperations.scaleUp(namespace, mirror.getName(), mirror.getReplicas())))
+                .compose(i -> timedStep(reconciliation, "waitForObserved", () -> deploymentOperations.waitForObserved(namespace, mirror.getName(), 1_000, operationTimeoutMs)))
+                .compose(i -> timedStep(reconciliation, "readiness", () -> mirrorHasZeroReplicas ? Future.succeededFuture() : deploymentOperations.readiness(namespace, mirror.getName(), 1_000, operationTimeoutMs)))
                 .onComplete(reconciliationResult -> {
                         StatusUtils.setStatusConditionAndObservedGeneration(assemblyResource, kafkaMirrorMakerStatus, reconciliationResult);
 
@@ -23,6 +23,7 @@ import io.strimzi.api.kafka.model.status.KafkaRebalanceStatusBuilder;
 import io.strimzi.api.kafka.model.balancing.KafkaRebalanceAnnotation;
 import io.strimzi.api.kafka.model.balancing.KafkaRebalanceState;
 import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.CruiseControl;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
@@ -32,6 +33,7 @@ import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControl
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
+import io.strimzi.operator.cluster.operator.resource.PooledHttpClient;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Reconciliation;
@@ -134,18 +136,39 @@ public class KafkaRebalanceAssemblyOperator
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList, DoneableKafkaRebalance> kafkaRebalanceOperator;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList, DoneableKafka> kafkaOperator;
     private final PlatformFeaturesAvailability pfa;
+    private final PooledHttpClient cruiseControlHttpClient;
 
     /**
+     * Uses the Cruise Control client with the default configuration, which is shared within the Vertx instance
+     *
      * @param vertx The Vertx instance
      * @param pfa Platform features availability properties
      * @param supplier Supplies the operators for different resources
      */
     public KafkaRebalanceAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                           ResourceOperatorSupplier supplier) {
+        this(vertx, pfa, supplier, CruiseControlApiImpl.sharedClient(vertx));
+    }
+
+    /**
+     * @param vertx The Vertx instance
+     * @param pfa Platform features availability properties
+     * @param supplier Supplies the operators for different resources
+     * @param config ClusterOperator configuration. Used to get the configuration of the Cruise Control connection pool.
+     */
+    public KafkaRebalanceAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
+                                          ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+        this(vertx, pfa, supplier, new PooledHttpClient(vertx, "CruiseControl", config.getOperandHttpMaxPoolSize(),
+                config.isOperandHttpPipelining(), config.getOperandHttpRequestTimeoutMs(), false, supplier.metricsProvider));
+    }
+
+    private KafkaRebalanceAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
+                                           ResourceOperatorSupplier supplier, PooledHttpClient cruiseControlHttpClient) {
         super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider);
         this.pfa = pfa;
         this.kafkaRebalanceOperator = supplier.kafkaRebalanceOperator;
         this.kafkaOperator = supplier.kafkaOperator;
+        this.cruiseControlHttpClient = cruiseControlHttpClient;
     }
 
     /**
@@ -154,7 +177,7 @@ public class KafkaRebalanceAssemblyOperator
      * @return Cruise Control API client instance
      */
     protected CruiseControlApi cruiseControlClientProvider() {
-        return new CruiseControlApiImpl(vertx);
+        return new CruiseControlApiImpl(cruiseControlHttpClient);
     }
 
     /**
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.apache.kafka.clients.admin.Admin;
@@ -15,14 +16,18 @@ import org.apache.kafka.common.Node;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -30,54 +35,188 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>An instance is meant to be used for a whole rolling restart. All the topics are described once, and an index of
+ * the topics hosted by each broker is kept. Each check re-describes only the topics hosted by the given broker, so that
+ * it sees their current ISR (including the changes caused by restarting the other brokers). Each check also lists the
+ * topics and the ongoing partition reassignments, so that the topics created since the index was loaded and the topics
+ * being reassigned onto the given broker are described as well. The {@code min.in.sync.replicas} of the topics are
+ * described once and cached.</p>
  */
 class KafkaAvailability {
 
     private static final Logger log = LogManager.getLogger(KafkaAvailability.class.getName());
 
     private final Admin ac;
-    private final Future<Collection<TopicDescription>> descriptions;
+    /** The last description of each topic, guarded by this */
+    private final Map<String, TopicDescription> descriptions = new HashMap<>();
+    /** The names of the topics with a replica on each broker, guarded by this */
+    private final Map<Integer, Set<String>> brokerTopics = new HashMap<>();
+    /** The min.insync.replicas of each topic, or -1 if the topic lacks it */
+    private final Map<String, Integer> minIsrs = new ConcurrentHashMap<>();
+    private Future<Void> loaded;
 
     KafkaAvailability(Admin ac) {
         this.ac = ac;
+        this.loaded = load();
+    }
+
+    /**
+     * Describes all the topics and replaces the index with their descriptions.
+     */
+    private Future<Void> load() {
         // 1. Get all topic names
         Future<Set<String>> topicNames = topicNames();
         // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
+        return topicNames.compose(names -> {
             log.debug("Got {} topic names", names.size());
             log.trace("Topic names {}", names);
             return describeTopics(names);
+        }).map(topicDescriptions -> {
+            log.debug("Got {} topic descriptions", topicDescriptions.size());
+            synchronized (this) {
+                descriptions.clear();
+                brokerTopics.clear();
+                index(topicDescriptions);
+            }
+            return null;
         });
     }
 
+    /**
+     * @return A future completed when the index has been loaded, loading it again if the previous attempt failed.
+     */
+    private synchronized Future<Void> loaded() {
+        if (loaded.failed()) {
+            loaded = load();
+        }
+        return loaded;
+    }
+
+    private synchronized void index(Collection<TopicDescription> topicDescriptions) {
+        for (TopicDescription td : topicDescriptions) {
+            TopicDescription previous = descriptions.put(td.name(), td);
+            if (previous != null) {
+                for (TopicPartitionInfo pi : previous.partitions()) {
+                    for (Node broker : pi.replicas()) {
+                        brokerTopics.getOrDefault(broker.id(), Collections.emptySet()).remove(td.name());
+                    }
+                }
+            }
+            for (TopicPartitionInfo pi : td.partitions()) {
+                for (Node broker : pi.replicas()) {
+                    brokerTopics.computeIfAbsent(broker.id(), id -> new HashSet<>()).add(td.name());
+                }
+            }
+        }
+    }
+
+    private synchronized void unindex(Collection<String> topicNames) {
+        for (String topicName : topicNames) {
+            descriptions.remove(topicName);
+            for (Set<String> topics : brokerTopics.values()) {
+                topics.remove(topicName);
+            }
+        }
+    }
+
+    private synchronized Set<String> topicsOn(int podId) {
+        return new HashSet<>(brokerTopics.getOrDefault(podId, Collections.emptySet()));
+    }
+
     /**
      * Determine whether the given broker can be rolled without affecting
      * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
      */
     Future<Boolean> canRoll(int podId) {
         log.debug("Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(podId);
+    }
+
+    /**
+     * Determine the other brokers which host replicas of the partitions hosted by the given broker.
+     * Rolling the given broker at the same time as any of them could make these partitions under-replicated.
+     * The topics are refreshed in the same way as by {@link #canRoll(int)}, so that the partitions reassigned since the
+     * index was loaded are taken into account.
+     */
+    Future<Set<Integer>> relatedBrokers(int podId) {
+        return refresh(podId).map(topicDescriptions -> {
+            Set<Integer> brokers = new HashSet<>();
+            for (TopicDescription td : topicDescriptions) {
+                for (TopicPartitionInfo pi : td.partitions()) {
+                    if (contains(pi.replicas(), podId)) {
+                        for (Node replica : pi.replicas()) {
+                            brokers.add(replica.id());
+                        }
+                    }
+                }
+            }
+            brokers.remove(podId);
+            log.debug("Broker {} shares partitions with brokers {}", podId, brokers);
+            return brokers;
+        });
+    }
+
+    /**
+     * Re-describes the topics hosted by the given broker, the topics which are not in the index yet and the topics
+     * being reassigned onto the given broker, and updates the index with their descriptions.
+     * If some of them have been deleted in the meantime, all the topics are described again.
+     * @return A future completed with the descriptions of the topics hosted by the given broker.
+     */
+    private Future<Set<TopicDescription>> refresh(int podId) {
+        return loaded().compose(ignored -> CompositeFuture.all(topicNames(), reassigningTopics(podId))).compose(listed -> {
+            Set<String> existing = listed.resultAt(0);
+            Set<String> names = topicsOn(podId);
+            names.addAll(listed.<Set<String>>resultAt(1));
+            synchronized (this) {
+                unindex(descriptions.keySet().stream().filter(name -> !existing.contains(name)).collect(Collectors.toSet()));
+                existing.stream().filter(name -> !descriptions.containsKey(name)).forEach(names::add);
+            }
+            names.retainAll(existing);
+            if (names.isEmpty()) {
+                return Future.succeededFuture(Collections.emptySet());
+            }
+            log.debug("Refreshing {} topics hosted by broker {}", names.size(), podId);
+            return describeTopics(names)
+                    .map(topicDescriptions -> {
+                        index(topicDescriptions);
+                        return groupTopicsByBroker(topicDescriptions, podId);
+                    })
+                    .recover(error -> {
+                        if (error instanceof UnknownTopicOrPartitionException) {
+                            log.debug("Some of the topics hosted by broker {} were deleted, describing all the topics again", podId);
+                            Future<Void> reloaded = load();
+                            synchronized (this) {
+                                loaded = reloaded;
+                            }
+                            return reloaded.map(ignored2 -> {
+                                synchronized (this) {
+                                    return groupTopicsByBroker(descriptions.values(), podId);
+                                }
+                            });
+                        } else {
+                            return Future.failedFuture(error);
+                        }
+                    });
+        });
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    log.debug("Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+    private Future<Boolean> canRollBroker(int podId) {
+        Future<Set<TopicDescription>> topicsOnGivenBroker = refresh(podId)
+                .recover(error -> {
                     log.warn(error);
                     return Future.failedFuture(error);
                 });
 
         // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+        Future<Map<String, Integer>> topicMinIsrsOnGivenBroker = topicsOnGivenBroker
+                .compose(td -> topicMinIsrs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
 
         // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
+        return topicMinIsrsOnGivenBroker.map(topicNameToMinIsr -> {
             Collection<TopicDescription> tds = topicsOnGivenBroker.result();
             boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+                td -> wouldAffectAvailability(podId, topicNameToMinIsr.get(td.name()), td));
             if (!canRoll) {
                 log.debug("Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
             }
@@ -88,18 +227,20 @@ class KafkaAvailability {
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
+    private static int minIsr(String topicName, Config config) {
         ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         int minIsr;
         if (minIsrConfig != null && minIsrConfig.value() != null) {
             minIsr = parseInt(minIsrConfig.value());
-            log.debug("{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+            log.debug("{} has {}={}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
         } else {
             minIsr = -1;
-            log.debug("{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            log.debug("{} lacks {}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         }
+        return minIsr;
+    }
 
+    private boolean wouldAffectAvailability(int broker, int minIsr, TopicDescription td) {
         for (TopicPartitionInfo pi : td.partitions()) {
             List<Node> isr = pi.isr();
             if (minIsr >= 0) {
@@ -146,6 +287,19 @@ class KafkaAvailability {
         return isr.stream().anyMatch(node -> node.id() == broker);
     }
 
+    /**
+     * Returns the min.insync.replicas of the given topics, describing the configs of only the topics
+     * which have not been described before.
+     */
+    private Future<Map<String, Integer>> topicMinIsrs(Collection<String> topicNames) {
+        Set<String> missing = topicNames.stream().filter(name -> !minIsrs.containsKey(name)).collect(Collectors.toSet());
+        Future<Map<String, Config>> missingConfigs = missing.isEmpty() ? Future.succeededFuture(Collections.emptyMap()) : topicConfigs(missing);
+        return missingConfigs.map(topicNameToConfig -> {
+            topicNameToConfig.forEach((name, config) -> minIsrs.put(name, minIsr(name, config)));
+            return topicNames.stream().collect(Collectors.toMap(name -> name, minIsrs::get));
+        });
+    }
+
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
         log.debug("Getting topic configs for {} topics", topicNames.size());
         List<ConfigResource> configs = topicNames.stream()
@@ -195,6 +349,26 @@ class KafkaAvailability {
         return descPromise.future();
     }
 
+    /**
+     * @return A future completed with the names of the topics which have partitions being reassigned onto the given broker.
+     */
+    protected Future<Set<String>> reassigningTopics(int podId) {
+        Promise<Set<String>> namesPromise = Promise.promise();
+        ac.listPartitionReassignments().reassignments()
+                .whenComplete((reassignments, error) -> {
+                    if (error != null) {
+                        namesPromise.fail(error);
+                    } else {
+                        log.debug("Got {} partition reassignments", reassignments.size());
+                        namesPromise.complete(reassignments.entrySet().stream()
+                                .filter(entry -> entry.getValue().addingReplicas().contains(podId))
+                                .map(entry -> entry.getKey().topic())
+                                .collect(Collectors.toSet()));
+                    }
+                });
+        return namesPromise.future();
+    }
+
     protected Future<Set<String>> topicNames() {
         Promise<Set<String>> namesPromise = Promise.promise();
         ac.listTopics(new ListTopicsOptions().listInternal(true)).names()
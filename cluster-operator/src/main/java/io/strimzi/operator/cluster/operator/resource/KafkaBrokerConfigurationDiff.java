@@ -8,16 +8,15 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import io.fabric8.zjsonpatch.JsonDiff;
-import io.strimzi.kafka.config.model.ConfigModel;
-import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.kafka.config.model.IndexedConfigModels;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.model.OrderedProperties;
@@ -44,7 +43,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
     private static final Logger log = LogManager.getLogger(KafkaBrokerConfigurationDiff.class);
     private final Collection<AlterConfigOp> diff;
     private int brokerId;
-    private Map<String, ConfigModel> configModel;
+    private IndexedConfigModels configModel;
 
     /**
      * These options are skipped because they contain placeholders
@@ -68,7 +67,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
             + "|broker\\.rack)$");
 
     public KafkaBrokerConfigurationDiff(Config brokerConfigs, String desired, KafkaVersion kafkaVersion, int brokerId) {
-        this.configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
+        this.configModel = KafkaConfiguration.configModels(kafkaVersion);
         this.brokerId = brokerId;
         this.diff = diff(brokerId, desired, brokerConfigs, configModel);
     }
@@ -110,7 +109,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
      * @return true if the entry is READ_ONLY
      */
     private boolean isEntryReadOnly(ConfigEntry entry) {
-        return configModel.get(entry.name()).getScope().equals(Scope.READ_ONLY);
+        return configModel.isReadOnly(entry.name());
     }
 
     /**
@@ -142,18 +141,19 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
      */
     private static Collection<AlterConfigOp> diff(int brokerId, String desired,
                                                   Config brokerConfigs,
-                                                  Map<String, ConfigModel> configModel) {
+                                                  IndexedConfigModels configModel) {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
-        Map<String, String> currentMap;
 
         Collection<AlterConfigOp> updatedCE = new ArrayList<>();
 
-        currentMap = brokerConfigs.entries().stream().collect(
-            Collectors.toMap(
-                ConfigEntry::name,
-                configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
+        Map<String, ConfigEntry> currentEntries = new HashMap<>();
+        Map<String, String> currentMap = new HashMap<>();
+        for (ConfigEntry configEntry : brokerConfigs.entries()) {
+            currentEntries.put(configEntry.name(), configEntry);
+            currentMap.put(configEntry.name(), configEntry.value() == null ? "null" : configEntry.value());
+        }
 
         OrderedProperties orderedProperties = new OrderedProperties();
         orderedProperties.addStringPairs(desired);
@@ -169,9 +169,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
             String pathValue = d.get("path").asText();
             String pathValueWithoutSlash = pathValue.substring(1);
 
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
+            Optional<ConfigEntry> optEntry = Optional.ofNullable(currentEntries.get(pathValueWithoutSlash));
 
             String op = d.get("op").asText();
             if (optEntry.isPresent()) {
@@ -204,7 +202,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
         return updatedCE;
     }
 
-    private static void updateOrAdd(String propertyName, Map<String, ConfigModel> configModel, Map<String, String> desiredMap, Collection<AlterConfigOp> updatedCE) {
+    private static void updateOrAdd(String propertyName, IndexedConfigModels configModel, Map<String, String> desiredMap, Collection<AlterConfigOp> updatedCE) {
         if (!isIgnorableProperty(propertyName)) {
             if (isCustomEntry(propertyName, configModel)) {
                 log.trace("custom property {} has been updated/added {}", propertyName, desiredMap.get(propertyName));
@@ -217,7 +215,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
         }
     }
 
-    private static void removeProperty(Map<String, ConfigModel> configModel, Collection<AlterConfigOp> updatedCE, String pathValueWithoutSlash, ConfigEntry entry) {
+    private static void removeProperty(IndexedConfigModels configModel, Collection<AlterConfigOp> updatedCE, String pathValueWithoutSlash, ConfigEntry entry) {
         if (isCustomEntry(entry.name(), configModel)) {
             // we are deleting custom option
             log.trace("removing custom property {}", entry.name());
@@ -253,8 +251,8 @@ public class KafkaBrokerConfigurationDiff extends AbstractResourceDiff {
      * @param configModel configModel
      * @return true if entry is custom (not default)
      */
-    private static boolean isCustomEntry(String entryName, Map<String, ConfigModel> configModel) {
-        return !configModel.keySet().contains(entryName);
+    private static boolean isCustomEntry(String entryName, IndexedConfigModels configModel) {
+        return !configModel.isKnown(entryName);
     }
 
 }
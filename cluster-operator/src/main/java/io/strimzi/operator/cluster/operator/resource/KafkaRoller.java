@@ -10,6 +10,7 @@ import java.net.Socket;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -35,13 +36,17 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.vertx.core.CompositeFuture;
@@ -62,6 +67,7 @@ import org.apache.kafka.common.errors.SslAuthenticationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
 import static java.util.Collections.singletonList;
 
 /**
@@ -101,6 +107,11 @@ import static java.util.Collections.singletonList;
  *     <li>even pods which aren't candidates for rolling are checked for readiness which partly avoids
  *     successive reconciliations each restarting a pod which never becomes ready</li>
  * </ul>
+ *
+ * <p>When the maximum parallelism is greater than one, up to that many pods are considered at the same time.
+ * A pod is only rolled while none of the other pods being rolled hosts a replica of the same partitions as the pod,
+ * so that each partition loses at most one replica at a time and the check of step 5 still holds.
+ * With a rack-aware replica assignment this usually means that the pods of the same rack are rolled together.</p>
  */
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class KafkaRoller {
@@ -122,7 +133,16 @@ public class KafkaRoller {
     private final String kafkaLogging;
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
+    private final int maxParallelism;
+    private final ScheduledExecutorService executor;
+    /** The pods which are being rolled at the moment, guarded by itself */
+    private final Set<Integer> rollingPods = new HashSet<>();
+    private final Timer adminClientSetupTimer;
+    private final Timer adminClientSetupFailureTimer;
     private Admin allClient;
+    /** The clients bootstrapped from a single pod, used for the controller lookups of that pod */
+    private final Map<Integer, Admin> controllerClients = new ConcurrentHashMap<>();
+    private KafkaAvailability kafkaAvailability;
 
     public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
             long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -137,6 +157,17 @@ public class KafkaRoller {
                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion) {
+        this(vertx, reconciliation, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, 1, null);
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                       StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider,
+                       String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, int maxParallelism,
+                       MetricsProvider metrics) {
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -152,6 +183,17 @@ public class KafkaRoller {
         this.kafkaLogging = kafkaLogging;
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
+        this.maxParallelism = maxParallelism;
+        this.executor = Executors.newScheduledThreadPool(maxParallelism,
+            runnable -> new Thread(runnable, "kafka-roller"));
+        this.adminClientSetupTimer = adminClientSetupTimer(metrics, "success");
+        this.adminClientSetupFailureTimer = adminClientSetupTimer(metrics, "failure");
+    }
+
+    private static Timer adminClientSetupTimer(MetricsProvider metrics, String outcome) {
+        return metrics == null ? null : metrics.timer(METRICS_PREFIX + "kafka.roller.admin.client.setup",
+                "Time to create an admin client for a Kafka broker and to get the first response from it (or to fail)",
+                Tags.of("outcome", outcome));
     }
 
     /**
@@ -162,9 +204,6 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaCluster.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
-
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, List<String>> podNeedsRestart;
 
@@ -172,7 +211,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(IntStream.range(0, numPods).boxed().collect(Collectors.toList()), false);
@@ -206,19 +245,31 @@ public class KafkaRoller {
         }
         Promise<Void> result = Promise.promise();
         CompositeFuture.join(futures).onComplete(ar -> {
-            singleExecutor.shutdown();
-            try {
-                if (allClient != null) {
-                    allClient.close(Duration.ofSeconds(30));
-                }
-            } catch (RuntimeException e) {
-                log.debug("Exception closing the allClient", e);
-            }
-            vertx.runOnContext(ignored -> result.handle(ar.map((Void) null)));
+            executor.shutdown();
+            // Closing the admin clients blocks until their requests complete, so it is done on the worker pool
+            Promise<Void> closed = Promise.promise();
+            vertx.createSharedWorkerExecutor(WorkerPools.KAFKA_ADMIN_OPS_POOL).executeBlocking(future -> {
+                closeAdminClients();
+                future.complete();
+            }, closed);
+            closed.future().onComplete(ignored -> result.handle(ar.map((Void) null)));
         });
         return result.future();
     }
 
+    private void closeAdminClients() {
+        try {
+            if (allClient != null) {
+                allClient.close(Duration.ofSeconds(30));
+            }
+        } catch (RuntimeException e) {
+            log.debug("Exception closing the allClient", e);
+        }
+        for (Integer podId : controllerClients.keySet()) {
+            closeControllerClient(podId);
+        }
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -257,7 +308,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * At most {@code maxParallelism} pods will be rolled at a time so the delay may be overrun.
      * @param podId The pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -266,7 +317,7 @@ public class KafkaRoller {
     private Future<Void> schedule(int podId, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podId,
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             log.debug("{}: Considering restart of pod {} after delay of {} {}", reconciliation, podId, delay, unit);
             try {
                 restartIfNecessary(podId, ctx);
@@ -278,7 +329,7 @@ public class KafkaRoller {
                 log.info("{}: Could not restart pod {}, giving up after {} attempts. Total delay between attempts {}ms",
                         reconciliation, podId, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -352,18 +403,23 @@ public class KafkaRoller {
                     log.debug("{}: Pod {} is controller and there are other pods to roll", reconciliation, podId);
                     throw new ForceableProblem("Pod " + podName(podId) + " is currently the controller and there are other pods still to roll");
                 } else {
-                    if (restartPlan.forceRestart || canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false)) {
-                        // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
-                        if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
-                            log.debug("{}: Pod {} can be rolled now", reconciliation, podId);
-                            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    acquireRollingSlot(podId);
+                    try {
+                        if (restartPlan.forceRestart || canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false)) {
+                            // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
+                            if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
+                                log.debug("{}: Pod {} can be rolled now", reconciliation, podId);
+                                restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            } else {
+                                // TODO do we need some check here that the broker is still OK?
+                                awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            }
                         } else {
-                            // TODO do we need some check here that the broker is still OK?
-                            awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            log.debug("{}: Pod {} cannot be rolled right now", reconciliation, podId);
+                            throw new UnforceableProblem("Pod " + podName(podId) + " is currently not rollable");
                         }
-                    } else {
-                        log.debug("{}: Pod {} cannot be rolled right now", reconciliation, podId);
-                        throw new UnforceableProblem("Pod " + podName(podId) + " is currently not rollable");
+                    } finally {
+                        releaseRollingSlot(podId);
                     }
                 }
             } else {
@@ -377,12 +433,17 @@ public class KafkaRoller {
             }
         } catch (ForceableProblem e) {
             if (isPodStuck(pod) || restartContext.backOff.done() || e.forceNow) {
-                if (canRoll(podId, 60_000, TimeUnit.MILLISECONDS, true)) {
-                    log.warn("{}: Pod {} will be force-rolled, due to error: {}", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
-                    restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
-                } else {
-                    log.warn("{}: Pod {} can't be safely force-rolled; original error: ", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
-                    throw e;
+                acquireRollingSlot(podId);
+                try {
+                    if (canRoll(podId, 60_000, TimeUnit.MILLISECONDS, true)) {
+                        log.warn("{}: Pod {} will be force-rolled, due to error: {}", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                        restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    } else {
+                        log.warn("{}: Pod {} can't be safely force-rolled; original error: ", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                        throw e;
+                    }
+                } finally {
+                    releaseRollingSlot(podId);
                 }
             } else {
                 throw e;
@@ -390,6 +451,52 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * When rolling pods in parallel, blocks until none of the pods being rolled hosts a replica of the same
+     * partitions as the given pod, and then marks the given pod as being rolled.
+     * If the partitions hosted by the given pod cannot be determined, blocks until no other pod is being rolled.
+     * @param podId The id of the pod to roll.
+     * @throws InterruptedException Interrupted while waiting.
+     */
+    private void acquireRollingSlot(int podId) throws InterruptedException {
+        if (maxParallelism <= 1) {
+            return;
+        }
+
+        Set<Integer> relatedPods;
+        try {
+            if (allClient == null) {
+                relatedPods = null;
+            } else {
+                relatedPods = await(availability().relatedBrokers(podId), 60_000, TimeUnit.MILLISECONDS,
+                    t -> new ForceableProblem("An error while trying to determine the partitions of pod " + podName(podId), t));
+            }
+        } catch (ForceableProblem e) {
+            log.debug("{}: Pod {} will be rolled alone: {}", reconciliation, podId, e.getMessage());
+            relatedPods = null;
+        }
+
+        synchronized (rollingPods) {
+            while (rollingPods.size() >= maxParallelism
+                    || (relatedPods == null ? !rollingPods.isEmpty() : !Collections.disjoint(rollingPods, relatedPods))) {
+                log.debug("{}: Pod {} waits for pods {} to be rolled", reconciliation, podId, rollingPods);
+                rollingPods.wait();
+            }
+            rollingPods.add(podId);
+        }
+    }
+
+    private void releaseRollingSlot(int podId) {
+        if (maxParallelism <= 1) {
+            return;
+        }
+
+        synchronized (rollingPods) {
+            rollingPods.remove(podId);
+            rollingPods.notifyAll();
+        }
+    }
+
     private boolean podWaitingBecauseOfAnyReasons(Pod pod, Set<String> reasons) {
         if (pod != null && pod.getStatus() != null) {
             Optional<ContainerStatus> kafkaContainerStatus = pod.getStatus().getContainerStatuses().stream()
@@ -600,7 +707,7 @@ public class KafkaRoller {
     private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
+            return await(availability().canRoll(podId), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -702,6 +809,19 @@ public class KafkaRoller {
         return new KafkaAvailability(ac);
     }
 
+    /**
+     * Returns the KafkaAvailability used for the whole rolling restart, creating it when the allClient is available.
+     */
+    private synchronized KafkaAvailability availability() {
+        if (kafkaAvailability == null) {
+            if (allClient == null) {
+                return availability(allClient);
+            }
+            kafkaAvailability = availability(allClient);
+        }
+        return kafkaAvailability;
+    }
+
     String podName(int podId) {
         return KafkaCluster.kafkaPodName(this.cluster, podId);
     }
@@ -726,19 +846,59 @@ public class KafkaRoller {
     @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE") // seems to be completely spurious
     int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws Exception {
         // Don't use all allClient here, because it will have cache metadata about which is the controller.
-        try (Admin ac = adminClient(singletonList(podId), false)) {
-            Node controllerNode = null;
+        // The client bootstrapped from the pod is kept for the whole rolling restart, so that the TLS handshake and the
+        // metadata bootstrap are done once per pod. Each describeCluster() sends a new metadata request, so it is as
+        // fresh as with a new client.
+        long start = System.nanoTime();
+        boolean newClient = !controllerClients.containsKey(podId);
+        Admin ac;
+        try {
+            ac = controllerClient(podId);
+        } catch (ForceableProblem | FatalProblem e) {
+            recordAdminClientSetup(newClient, adminClientSetupFailureTimer, start);
+            throw e;
+        }
+        Node controllerNode = null;
+        try {
+            DescribeClusterResult describeClusterResult = ac.describeCluster();
+            KafkaFuture<Node> controller = describeClusterResult.controller();
+            controllerNode = controller.get(timeout, unit);
+            restartContext.clearConnectionError();
+            recordAdminClientSetup(newClient, adminClientSetupTimer, start);
+        } catch (ExecutionException | TimeoutException e) {
+            recordAdminClientSetup(newClient, adminClientSetupFailureTimer, start);
+            // Start with a new client next time, in case the pod has been recreated in the meantime
+            closeControllerClient(podId);
+            maybeTcpProbe(podId, e, restartContext);
+        }
+        int id = controllerNode == null || Node.noNode().equals(controllerNode) ? -1 : controllerNode.id();
+        log.debug("{}: Controller is {}", reconciliation, id);
+        return id;
+    }
+
+    private static void recordAdminClientSetup(boolean newClient, Timer timer, long start) {
+        if (newClient && timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Admin controllerClient(int podId) throws ForceableProblem, FatalProblem {
+        Admin ac = controllerClients.get(podId);
+        if (ac == null) {
+            ac = adminClient(singletonList(podId), false);
+            controllerClients.put(podId, ac);
+        }
+        return ac;
+    }
+
+    private void closeControllerClient(int podId) {
+        Admin ac = controllerClients.remove(podId);
+        if (ac != null) {
             try {
-                DescribeClusterResult describeClusterResult = ac.describeCluster();
-                KafkaFuture<Node> controller = describeClusterResult.controller();
-                controllerNode = controller.get(timeout, unit);
-                restartContext.clearConnectionError();
-            } catch (ExecutionException | TimeoutException e) {
-                maybeTcpProbe(podId, e, restartContext);
+                ac.close(Duration.ofSeconds(30));
+            } catch (RuntimeException e) {
+                log.debug("{}: Exception closing the admin client of pod {}", reconciliation, podId, e);
             }
-            int id = controllerNode == null || Node.noNode().equals(controllerNode) ? -1 : controllerNode.id();
-            log.debug("{}: Controller is {}", reconciliation, id);
-            return id;
         }
     }
 
@@ -0,0 +1,172 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.shareddata.Shareable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+
+/**
+ * HTTP client for the REST APIs of the operands, such as Kafka Connect or Cruise Control. All requests share a single
+ * Vert.x {@link HttpClient} which keeps the connections alive and pools them per target host and port. Periodic
+ * requests, such as the connector status polls, therefore reuse the open connections instead of opening a new
+ * connection for every request.
+ */
+public class PooledHttpClient implements Shareable {
+    private static final String SHARED_CLIENTS_MAP = PooledHttpClient.class.getName();
+
+    public static final int DEFAULT_MAX_POOL_SIZE = HttpClientOptions.DEFAULT_MAX_POOL_SIZE;
+    public static final boolean DEFAULT_PIPELINING = false;
+    public static final long DEFAULT_REQUEST_TIMEOUT_MS = 120_000;
+
+    private final HttpClient httpClient;
+    private final String component;
+    private final long requestTimeoutMs;
+    private final MetricsProvider metrics;
+
+    private final Map<String, AtomicInteger> inFlightGauges = new ConcurrentHashMap<>();
+    private final Map<String, Timer> durationTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param component         Name of the operand component whose REST API is called. It is used as a tag of the metrics.
+     * @param maxPoolSize       Maximum number of connections kept open to each target host and port
+     * @param pipelining        True to send further requests on a connection before the responses to the previous
+     *                          requests are received
+     * @param requestTimeoutMs  Time in milliseconds after which a request fails if no response data were received
+     * @param logActivity       True to log the network activity of the client
+     * @param metrics           Metrics provider used for the request metrics or null if no metrics should be collected
+     */
+    public PooledHttpClient(Vertx vertx, String component, int maxPoolSize, boolean pipelining, long requestTimeoutMs,
+                            boolean logActivity, MetricsProvider metrics) {
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("The maximum pool size has to be at least 1");
+        }
+
+        if (requestTimeoutMs < 1) {
+            throw new IllegalArgumentException("The request timeout has to be at least 1 millisecond");
+        }
+
+        this.httpClient = vertx.createHttpClient(new HttpClientOptions()
+                .setKeepAlive(true)
+                .setMaxPoolSize(maxPoolSize)
+                .setPipelining(pipelining)
+                .setLogActivity(logActivity));
+        this.component = component;
+        this.requestTimeoutMs = requestTimeoutMs;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Creates a client with the default pool configuration which does not collect any metrics.
+     *
+     * @param vertx         Vert.x instance
+     * @param component     Name of the operand component whose REST API is called
+     * @param logActivity   True to log the network activity of the client
+     */
+    public PooledHttpClient(Vertx vertx, String component, boolean logActivity) {
+        this(vertx, component, DEFAULT_MAX_POOL_SIZE, DEFAULT_PIPELINING, DEFAULT_REQUEST_TIMEOUT_MS, logActivity, null);
+    }
+
+    /**
+     * Returns the client shared by all the callers with the same key in the given Vert.x instance, creating it on the
+     * first call. The shared clients are closed together with the Vert.x instance. This is used where no client is
+     * injected, so that a new pool of connections is not opened (and left open) for each caller.
+     *
+     * @param vertx     Vert.x instance
+     * @param key       Key identifying the shared client, such as the component name
+     * @param factory   Creates the client if there is no client with the given key yet
+     *
+     * @return  The shared client
+     */
+    public static PooledHttpClient shared(Vertx vertx, String key, Supplier<PooledHttpClient> factory) {
+        return vertx.sharedData().<String, PooledHttpClient>getLocalMap(SHARED_CLIENTS_MAP)
+                .computeIfAbsent(key, ignored -> factory.get());
+    }
+
+    /**
+     * Performs the given operation, which sends a request using the shared HTTP client and completes the promise. The
+     * number of requests in flight and the duration of the requests are recorded for the given endpoint.
+     *
+     * @param endpoint  Name of the endpoint, for example {@code GET /connectors/{connector}/status}. It is used as a tag
+     *                  of the metrics, so it should not contain the names of the individual resources.
+     * @param operation The operation to perform
+     * @param <T>       The type of the result
+     *
+     * @return  A future which is completed with the result of the operation
+     */
+    public <T> Future<T> request(String endpoint, BiConsumer<HttpClient, Promise<T>> operation) {
+        Promise<T> promise = Promise.promise();
+        AtomicInteger inFlight = inFlightGauge(endpoint);
+        long start = System.nanoTime();
+
+        if (inFlight != null) {
+            inFlight.incrementAndGet();
+        }
+
+        try {
+            operation.accept(httpClient, promise);
+        } catch (RuntimeException e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future().onComplete(res -> {
+            if (inFlight != null) {
+                inFlight.decrementAndGet();
+                durationTimer(endpoint, res.succeeded() ? "success" : "failure")
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    /**
+     * @return  The time in milliseconds after which a request fails if no response data were received. It should be
+     *          set on every request sent by the operations.
+     */
+    public long getRequestTimeoutMs() {
+        return requestTimeoutMs;
+    }
+
+    /**
+     * Closes the pooled connections.
+     */
+    public void close() {
+        httpClient.close();
+    }
+
+    private AtomicInteger inFlightGauge(String endpoint) {
+        if (metrics == null) {
+            return null;
+        }
+
+        return inFlightGauges.computeIfAbsent(endpoint, key -> metrics.gauge(METRICS_PREFIX + "http.requests.inflight",
+                "Number of requests to the REST API of the operand which are waiting for the response",
+                Tags.of(Tag.of("component", component), Tag.of("endpoint", endpoint))));
+    }
+
+    private Timer durationTimer(String endpoint, String outcome) {
+        return durationTimers.computeIfAbsent(endpoint + "/" + outcome, key -> metrics.timer(METRICS_PREFIX + "http.requests.duration",
+                "The time requests to the REST API of the operand take to complete",
+                Tags.of(Tag.of("component", component), Tag.of("endpoint", endpoint), Tag.of("outcome", outcome))));
+    }
+}
@@ -57,8 +57,13 @@ import io.strimzi.operator.common.operator.resource.ServiceOperator;
 
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @SuppressWarnings("checkstyle:ClassDataAbstractionCoupling")
 public class ResourceOperatorSupplier {
     public final SecretOperator secretOperations;
@@ -203,4 +208,45 @@ public class ResourceOperatorSupplier {
         this.metricsProvider = metricsProvider;
         this.adminClientProvider = adminClientProvider;
     }
+
+    /**
+     * Enables the in-memory caches of the namespaced resources the Cluster Operator reads during reconciliations.
+     *
+     * @param namespace The namespace which should be cached or {@code *} for all namespaces.
+     * @return A future which completes once all the caches are in sync.
+     */
+    public Future<Void> enableCaches(String namespace) {
+        List<Future> futures = new ArrayList<>();
+
+        futures.add(kafkaOperator.enableCache(namespace, metricsProvider));
+        futures.add(connectOperator.enableCache(namespace, metricsProvider));
+        futures.add(mirrorMakerOperator.enableCache(namespace, metricsProvider));
+        futures.add(kafkaBridgeOperator.enableCache(namespace, metricsProvider));
+        futures.add(kafkaConnectorOperator.enableCache(namespace, metricsProvider));
+        futures.add(mirrorMaker2Operator.enableCache(namespace, metricsProvider));
+        futures.add(kafkaRebalanceOperator.enableCache(namespace, metricsProvider));
+        futures.add(secretOperations.enableCache(namespace, metricsProvider));
+        futures.add(serviceOperations.enableCache(namespace, metricsProvider));
+        futures.add(configMapOperations.enableCache(namespace, metricsProvider));
+        futures.add(pvcOperations.enableCache(namespace, metricsProvider));
+        futures.add(deploymentOperations.enableCache(namespace, metricsProvider));
+        futures.add(serviceAccountOperations.enableCache(namespace, metricsProvider));
+        futures.add(roleBindingOperations.enableCache(namespace, metricsProvider));
+        futures.add(networkPolicyOperator.enableCache(namespace, metricsProvider));
+        futures.add(podDisruptionBudgetOperator.enableCache(namespace, metricsProvider));
+        futures.add(podOperations.enableCache(namespace, metricsProvider));
+        futures.add(ingressOperations.enableCache(namespace, metricsProvider));
+        futures.add(zkSetOperations.enableCache(namespace, metricsProvider));
+        futures.add(kafkaSetOperations.enableCache(namespace, metricsProvider));
+
+        if (connectS2IOperator != null) {
+            futures.add(connectS2IOperator.enableCache(namespace, metricsProvider));
+        }
+
+        if (routeOperations != null) {
+            futures.add(routeOperations.enableCache(namespace, metricsProvider));
+        }
+
+        return CompositeFuture.join(futures).map((Void) null);
+    }
 }
@@ -9,6 +9,7 @@ import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -195,7 +196,7 @@ public class ZookeeperScaler implements AutoCloseable {
     private Future<Map<String, String>> getCurrentConfig(ZooKeeperAdmin zkAdmin)    {
         Promise<Map<String, String>> configPromise = Promise.promise();
 
-        vertx.executeBlocking(promise -> {
+        vertx.createSharedWorkerExecutor(WorkerPools.ZOOKEEPER_OPS_POOL).executeBlocking(promise -> {
             try {
                 byte[] config = zkAdmin.getConfig(false, null);
                 Map<String, String> servers = parseConfig(config);
@@ -219,7 +220,7 @@ public class ZookeeperScaler implements AutoCloseable {
     private Future<Map<String, String>> updateConfig(ZooKeeperAdmin zkAdmin, Map<String, String> newServers)    {
         Promise<Map<String, String>> configPromise = Promise.promise();
 
-        vertx.executeBlocking(promise -> {
+        vertx.createSharedWorkerExecutor(WorkerPools.ZOOKEEPER_OPS_POOL).executeBlocking(promise -> {
             try {
                 log.debug("Updating Zookeeper configuration to {}", newServers);
                 byte[] newConfig = zkAdmin.reconfigure(null, null, serversMapToList(newServers), -1, null);
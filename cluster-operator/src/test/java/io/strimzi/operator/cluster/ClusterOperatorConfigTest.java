@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.InvalidConfigurationException;
@@ -57,11 +58,133 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperationTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS));
         assertThat(config.getOperatorNamespace(), is("operator-namespace"));
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
+        assertThat(config.isResourceCacheEnabled(), is(ClusterOperatorConfig.DEFAULT_RESOURCE_CACHE_ENABLED));
+        assertThat(config.getMaxConcurrentReconciliations(), is(ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS));
+        assertThat(config.getOperandHttpMaxPoolSize(), is(ClusterOperatorConfig.DEFAULT_OPERAND_HTTP_MAX_POOL_SIZE));
+        assertThat(config.isOperandHttpPipelining(), is(ClusterOperatorConfig.DEFAULT_OPERAND_HTTP_PIPELINING));
+        assertThat(config.getOperandHttpRequestTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_OPERAND_HTTP_REQUEST_TIMEOUT_MS));
+    }
+
+    @Test
+    public void testMaxConcurrentReconciliations() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "25");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentReconciliations(), is(25));
+    }
+
+    @Test
+    public void testInvalidMaxConcurrentReconciliations() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testOperandHttpClient() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_MAX_POOL_SIZE, "20");
+        envVars.put(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_PIPELINING, "true");
+        envVars.put(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_REQUEST_TIMEOUT_MS, "30000");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getOperandHttpMaxPoolSize(), is(20));
+        assertThat(config.isOperandHttpPipelining(), is(true));
+        assertThat(config.getOperandHttpRequestTimeoutMs(), is(30_000L));
+    }
+
+    @Test
+    public void testInvalidOperandHttpClient() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_MAX_POOL_SIZE, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_MAX_POOL_SIZE, "5");
+        envVars.put(ClusterOperatorConfig.STRIMZI_OPERAND_HTTP_REQUEST_TIMEOUT_MS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testResourceCacheEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED, "true");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isResourceCacheEnabled(), is(true));
+    }
+
+    @Test
+    public void testCertManagerType() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "JCA");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.JCA));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testKeyPairPool() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getKeyPairPoolSize(), is(0));
+        assertThat(config.getKeyPairPoolRefillThreads(), is(1));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE, "100");
+        envVars.put(ClusterOperatorConfig.STRIMZI_KEY_PAIR_POOL_REFILL_THREADS, "2");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getKeyPairPoolSize(), is(100));
+        assertThat(config.getKeyPairPoolRefillThreads(), is(2));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KEY_PAIR_POOL_REFILL_THREADS, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KEY_PAIR_POOL_REFILL_THREADS, "1");
+        envVars.put(ClusterOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testWorkerPoolSizes() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getKubernetesOpsPoolSize(), is(ClusterOperatorConfig.DEFAULT_KUBERNETES_OPS_POOL_SIZE));
+        assertThat(config.getZookeeperOpsPoolSize(), is(ClusterOperatorConfig.DEFAULT_ZOOKEEPER_OPS_POOL_SIZE));
+        assertThat(config.getKafkaAdminOpsPoolSize(), is(ClusterOperatorConfig.DEFAULT_KAFKA_ADMIN_OPS_POOL_SIZE));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KUBERNETES_OPS_POOL_SIZE, "20");
+        envVars.put(ClusterOperatorConfig.STRIMZI_ZOOKEEPER_OPS_POOL_SIZE, "2");
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE, "5");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getKubernetesOpsPoolSize(), is(20));
+        assertThat(config.getZookeeperOpsPoolSize(), is(2));
+        assertThat(config.getKafkaAdminOpsPoolSize(), is(5));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_ZOOKEEPER_OPS_POOL_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testKafkaRollerMaxParallelism() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKafkaRollerMaxParallelism(), is(1));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLER_MAX_PARALLELISM, "3");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKafkaRollerMaxParallelism(), is(3));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLER_MAX_PARALLELISM, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
     }
 
     @Test
     public void testReconciliationInterval() {
-        ClusterOperatorConfig config = new ClusterOperatorConfig(singleton("namespace"), 60_000, 30_000, false, new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap(), emptyMap()), null, null, null, null);
+        ClusterOperatorConfig config = new ClusterOperatorConfig(singleton("namespace"), 60_000, 30_000, false, new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap(), emptyMap()), null, null, null, null, false, 10, 5, false, 120_000, ClusterOperatorConfig.DEFAULT_CERT_MANAGER, 0, 1, 1, 10, 10, 10);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -101,6 +101,7 @@ import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.KafkaFuture;
@@ -673,6 +674,16 @@ public class ResourceUtils {
                 }
                 when(mock.describeTopics(any())).thenReturn(dtr);
 
+                ListPartitionReassignmentsResult lprr;
+                try {
+                    Constructor<ListPartitionReassignmentsResult> declaredConstructor = ListPartitionReassignmentsResult.class.getDeclaredConstructor(KafkaFuture.class);
+                    declaredConstructor.setAccessible(true);
+                    lprr = declaredConstructor.newInstance(KafkaFutureImpl.completedFuture(emptyMap()));
+                } catch (ReflectiveOperationException e) {
+                    throw new RuntimeException(e);
+                }
+                when(mock.listPartitionReassignments()).thenReturn(lprr);
+
                 DescribeConfigsResult dcfr;
                 try {
                     Constructor<DescribeConfigsResult> declaredConstructor = DescribeConfigsResult.class.getDeclaredConstructor(Map.class);
@@ -786,7 +797,19 @@ public class ResourceUtils {
                 null,
                 null,
                 null,
-                null);
+                null,
+                false,
+                10,
+                ClusterOperatorConfig.DEFAULT_OPERAND_HTTP_MAX_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_OPERAND_HTTP_PIPELINING,
+                ClusterOperatorConfig.DEFAULT_OPERAND_HTTP_REQUEST_TIMEOUT_MS,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER,
+                ClusterOperatorConfig.DEFAULT_KEY_PAIR_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_KEY_PAIR_POOL_REFILL_THREADS,
+                ClusterOperatorConfig.DEFAULT_KAFKA_ROLLER_MAX_PARALLELISM,
+                ClusterOperatorConfig.DEFAULT_KUBERNETES_OPS_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_ZOOKEEPER_OPS_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_KAFKA_ADMIN_OPS_POOL_SIZE);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions) {
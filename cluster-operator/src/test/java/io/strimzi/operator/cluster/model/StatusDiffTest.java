@@ -6,11 +6,16 @@ package io.strimzi.operator.cluster.model;
 
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.api.kafka.model.status.KafkaConnectS2IStatus;
+import io.strimzi.api.kafka.model.status.KafkaConnectS2IStatusBuilder;
+import io.strimzi.api.kafka.model.status.KafkaConnectStatus;
+import io.strimzi.api.kafka.model.status.KafkaConnectStatusBuilder;
 import io.strimzi.api.kafka.model.status.KafkaStatusBuilder;
 import io.strimzi.api.kafka.model.status.KafkaStatus;
 import io.strimzi.api.kafka.model.status.ListenerAddressBuilder;
 import io.strimzi.api.kafka.model.status.ListenerStatus;
 import io.strimzi.api.kafka.model.status.ListenerStatusBuilder;
+import io.strimzi.operator.common.ReconciliationTimings;
 import org.junit.jupiter.api.Test;
 
 import java.text.ParseException;
@@ -151,4 +156,117 @@ public class StatusDiffTest {
         StatusDiff diff = new StatusDiff(status1, status2);
         assertThat(diff.isEmpty(), is(true));
     }
+
+    @Test
+    public void testReconciliationTimingsAreIgnored() {
+        Condition ready = new ConditionBuilder()
+                .withNewLastTransitionTime(ModelUtils.formatTimestamp(new Date()))
+                .withNewType("Ready")
+                .withNewStatus("True")
+                .build();
+
+        Condition timings1 = new ConditionBuilder()
+                .withNewLastTransitionTime(ModelUtils.formatTimestamp(new Date()))
+                .withNewType(ReconciliationTimings.CONDITION_TYPE)
+                .withNewStatus("True")
+                .withNewMessage("reconcileCas=12ms")
+                .build();
+
+        Condition timings2 = new ConditionBuilder(timings1)
+                .withNewMessage("reconcileCas=15ms")
+                .build();
+
+        KafkaStatus status1 = new KafkaStatusBuilder()
+                .withObservedGeneration(1L)
+                .withConditions(ready, timings1)
+                .build();
+
+        KafkaStatus status2 = new KafkaStatusBuilder()
+                .withObservedGeneration(1L)
+                .withConditions(ready, timings2)
+                .build();
+
+        KafkaStatus status3 = new KafkaStatusBuilder()
+                .withObservedGeneration(1L)
+                .withConditions(ready)
+                .build();
+
+        KafkaStatus status4 = new KafkaStatusBuilder()
+                .withObservedGeneration(2L)
+                .withConditions(ready, timings2)
+                .build();
+
+        assertThat(new StatusDiff(status1, status2).isEmpty(), is(true));
+        assertThat(new StatusDiff(status3, status2).isEmpty(), is(true));
+        assertThat(new StatusDiff(status1, status4).isEmpty(), is(false));
+    }
+
+    @Test
+    public void testCommonFieldsDiff() {
+        Condition condition1 = new ConditionBuilder()
+                .withNewLastTransitionTime(ModelUtils.formatTimestamp(new Date()))
+                .withNewType("NotReady")
+                .withNewStatus("True")
+                .withNewReason("TimeoutException")
+                .withNewMessage("Exceeded timeout")
+                .build();
+
+        Condition condition2 = new ConditionBuilder(condition1)
+                .withNewMessage("Exceeded timeout of 300000ms")
+                .build();
+
+        KafkaStatus status1 = new KafkaStatusBuilder()
+                .withObservedGeneration(1L)
+                .withConditions(condition1)
+                .build();
+
+        KafkaStatus status2 = new KafkaStatusBuilder()
+                .withObservedGeneration(2L)
+                .withConditions(condition1)
+                .build();
+
+        KafkaStatus status3 = new KafkaStatusBuilder()
+                .withObservedGeneration(1L)
+                .withConditions(condition2)
+                .build();
+
+        KafkaStatus status4 = new KafkaStatusBuilder()
+                .withObservedGeneration(1L)
+                .build();
+
+        assertThat(new StatusDiff(status1, status2).isEmpty(), is(false));
+        assertThat(new StatusDiff(status1, status3).isEmpty(), is(false));
+        assertThat(new StatusDiff(status1, status4).isEmpty(), is(false));
+        assertThat(new StatusDiff(null, status4).isEmpty(), is(false));
+        assertThat(new StatusDiff(null, null).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testSubclassFieldsDiff() {
+        KafkaConnectStatus status1 = new KafkaConnectStatusBuilder()
+                .withObservedGeneration(1L)
+                .withUrl("http://my-connect-connect-api.my-namespace.svc:8083")
+                .withReplicas(3)
+                .build();
+
+        KafkaConnectStatus status2 = new KafkaConnectStatusBuilder(status1)
+                .withReplicas(4)
+                .build();
+
+        KafkaConnectS2IStatus status3 = new KafkaConnectS2IStatusBuilder()
+                .withObservedGeneration(1L)
+                .withUrl("http://my-connect-connect-api.my-namespace.svc:8083")
+                .withReplicas(3)
+                .withBuildConfigName("my-connect-connect")
+                .build();
+
+        KafkaConnectS2IStatus status4 = new KafkaConnectS2IStatusBuilder(status3)
+                .withBuildConfigName("other-connect-connect")
+                .build();
+
+        assertThat(new StatusDiff(status1, new KafkaConnectStatusBuilder(status1).build()).isEmpty(), is(true));
+        assertThat(new StatusDiff(status1, status2).isEmpty(), is(false));
+        assertThat(new StatusDiff(status1, status3).isEmpty(), is(false));
+        assertThat(new StatusDiff(status3, status4).isEmpty(), is(false));
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests the connector snapshot which {@link KafkaConnectApiImpl} takes when listing the connectors of a Connect
+ * cluster which supports the {@code expand} query parameter.
+ */
+@ExtendWith(VertxExtension.class)
+public class KafkaConnectApiSnapshotTest {
+    private static final String EXPANDED = "{\"my-connector\":{"
+            + "\"status\":{\"name\":\"my-connector\",\"connector\":{\"state\":\"RUNNING\",\"worker_id\":\"w1\"},\"tasks\":[],\"type\":\"source\"},"
+            + "\"info\":{\"name\":\"my-connector\",\"config\":{\"name\":\"my-connector\",\"tasks.max\":\"1\"},\"tasks\":[],\"type\":\"source\"}}}";
+    private static final String STATUS = "{\"name\":\"my-connector\",\"connector\":{\"state\":\"PAUSED\",\"worker_id\":\"w1\"},\"tasks\":[],\"type\":\"source\"}";
+    private static final String CONFIG = "{\"name\":\"my-connector\",\"tasks.max\":\"2\"}";
+
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static volatile boolean expandSupported;
+    private static final List<String> REQUESTS = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    public static void before() throws Exception {
+        vertx = Vertx.vertx();
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        server = vertx.createHttpServer()
+                .requestHandler(request -> {
+                    REQUESTS.add(request.method() + " " + request.path());
+                    String body;
+                    if (request.path().equals("/connectors")) {
+                        body = expandSupported ? EXPANDED : "[\"my-connector\"]";
+                    } else if (request.path().endsWith("/status")) {
+                        body = STATUS;
+                    } else if (request.path().endsWith("/config")) {
+                        body = CONFIG;
+                    } else if (request.path().endsWith("/pause")) {
+                        request.response().setStatusCode(202).end();
+                        return;
+                    } else {
+                        request.response().setStatusCode(404).end();
+                        return;
+                    }
+                    request.response()
+                            .setStatusCode(request.method() == HttpMethod.PUT ? 201 : 200)
+                            .putHeader("Content-Type", "application/json")
+                            .end(body);
+                })
+                .listen(0, res -> started.complete(null));
+        started.get(30, TimeUnit.SECONDS);
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void reset() {
+        REQUESTS.clear();
+    }
+
+    @Test
+    public void testStatusAndConfigAreServedFromSnapshot(VertxTestContext context) {
+        expandSupported = true;
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        int port = server.actualPort();
+
+        Checkpoint async = context.checkpoint();
+        api.list("localhost", port)
+            .onComplete(context.succeeding(names -> context.verify(() -> assertThat(names, is(List.of("my-connector"))))))
+            .compose(names -> api.status("localhost", port, "my-connector"))
+            .onComplete(context.succeeding(status -> context.verify(() ->
+                    assertThat(((Map<?, ?>) status.get("connector")).get("state"), is("RUNNING")))))
+            .compose(status -> api.getConnectorConfig("localhost", port, "my-connector"))
+            .onComplete(context.succeeding(config -> context.verify(() -> {
+                assertThat(config.get("tasks.max"), is("1"));
+                assertThat(REQUESTS, is(List.of("GET /connectors")));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testChangedConnectorIsNotServedFromSnapshot(VertxTestContext context) {
+        expandSupported = true;
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        int port = server.actualPort();
+
+        Checkpoint async = context.checkpoint();
+        api.list("localhost", port)
+            .compose(names -> api.pause("localhost", port, "my-connector"))
+            .compose(ignored -> api.status("localhost", port, "my-connector"))
+            .onComplete(context.succeeding(status -> context.verify(() -> {
+                assertThat(((Map<?, ?>) status.get("connector")).get("state"), is("PAUSED"));
+                assertThat(REQUESTS.get(REQUESTS.size() - 1), is("GET /connectors/my-connector/status"));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFallbackWithoutExpandSupport(VertxTestContext context) {
+        expandSupported = false;
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        int port = server.actualPort();
+
+        Checkpoint async = context.checkpoint();
+        api.list("localhost", port)
+            .onComplete(context.succeeding(names -> context.verify(() -> assertThat(names, is(List.of("my-connector"))))))
+            .compose(names -> api.getConnectorConfig("localhost", port, "my-connector"))
+            .onComplete(context.succeeding(config -> context.verify(() -> {
+                assertThat(config.get("tasks.max"), is("2"));
+                assertThat(REQUESTS, is(List.of("GET /connectors", "GET /connectors/my-connector/config")));
+                async.flag();
+            })));
+    }
+}
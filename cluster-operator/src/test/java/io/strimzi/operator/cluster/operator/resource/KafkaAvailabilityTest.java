@@ -13,10 +13,13 @@ import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.PartitionReassignment;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
@@ -29,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -36,12 +40,15 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -52,6 +59,7 @@ public class KafkaAvailabilityTest {
         private Throwable listTopicsResult;
         private Map<String, Throwable> describeTopicsResult = new HashMap<>(1);
         private Map<ConfigResource, Throwable> describeConfigsResult = new HashMap<>(1);
+        private Map<TopicPartition, PartitionReassignment> reassignments = new HashMap<>(1);
 
         class TSB {
             class PSB {
@@ -174,6 +182,13 @@ public class KafkaAvailabilityTest {
             return this;
         }
 
+        KSB reassignment(String topic, int partition, int... addingReplicas) {
+            List<Integer> adding = Arrays.stream(addingReplicas).boxed().collect(Collectors.toList());
+            reassignments.put(new TopicPartition(topic, partition), new PartitionReassignment(Arrays.stream(topics.get(topic).partitions.get(partition).replicaOn).boxed().collect(Collectors.toList()),
+                    adding, Collections.emptyList()));
+            return this;
+        }
+
         KSB describeConfigsResult(ConfigResource config, Throwable t) {
             describeConfigsResult.put(config, t);
             return this;
@@ -199,7 +214,7 @@ public class KafkaAvailabilityTest {
                 if (throwable != null) {
                     when(dtr.all()).thenReturn(failedFuture(throwable));
                 } else {
-                    Map<String, TopicDescription> tds = topics.entrySet().stream().collect(Collectors.toMap(
+                    Map<String, TopicDescription> tds = topics.entrySet().stream().filter(e -> topicNames.contains(e.getKey())).collect(Collectors.toMap(
                         e -> e.getKey(),
                         e -> {
                             TSB tsb = e.getValue();
@@ -264,6 +279,10 @@ public class KafkaAvailabilityTest {
 
             mockDescribeTopics(ac);
 
+            ListPartitionReassignmentsResult lprr = mock(ListPartitionReassignmentsResult.class);
+            when(lprr.reassignments()).thenAnswer(invocation -> KafkaFuture.completedFuture(new HashMap<>(reassignments)));
+            when(ac.listPartitionReassignments()).thenReturn(lprr);
+
             mockDescribeConfigs(ac);
 
             return ac;
@@ -639,4 +658,206 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testChecksRefreshOnlyTopicsOnBroker(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, all the replicas being in sync"));
+                // Broker 2 is being restarted
+                ksb.addNewTopic("A", false).addNewPartition(0).isr(0, 1);
+                return kafkaAvailability.canRoll(1);
+            })
+            .compose(canRoll -> {
+                context.verify(() -> assertFalse(canRoll, "broker 1 should not be rollable, A/0 being at min isr"));
+                return kafkaAvailability.canRoll(3);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertTrue(canRoll, "broker 3 should be rollable, not hosting A");
+
+                // The topics are listed when loading the index and for each check
+                verify(ac, times(4)).listTopics(any());
+                verify(ac).describeTopics(new HashSet<>(Arrays.asList("A")));
+                verify(ac, times(2)).describeTopics(new HashSet<>(Arrays.asList("A", "B")));
+                verify(ac).describeTopics(new HashSet<>(Arrays.asList("B")));
+                // The min.insync.replicas of each topic is described only once
+                verify(ac, times(2)).describeConfigs(any());
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testAllTopicsAreDescribedAgainWhenTopicIsDeleted(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 3)
+                        .leader(0)
+                        .isr(0, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.relatedBrokers(0)
+            .compose(relatedBrokers -> {
+                context.verify(() -> assertThat(relatedBrokers, is(new HashSet<>(Arrays.asList(1, 2, 3)))));
+                ksb.topics.remove("B");
+                ksb.describeTopicsResult("B", new UnknownTopicOrPartitionException());
+                return kafkaAvailability.canRoll(0);
+            })
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, being minisr = 1"));
+                return kafkaAvailability.relatedBrokers(0);
+            })
+            .onComplete(context.succeeding(relatedBrokers -> context.verify(() -> {
+                assertThat(relatedBrokers, is(new HashSet<>(Arrays.asList(1, 2))));
+                // The topics are listed when loading the index and for each check
+                verify(ac, times(4)).listTopics(any());
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testTopicCreatedAfterFirstCheckIsChecked(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, all the replicas being in sync"));
+                ksb.addNewTopic("C", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition();
+                return kafkaAvailability.canRoll(0);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertFalse(canRoll, "broker 0 should not be rollable, C/0 being at min isr");
+                verify(ac).describeTopics(new HashSet<>(Arrays.asList("A", "C")));
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testTopicReassignedOntoBrokerIsChecked(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic()
+                .addBroker(0);
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, hosting no replicas"));
+                // A/0 is being moved onto broker 0, which is not in sync yet
+                ksb.addNewTopic("A", false).addNewPartition(0).replicaOn(0, 1, 2, 3).isr(1);
+                ksb.reassignment("A", 0, 0);
+                return kafkaAvailability.canRoll(0);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertFalse(canRoll, "broker 0 should not be rollable, A/0 being under min isr");
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testRelatedBrokersReflectReassignments(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(2, 3)
+                        .leader(2)
+                        .isr(2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.relatedBrokers(0)
+            .compose(relatedBrokers -> {
+                context.verify(() -> assertThat(relatedBrokers, is(new HashSet<>(Arrays.asList(1)))));
+                // A/0 has been moved from broker 1 to broker 2
+                ksb.addNewTopic("A", false).addNewPartition(0).replicaOn(0, 2).isr(0, 2);
+                return kafkaAvailability.relatedBrokers(0);
+            })
+            .compose(relatedBrokers -> {
+                context.verify(() -> assertThat(relatedBrokers, is(new HashSet<>(Arrays.asList(2)))));
+                // B/0 is being moved onto broker 0
+                ksb.addNewTopic("B", false).addNewPartition(0).replicaOn(0, 2, 3).isr(2, 3);
+                ksb.reassignment("B", 0, 0);
+                return kafkaAvailability.relatedBrokers(0);
+            })
+            .onComplete(context.succeeding(relatedBrokers -> context.verify(() -> {
+                assertThat(relatedBrokers, is(new HashSet<>(Arrays.asList(2, 3))));
+                a.flag();
+            })));
+    }
 }
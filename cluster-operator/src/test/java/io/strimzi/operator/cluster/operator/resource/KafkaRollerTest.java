@@ -7,10 +7,12 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -22,13 +24,19 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -36,7 +44,13 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.DisconnectException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -65,6 +79,8 @@ public class KafkaRollerTest {
 
     private static Vertx vertx;
     private List<String> restarted;
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricsProvider metrics = new MicrometerMetricsProvider(registry);
 
     @BeforeAll
     public static void before() {
@@ -440,6 +456,106 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testParallelRollDoesNotRollPodsSharingPartitionsTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        // Pod 0 shares partitions with pods 1 and 4, pod 2 shares partitions with pod 3
+        List<TopicDescription> topics = singletonList(new TopicDescription("my-topic", false, asList(
+                partition(0, 0, 1),
+                partition(1, 2, 3),
+                partition(2, 4, 0))));
+        Set<Integer> rolling = new HashSet<>();
+        AtomicInteger maxRolling = new AtomicInteger();
+        List<Set<Integer>> conflicts = Collections.synchronizedList(new ArrayList<>());
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true), topics, 2, -1) {
+            @Override
+            protected Future<Void> restart(Pod pod) {
+                int podId = podName2Number(pod.getMetadata().getName());
+                synchronized (rolling) {
+                    for (Integer other : rolling) {
+                        if (asList(asList(0, 1), asList(2, 3), asList(0, 4)).stream().anyMatch(p -> p.contains(podId) && p.contains(other))) {
+                            conflicts.add(new HashSet<>(asList(podId, other)));
+                        }
+                    }
+                    rolling.add(podId);
+                    maxRolling.set(Math.max(maxRolling.get(), rolling.size()));
+                }
+                super.restart(pod);
+                Promise<Void> restarted = Promise.promise();
+                vertx.setTimer(200, timerId -> {
+                    synchronized (rolling) {
+                        rolling.remove(podId);
+                    }
+                    restarted.complete();
+                });
+                return restarted.future();
+            }
+        };
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(new HashSet<>(restarted()), is(new HashSet<>(asList(0, 1, 2, 3, 4))));
+                assertThat(conflicts, is(emptyList()));
+                assertThat(maxRolling.get(), is(2));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testControllerLookupsReuseAdminClientOfPod(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        // No controllers, so that the controller is looked up with the admin clients
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps);
+        kafkaRoller.describedController = 2;
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(asList(0, 1, 3, 4, 2)));
+                // The controller was looked up more than once on pod 2, but with the same admin client
+                assertThat(kafkaRoller.describeClusterCalls.get() > 5, is(true));
+                assertThat(kafkaRoller.adminClientBootstraps.stream().filter(bootstrap -> bootstrap.size() == 1).count(), is(5L));
+                assertThat(registry.get("strimzi.kafka.roller.admin.client.setup").tag("outcome", "success").timer().count(), is(5L));
+                assertThat(registry.get("strimzi.kafka.roller.admin.client.setup").tag("outcome", "failure").timer().count(), is(0L));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFailedAdminClientSetupIsRecorded(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps);
+        kafkaRoller.describedController = 2;
+        // The first controller lookup through the admin client of pod 1 fails
+        kafkaRoller.failingDescribeCluster.add(1);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(registry.get("strimzi.kafka.roller.admin.client.setup").tag("outcome", "failure").timer().count(), is(1L));
+                // A new admin client was created for pod 1 after the failure
+                assertThat(registry.get("strimzi.kafka.roller.admin.client.setup").tag("outcome", "success").timer().count(), is(5L));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    private static TopicPartitionInfo partition(int partition, int... replicas) {
+        List<Node> nodes = new ArrayList<>();
+        for (int replica : replicas) {
+            nodes.add(new Node(replica, "broker-" + replica, 9091));
+        }
+        return new TopicPartitionInfo(partition, nodes.get(0), nodes, nodes);
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet sts, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(sts, null, null, podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -516,7 +632,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -572,7 +688,12 @@ public class KafkaRollerTest {
         private final Function<Integer, Throwable> controllerException;
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
+        private final Collection<TopicDescription> topics;
         private final int[] controllers;
+        private final List<List<Integer>> adminClientBootstraps = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger describeClusterCalls = new AtomicInteger();
+        private volatile int describedController = -1;
+        private final Set<Integer> failingDescribeCluster = ConcurrentHashMap.newKeySet();
 
         private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                                    PodOperator podOps,
@@ -583,9 +704,26 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, emptyList(), 1, controllers);
+        }
+
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   Collection<TopicDescription> topics,
+                                   int maxParallelism,
+                                   int... controllers) {
             super(KafkaRollerTest.vertx, new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion());
+                sts, clusterCaCertSecret, coKeySecret, new DefaultAdminClientProvider(), "", "", KafkaVersionTestUtils.getLatestVersion(),
+                maxParallelism, metrics);
+            this.topics = topics;
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -604,7 +742,18 @@ public class KafkaRollerTest {
             if (exception != null) {
                 throw new ForceableProblem("An error while try to create the admin client", exception);
             }
+            adminClientBootstraps.add(bootstrapBrokers);
             Admin ac = mock(AdminClient.class, invocation -> {
+                if ("describeCluster".equals(invocation.getMethod().getName())) {
+                    describeClusterCalls.incrementAndGet();
+                    if (bootstrapBrokers.size() == 1 && failingDescribeCluster.remove(bootstrapBrokers.get(0))) {
+                        KafkaFutureImpl<Node> failed = new KafkaFutureImpl<>();
+                        failed.completeExceptionally(new DisconnectException("Connection lost"));
+                        return mock(DescribeClusterResult.class, controllerInvocation -> failed);
+                    }
+                    Node controller = new Node(describedController, "localhost", 9091);
+                    return mock(DescribeClusterResult.class, controllerInvocation -> KafkaFuture.completedFuture(controller));
+                }
                 if ("close".equals(invocation.getMethod().getName())) {
                     Admin mock = (Admin) invocation.getMock();
                     unclosedAdminClients.remove(mock);
@@ -624,12 +773,17 @@ public class KafkaRollerTest {
             return new KafkaAvailability(null) {
                 @Override
                 protected Future<Set<String>> topicNames() {
+                    return succeededFuture(topics.stream().map(TopicDescription::name).collect(Collectors.toSet()));
+                }
+
+                @Override
+                protected Future<Set<String>> reassigningTopics(int podId) {
                     return succeededFuture(Collections.emptySet());
                 }
 
                 @Override
                 protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
-                    return succeededFuture(Collections.emptySet());
+                    return succeededFuture(topics);
                 }
 
                 @Override
@@ -640,7 +794,10 @@ public class KafkaRollerTest {
         }
 
         @Override
-        int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws ForceableProblem {
+        int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws Exception {
+            if (controllers.length == 0) {
+                return super.controller(podId, timeout, unit, restartContext);
+            }
             Throwable throwable = controllerException.apply(podId);
             if (throwable != null) {
                 throw new ForceableProblem("An error while trying to determine the cluster controller from pod " + podName(podId), throwable);
@@ -0,0 +1,148 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class PooledHttpClientTest {
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static final AtomicInteger CONNECTIONS = new AtomicInteger(0);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricsProvider metrics = new MicrometerMetricsProvider(registry);
+
+    @BeforeAll
+    public static void before() throws Exception {
+        vertx = Vertx.vertx();
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        server = vertx.createHttpServer()
+                .connectionHandler(connection -> CONNECTIONS.incrementAndGet())
+                .requestHandler(request -> {
+                    if (request.path().equals("/slow")) {
+                        // Never respond, so that the request times out
+                        return;
+                    }
+                    request.response().end("ok");
+                })
+                .listen(0, res -> started.complete(null));
+        started.get(30, TimeUnit.SECONDS);
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @SuppressWarnings("deprecation")
+    private Future<String> get(PooledHttpClient client, String path) {
+        return client.request("GET " + path, (httpClient, result) -> httpClient
+                .get(server.actualPort(), "localhost", path, response -> response.bodyHandler(body -> result.complete(body.toString())))
+                .exceptionHandler(result::tryFail)
+                .setTimeout(client.getRequestTimeoutMs())
+                .end());
+    }
+
+    @Test
+    public void testConnectionsAreReused(VertxTestContext context) {
+        PooledHttpClient client = new PooledHttpClient(vertx, "Test", 1, false, 10_000, false, metrics);
+        CONNECTIONS.set(0);
+
+        Checkpoint checkpoint = context.checkpoint();
+        get(client, "/first")
+            .compose(body -> get(client, "/second"))
+            .compose(body -> get(client, "/first"))
+            .onComplete(context.succeeding(body -> context.verify(() -> {
+                assertThat(body, is("ok"));
+                assertThat(CONNECTIONS.get(), is(1));
+
+                assertThat(registry.get("strimzi.http.requests.duration")
+                        .tag("component", "Test").tag("endpoint", "GET /first").tag("outcome", "success")
+                        .timer().count(), is(2L));
+                assertThat(registry.get("strimzi.http.requests.duration")
+                        .tag("component", "Test").tag("endpoint", "GET /second").tag("outcome", "success")
+                        .timer().count(), is(1L));
+                assertThat(registry.get("strimzi.http.requests.inflight")
+                        .tag("component", "Test").tag("endpoint", "GET /first")
+                        .gauge().value(), is(0.0));
+
+                client.close();
+                checkpoint.flag();
+            })));
+    }
+
+    @Test
+    public void testRequestTimeout(VertxTestContext context) {
+        PooledHttpClient client = new PooledHttpClient(vertx, "Test", 1, false, 100, false, metrics);
+
+        Checkpoint checkpoint = context.checkpoint();
+        get(client, "/slow")
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TimeoutException.class));
+
+                assertThat(registry.get("strimzi.http.requests.duration")
+                        .tag("component", "Test").tag("endpoint", "GET /slow").tag("outcome", "failure")
+                        .timer().count(), is(1L));
+
+                client.close();
+                checkpoint.flag();
+            })));
+    }
+
+    @Test
+    public void testOperationFailure(VertxTestContext context) {
+        PooledHttpClient client = new PooledHttpClient(vertx, "Test", false);
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.<String>request("GET /broken", (httpClient, result) -> {
+            throw new IllegalStateException("broken");
+        }).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e, instanceOf(IllegalStateException.class));
+
+            client.close();
+            checkpoint.flag();
+        })));
+    }
+
+    @Test
+    public void testSharedClient() {
+        PooledHttpClient client = PooledHttpClient.shared(vertx, "Test", () -> new PooledHttpClient(vertx, "Test", false));
+
+        assertThat(PooledHttpClient.shared(vertx, "Test", () -> new PooledHttpClient(vertx, "Test", false)), is(sameInstance(client)));
+        assertThat(PooledHttpClient.shared(vertx, "Other", () -> new PooledHttpClient(vertx, "Other", false)), is(not(sameInstance(client))));
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new PooledHttpClient(vertx, "Test", 0, false, 1_000, false, metrics));
+        assertThrows(IllegalArgumentException.class, () -> new PooledHttpClient(vertx, "Test", 1, false, 0, false, metrics));
+    }
+}
@@ -169,4 +169,11 @@ public class CruiseControlClientTest {
             })));
     }
 
+
+    @Test
+    public void testClientWithoutIdleTimeout(Vertx vertx) {
+        // The default timeout is used as before
+        assertThat(new CruiseControlApiImpl(vertx, -1), is(notNullValue()));
+        assertThat(new CruiseControlApiImpl(vertx, 0), is(notNullValue()));
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the config models of the Kafka broker versions. The config models are read from the
+ * {@code kafka-<version>-config-model.json} classpath resources the first time they are needed for a given version
+ * and are then shared.
+ */
+public class ConfigModelRegistry {
+    private static final Map<String, IndexedConfigModels> MODELS = new ConcurrentHashMap<>();
+
+    private ConfigModelRegistry() { }
+
+    /**
+     * Gets the config models for the given version of the Kafka broker.
+     *
+     * @param version The broker version.
+     * @return The indexed config models for that broker version.
+     */
+    public static IndexedConfigModels forVersion(String version) {
+        return MODELS.computeIfAbsent(version, ConfigModelRegistry::read);
+    }
+
+    private static IndexedConfigModels read(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
+        try (InputStream in = ConfigModelRegistry.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new RuntimeException("Classpath resource " + name + " does not exist");
+            }
+
+            ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
+            if (!version.equals(configModels.getVersion())) {
+                throw new RuntimeException("Incorrect version");
+            }
+            return new IndexedConfigModels(configModels);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading from classpath resource " + name, e);
+        }
+    }
+}
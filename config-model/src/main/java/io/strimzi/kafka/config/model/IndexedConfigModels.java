@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable view of the {@link ConfigModels} of a given version of the Kafka broker, with the configuration
+ * parameters indexed by their scope. Instances are obtained from the {@link ConfigModelRegistry} and shared, so the
+ * config models should not be modified.
+ */
+public class IndexedConfigModels {
+    private final String version;
+    private final Map<String, ConfigModel> configs;
+    private final Map<Scope, Set<String>> configsByScope;
+    private final Set<String> dynamicallyUpdatableConfigs;
+
+    /**
+     * @param configModels The config models to index.
+     */
+    public IndexedConfigModels(ConfigModels configModels) {
+        this.version = configModels.getVersion();
+        this.configs = Collections.unmodifiableMap(new LinkedHashMap<>(configModels.getConfigs()));
+
+        Map<Scope, Set<String>> byScope = new EnumMap<>(Scope.class);
+        for (Scope scope : Scope.values()) {
+            byScope.put(scope, new HashSet<>());
+        }
+        for (Map.Entry<String, ConfigModel> config : configs.entrySet()) {
+            Scope scope = config.getValue().getScope();
+            if (scope != null) {
+                byScope.get(scope).add(config.getKey());
+            }
+        }
+
+        Set<String> dynamic = new HashSet<>(byScope.get(Scope.PER_BROKER));
+        dynamic.addAll(byScope.get(Scope.CLUSTER_WIDE));
+        this.dynamicallyUpdatableConfigs = Collections.unmodifiableSet(dynamic);
+
+        byScope.replaceAll((scope, names) -> Collections.unmodifiableSet(names));
+        this.configsByScope = Collections.unmodifiableMap(byScope);
+    }
+
+    /**
+     * @return The version of the Kafka broker.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * @return An unmodifiable map from configuration parameter name to its model.
+     */
+    public Map<String, ConfigModel> getConfigs() {
+        return configs;
+    }
+
+    /**
+     * @param name The name of the configuration parameter.
+     * @return The model of the parameter or null if the parameter is not a known broker configuration parameter.
+     */
+    public ConfigModel get(String name) {
+        return configs.get(name);
+    }
+
+    /**
+     * @param name The name of the configuration parameter.
+     * @return True if the parameter is a known broker configuration parameter. Unknown parameters might be consumed
+     * by broker plugins.
+     */
+    public boolean isKnown(String name) {
+        return configs.containsKey(name);
+    }
+
+    /**
+     * @param scope The scope.
+     * @return The names of the configuration parameters with the given scope.
+     */
+    public Set<String> withScope(Scope scope) {
+        return configsByScope.get(scope);
+    }
+
+    /**
+     * @return The names of the configuration parameters which can be changed only by restarting the broker.
+     */
+    public Set<String> readOnlyConfigs() {
+        return withScope(Scope.READ_ONLY);
+    }
+
+    /**
+     * @return The names of the configuration parameters which can be changed dynamically per broker.
+     */
+    public Set<String> perBrokerConfigs() {
+        return withScope(Scope.PER_BROKER);
+    }
+
+    /**
+     * @return The names of the configuration parameters which can be changed dynamically for the whole cluster.
+     */
+    public Set<String> clusterWideConfigs() {
+        return withScope(Scope.CLUSTER_WIDE);
+    }
+
+    /**
+     * @return The names of the configuration parameters which can be changed dynamically, either per broker or for
+     * the whole cluster.
+     */
+    public Set<String> dynamicallyUpdatableConfigs() {
+        return dynamicallyUpdatableConfigs;
+    }
+
+    /**
+     * @param name The name of the configuration parameter.
+     * @return True if the parameter is a known broker configuration parameter which is read-only.
+     */
+    public boolean isReadOnly(String name) {
+        return readOnlyConfigs().contains(name);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConfigModelRegistryTest {
+    @Test
+    public void testConfigModelsAreIndexedByScope() {
+        IndexedConfigModels models = ConfigModelRegistry.forVersion("1.0.0");
+
+        assertThat(models.getVersion(), is("1.0.0"));
+        assertThat(models.getConfigs().size(), is(4));
+        assertThat(models.get("num.io.threads").getMinimum(), is(1));
+        assertThat(models.get("unknown.option"), is(nullValue()));
+
+        assertThat(models.isKnown("log.retention.ms"), is(true));
+        assertThat(models.isKnown("unknown.option"), is(false));
+
+        assertThat(models.readOnlyConfigs(), is(Set.of("auto.create.topics.enable")));
+        assertThat(models.perBrokerConfigs(), is(Set.of("advertised.listeners")));
+        assertThat(models.clusterWideConfigs(), is(Set.of("log.retention.ms", "num.io.threads")));
+        assertThat(models.dynamicallyUpdatableConfigs(), is(Set.of("advertised.listeners", "log.retention.ms", "num.io.threads")));
+
+        assertThat(models.isReadOnly("auto.create.topics.enable"), is(true));
+        assertThat(models.isReadOnly("advertised.listeners"), is(false));
+        assertThat(models.isReadOnly("unknown.option"), is(false));
+    }
+
+    @Test
+    public void testConfigModelsAreShared() {
+        IndexedConfigModels models = ConfigModelRegistry.forVersion("1.0.0");
+
+        assertThat(models, is(notNullValue()));
+        assertThat(ConfigModelRegistry.forVersion("1.0.0"), is(sameInstance(models)));
+    }
+
+    @Test
+    public void testConfigModelsAreUnmodifiable() {
+        IndexedConfigModels models = ConfigModelRegistry.forVersion("1.0.0");
+
+        assertThrows(UnsupportedOperationException.class, () -> models.getConfigs().remove("log.retention.ms"));
+        assertThrows(UnsupportedOperationException.class, () -> models.readOnlyConfigs().add("log.retention.ms"));
+    }
+
+    @Test
+    public void testUnknownVersion() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> ConfigModelRegistry.forVersion("0.0.1"));
+        assertThat(e.getMessage(), is("Classpath resource /kafka-0.0.1-config-model.json does not exist"));
+    }
+
+    @Test
+    public void testIncorrectVersion() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> ConfigModelRegistry.forVersion("1.0.1"));
+        assertThat(e.getMessage(), is("Incorrect version"));
+    }
+}
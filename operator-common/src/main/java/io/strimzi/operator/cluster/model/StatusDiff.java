@@ -4,56 +4,102 @@
  */
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.Status;
+import io.strimzi.operator.common.ReconciliationTimings;
 import io.strimzi.operator.common.operator.resource.AbstractResourceDiff;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.regex.Pattern;
-
-import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
+/**
+ * Compares two statuses field by field on the typed status model. The {@code lastTransitionTime} of the conditions
+ * is ignored. The {@link ReconciliationTimings} condition differs after every reconciliation, so it is ignored as
+ * well and gets written only together with another change of the status. Otherwise every status update would
+ * trigger another reconciliation.
+ */
 public class StatusDiff extends AbstractResourceDiff {
 
     private static final Logger log = LogManager.getLogger(StatusDiff.class.getName());
 
-    // use SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS just for better human readability in the logs
-    public static final ObjectMapper PATCH_MAPPER = patchMapper().copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
-
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/conditions/[0-9]+/lastTransitionTime)$");
-
     private final boolean isEmpty;
 
     public StatusDiff(Status current, Status desired) {
-        JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
-        JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
+        this.isEmpty = equalStatuses(current, desired);
+    }
 
-        int num = 0;
+    private static boolean equalStatuses(Status current, Status desired) {
+        if (current == desired) {
+            return true;
+        } else if (current == null || desired == null || current.getClass() != desired.getClass()) {
+            log.debug("Status differs: current status is {} and desired status is {}", current, desired);
+            return false;
+        }
 
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
+        if (current.getObservedGeneration() != desired.getObservedGeneration()) {
+            log.debug("Status differs: observedGeneration changed from {} to {}", current.getObservedGeneration(), desired.getObservedGeneration());
+            return false;
+        }
 
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
-                log.debug("Ignoring Status diff {}", d);
-                continue;
-            }
+        if (!equalConditions(current.getConditions(), desired.getConditions())) {
+            log.debug("Status differs: conditions changed from {} to {}", current.getConditions(), desired.getConditions());
+            return false;
+        }
 
-            if (log.isDebugEnabled()) {
-                log.debug("Status differs: {}", d);
-                log.debug("Current Status path {} has value {}", pathValue, lookupPath(source, pathValue));
-                log.debug("Desired Status path {} has value {}", pathValue, lookupPath(target, pathValue));
-            }
+        if (!current.getAdditionalProperties().equals(desired.getAdditionalProperties())) {
+            log.debug("Status differs: additional properties changed from {} to {}", current.getAdditionalProperties(), desired.getAdditionalProperties());
+            return false;
+        }
 
-            num++;
+        // The equals() methods of the Status subclasses compare only the fields declared in the subclasses, the
+        // common fields of the Status class are compared above
+        if (!current.equals(desired)) {
+            log.debug("Status differs: current status is {} and desired status is {}", current, desired);
+            return false;
         }
 
-        this.isEmpty = num == 0;
+        return true;
+    }
+
+    private static boolean equalConditions(List<Condition> currentConditions, List<Condition> desiredConditions) {
+        if (currentConditions == null || desiredConditions == null) {
+            return currentConditions == desiredConditions;
+        }
+
+        List<Condition> current = withoutTimings(currentConditions);
+        List<Condition> desired = withoutTimings(desiredConditions);
+
+        if (current.size() != desired.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < current.size(); i++) {
+            Condition c = current.get(i);
+            Condition d = desired.get(i);
+
+            if (c == null || d == null) {
+                if (c != d) {
+                    return false;
+                }
+            } else if (!Objects.equals(c.getType(), d.getType())
+                    || !Objects.equals(c.getStatus(), d.getStatus())
+                    || !Objects.equals(c.getReason(), d.getReason())
+                    || !Objects.equals(c.getMessage(), d.getMessage())
+                    || !c.getAdditionalProperties().equals(d.getAdditionalProperties())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static List<Condition> withoutTimings(List<Condition> conditions) {
+        return conditions.stream()
+                .filter(condition -> condition == null || !ReconciliationTimings.CONDITION_TYPE.equals(condition.getType()))
+                .collect(Collectors.toList());
     }
 
     /**
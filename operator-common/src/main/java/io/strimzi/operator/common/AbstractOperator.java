@@ -29,22 +29,28 @@ import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.shareddata.Lock;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static io.strimzi.operator.common.Util.async;
@@ -75,6 +81,7 @@ public abstract class AbstractOperator<
     private static final Logger log = LogManager.getLogger(AbstractOperator.class);
 
     protected static final int LOCK_TIMEOUT_MS = 10000;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = 10;
     public static final String METRICS_PREFIX = "strimzi.";
 
     protected final Vertx vertx;
@@ -90,8 +97,15 @@ public abstract class AbstractOperator<
     private final AtomicInteger resourceCounter;
     private final Timer reconciliationsTimer;
     private final Map<Tags, AtomicInteger> resourcesStateCounter;
+    private final Map<String, Timer> stepTimers;
+    private final Map<Reconciliation, ReconciliationTimings> reconciliationTimings;
+    private final ReconciliationQueue queue;
 
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics) {
+        this(vertx, kind, resourceOperator, metrics, DEFAULT_MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, int maxConcurrentReconciliations) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
@@ -129,6 +143,10 @@ public abstract class AbstractOperator<
                 metricTags);
 
         resourcesStateCounter = new ConcurrentHashMap<>();
+        stepTimers = new ConcurrentHashMap<>();
+        reconciliationTimings = new ConcurrentHashMap<>();
+
+        queue = new ReconciliationQueue(vertx, kind, maxConcurrentReconciliations, metrics, this::reconcile);
     }
 
     @Override
@@ -218,12 +236,19 @@ public abstract class AbstractOperator<
 
                 log.info("{}: {} {} will be checked for creation or modification", reconciliation, kind, name);
 
+                ReconciliationTimings timings = new ReconciliationTimings();
+                reconciliationTimings.put(reconciliation, timings);
+
                 createOrUpdate(reconciliation, cr)
                         .onComplete(res -> {
+                            reconciliationTimings.remove(reconciliation);
+                            log.debug("{}: Reconciliation steps took {}", reconciliation, timings);
+
                             if (res.succeeded()) {
                                 S status = res.result();
 
                                 addWarningsToStatus(status, unknownAndDeprecatedConditions);
+                                addTimingsToStatus(cr, status, timings);
                                 updateStatus(reconciliation, status).onComplete(statusResult -> {
                                     if (statusResult.succeeded()) {
                                         createOrUpdate.complete();
@@ -236,6 +261,7 @@ public abstract class AbstractOperator<
                                     ReconciliationException e = (ReconciliationException) res.cause();
                                     Status status = e.getStatus();
                                     addWarningsToStatus(status, unknownAndDeprecatedConditions);
+                                    addTimingsToStatus(cr, status, timings);
 
                                     log.error("{}: createOrUpdate failed", reconciliation, e.getCause());
 
@@ -275,12 +301,96 @@ public abstract class AbstractOperator<
         return result.future();
     }
 
+    /**
+     * Queues the reconciliation triggered by a watch event. It runs before any queued periodic reconciliations.
+     * When the resource is being reconciled, the events are coalesced into a single follow-up reconciliation which
+     * starts when the running one completes instead of waiting for the lock.
+     *
+     * @param reconciliation The reconciliation.
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    @Override
+    public Future<Void> enqueue(Reconciliation reconciliation) {
+        return queue.enqueue(reconciliation);
+    }
+
+    /**
+     * Queues the periodic reconciliations of the given resources. The reconciliations are spread randomly over the
+     * given time window and at most the configured number of them runs at the same time.
+     *
+     * @param trigger The cause of this reconciliation (for logging).
+     * @param desiredNames The resources to reconcile.
+     * @param spreadMs The time window in milliseconds over which the reconciliations are spread.
+     * @param handler Handler called on completion.
+     */
+    @Override
+    public void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, long spreadMs, Handler<AsyncResult<Void>> handler) {
+        getResourceCounter().set(desiredNames.size());
+
+        List<Reconciliation> reconciliations = desiredNames.stream()
+                .map(resourceRef -> new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName()))
+                .collect(Collectors.toList());
+
+        CompositeFuture.join(new ArrayList<>(queue.enqueuePeriodic(reconciliations, spreadMs)))
+                .map((Void) null)
+                .onComplete(handler);
+    }
+
     private void addWarningsToStatus(Status status, Set<Condition> unknownAndDeprecatedConditions)   {
         if (status != null)  {
             status.addConditions(unknownAndDeprecatedConditions);
         }
     }
 
+    private void addTimingsToStatus(T cr, Status status, ReconciliationTimings timings)   {
+        if (status != null && Annotations.booleanAnnotation(cr, Annotations.ANNO_STRIMZI_IO_RECONCILIATION_TIMINGS, false))  {
+            status.addCondition(timings.toCondition());
+        }
+    }
+
+    /**
+     * Runs a single step of the reconciliation and records how long it took. The duration is recorded in the
+     * {@code strimzi.reconciliations.step.duration} timer tagged with the kind, the step and the outcome, and in the
+     * timings of the reconciliation which are logged when the reconciliation completes.
+     *
+     * @param reconciliation    The reconciliation
+     * @param step              Name of the step
+     * @param supplier          Starts the step
+     * @param <R>               Type of the step result
+     *
+     * @return  Future which completes with the result of the step
+     */
+    protected <R> Future<R> timedStep(Reconciliation reconciliation, String step, Supplier<Future<R>> supplier) {
+        long startTime = System.nanoTime();
+        Future<R> result;
+
+        try {
+            result = supplier.get();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        return result.onComplete(res -> {
+            long durationNs = System.nanoTime() - startTime;
+            String outcome = res.succeeded() ? "success" : "failure";
+
+            stepTimer(step, outcome).record(durationNs, TimeUnit.NANOSECONDS);
+
+            ReconciliationTimings timings = reconciliationTimings.get(reconciliation);
+            if (timings != null) {
+                timings.record(step, TimeUnit.NANOSECONDS.toMillis(durationNs), res.succeeded());
+            }
+
+            log.trace("{}: Step {} completed with {} in {}ns", reconciliation, step, outcome, durationNs);
+        });
+    }
+
+    private Timer stepTimer(String step, String outcome) {
+        return stepTimers.computeIfAbsent(step + "/" + outcome, key -> metrics.timer(METRICS_PREFIX + "reconciliations.step.duration",
+                "The time individual steps of the reconciliation take to complete",
+                Tags.of(Tag.of("kind", kind()), Tag.of("step", step), Tag.of("outcome", outcome))));
+    }
+
     /**
      * Updates the Status field of the Kafka CR. It diffs the desired status against the current status and calls
      * the update only when there is any difference in non-timestamp fields.
@@ -33,6 +33,9 @@ public class Annotations {
     // This annotation with related possible values (approve, stop, refresh) is set by the user for interacting
     // with the rebalance operator in order to start, stop, or refresh rebalancing proposals and operations.
     public static final String ANNO_STRIMZI_IO_REBALANCE = STRIMZI_DOMAIN + "rebalance";
+    // When set to true on a custom resource, the duration of each reconciliation step is added to its status
+    // whenever the status changes
+    public static final String ANNO_STRIMZI_IO_RECONCILIATION_TIMINGS = STRIMZI_DOMAIN + "reconciliation-timings";
     @Deprecated
     public static final String ANNO_OP_STRIMZI_IO_MANUAL_ROLLING_UPDATE = "operator." + Annotations.STRIMZI_DOMAIN + "manual-rolling-update";
 
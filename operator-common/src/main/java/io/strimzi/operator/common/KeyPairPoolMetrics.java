@@ -0,0 +1,52 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.certs.KeyPairPool;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+
+/**
+ * Registers the metrics of a {@link KeyPairPool}
+ */
+public class KeyPairPoolMetrics {
+    private KeyPairPoolMetrics() { }
+
+    /**
+     * Registers the depth, refill and wait time metrics of the key pair pool
+     *
+     * @param pool      The key pair pool
+     * @param metrics   The metrics provider
+     */
+    public static void register(KeyPairPool pool, MetricsProvider metrics) {
+        MeterRegistry registry = metrics.meterRegistry();
+
+        Gauge.builder(METRICS_PREFIX + "key.pair.pool.depth", pool, KeyPairPool::depth)
+                .description("Number of pre-generated key pairs in the pool")
+                .register(registry);
+
+        Gauge.builder(METRICS_PREFIX + "key.pair.pool.size", pool, KeyPairPool::size)
+                .description("Maximum number of pre-generated key pairs in the pool")
+                .register(registry);
+
+        FunctionCounter.builder(METRICS_PREFIX + "key.pair.pool.refills", pool, KeyPairPool::generated)
+                .description("Number of key pairs generated by the refill threads of the pool")
+                .register(registry);
+
+        FunctionCounter.builder(METRICS_PREFIX + "key.pair.pool.misses", pool, KeyPairPool::misses)
+                .description("Number of key pairs generated when needed because the pool was empty")
+                .register(registry);
+
+        FunctionTimer.builder(METRICS_PREFIX + "key.pair.pool.wait", pool, KeyPairPool::taken, KeyPairPool::waitNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent waiting for a key pair from the pool")
+                .register(registry);
+    }
+}
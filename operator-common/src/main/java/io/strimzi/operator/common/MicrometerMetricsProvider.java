@@ -26,6 +26,15 @@ public class MicrometerMetricsProvider implements MetricsProvider {
         this.metrics = BackendRegistries.getDefaultNow();
     }
 
+    /**
+     * Constructor of the Micrometer metrics provider which uses the given registry, for example in tests
+     *
+     * @param metrics   The registry where the metrics are registered
+     */
+    public MicrometerMetricsProvider(MeterRegistry metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Returns the Micrometer MeterRegistry with all metrics
      *
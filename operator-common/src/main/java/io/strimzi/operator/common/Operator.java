@@ -42,6 +42,16 @@ public interface Operator {
      */
     Future<Void> reconcile(Reconciliation reconciliation);
 
+    /**
+     * Queues the reconciliation of the resource identified by the given reconciliation in response to a watch event.
+     * Operators which do not queue their reconciliations reconcile the resource immediately.
+     * @param reconciliation The resource.
+     * @return A Future is completed once the resource has been reconciled.
+     */
+    default Future<Void> enqueue(Reconciliation reconciliation) {
+        return reconcile(reconciliation);
+    }
+
     /**
      * Triggers the asynchronous reconciliation of all resources which this operator consumes.
      * The resources to reconcile are identified by {@link #allResourceNames(String)}.
@@ -50,9 +60,21 @@ public interface Operator {
      * @param handler Handler called on completion.
      */
     default void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        reconcileAll(trigger, namespace, 0, handler);
+    }
+
+    /**
+     * Triggers the asynchronous reconciliation of all resources which this operator consumes.
+     * The resources to reconcile are identified by {@link #allResourceNames(String)}.
+     * @param trigger The cause of this reconciliation (for logging).
+     * @param namespace The namespace to reconcile, or {@code *} to reconcile across all namespaces.
+     * @param spreadMs The time window in milliseconds over which the operator may spread the reconciliations.
+     * @param handler Handler called on completion.
+     */
+    default void reconcileAll(String trigger, String namespace, long spreadMs, Handler<AsyncResult<Void>> handler) {
         allResourceNames(namespace).onComplete(ar -> {
             if (ar.succeeded()) {
-                reconcileThese(trigger, ar.result(), handler);
+                reconcileThese(trigger, ar.result(), spreadMs, handler);
                 getPeriodicReconciliationsCounter().increment();
             } else {
                 handler.handle(ar.map((Void) null));
@@ -61,6 +83,10 @@ public interface Operator {
     }
 
     default void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, Handler<AsyncResult<Void>> handler) {
+        reconcileThese(trigger, desiredNames, 0, handler);
+    }
+
+    default void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, long spreadMs, Handler<AsyncResult<Void>> handler) {
         if (desiredNames.size() > 0) {
             List<Future> futures = new ArrayList<>();
             getResourceCounter().set(desiredNames.size());
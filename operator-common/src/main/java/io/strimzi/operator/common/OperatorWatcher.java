@@ -38,7 +38,7 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
             case MODIFIED:
                 Reconciliation reconciliation = new Reconciliation("watch", operator.kind(), namespace, name);
                 log.info("{}: {} {} in namespace {} was {}", reconciliation, operator.kind(), name, namespace, action);
-                operator.reconcile(reconciliation);
+                operator.enqueue(reconciliation);
                 break;
             case ERROR:
                 log.error("Failed {} {} in namespace{} ", operator.kind(), name, namespace);
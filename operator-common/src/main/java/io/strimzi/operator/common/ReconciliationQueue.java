@@ -0,0 +1,279 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+
+/**
+ * <p>Work queue for the reconciliations of a single kind of resource.</p>
+ *
+ * <ul>
+ * <li>At most {@code maxConcurrentReconciliations} reconciliations run at the same time. The others wait in the queue.
+ * <li>A resource is queued at most once. Queuing a resource which is already queued does not add another
+ *     reconciliation; the caller gets a future which completes when the queued reconciliation completes.
+ * <li>Reconciliations triggered by watch events run before the periodic reconciliations. A periodic reconciliation
+ *     which is still queued when a watch event for the same resource arrives is moved to the front of the queue.
+ * <li>Periodic reconciliations can be spread randomly over a time window so that they do not all start at the same
+ *     time.
+ * <li>A resource is never reconciled by two reconciliations from the queue at the same time. Watch events for a
+ *     resource which is being reconciled are coalesced into a single follow-up reconciliation which starts as soon as
+ *     the running one completes. Periodic reconciliations of a resource which is being reconciled are not queued at
+ *     all; the caller gets the future of the running reconciliation.
+ * </ul>
+ */
+public class ReconciliationQueue {
+    private static final Logger log = LogManager.getLogger(ReconciliationQueue.class);
+
+    private final Vertx vertx;
+    private final String kind;
+    private final int maxConcurrentReconciliations;
+    private final Function<Reconciliation, Future<Void>> reconciler;
+
+    private final Deque<Entry> watchQueue = new ArrayDeque<>();
+    private final Deque<Entry> periodicQueue = new ArrayDeque<>();
+    private final Map<NamespaceAndName, Entry> queued = new HashMap<>();
+    private final Map<NamespaceAndName, Entry> running = new HashMap<>();
+
+    private final AtomicInteger queuedGauge;
+    private final Counter coalescedCounter;
+
+    /**
+     * Constructor
+     *
+     * @param vertx                         Vert.x instance used for the timers of the spread periodic reconciliations
+     * @param kind                          Kind of the reconciled resources
+     * @param maxConcurrentReconciliations  Maximum number of reconciliations which run at the same time
+     * @param metrics                       Metrics provider used for the queue metrics
+     * @param reconciler                    Runs the reconciliation
+     */
+    public ReconciliationQueue(Vertx vertx, String kind, int maxConcurrentReconciliations, MetricsProvider metrics,
+                               Function<Reconciliation, Future<Void>> reconciler) {
+        if (maxConcurrentReconciliations < 1) {
+            throw new IllegalArgumentException("The maximum number of concurrent reconciliations has to be at least 1");
+        }
+
+        this.vertx = vertx;
+        this.kind = kind;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.reconciler = reconciler;
+
+        this.queuedGauge = metrics.gauge(METRICS_PREFIX + "reconciliations.queued",
+                "Number of reconciliations waiting in the queue",
+                Tags.of(Tag.of("kind", kind)));
+
+        this.coalescedCounter = metrics.counter(METRICS_PREFIX + "reconciliations.coalesced",
+                "Number of reconciliation requests merged into an already queued or running reconciliation",
+                Tags.of(Tag.of("kind", kind)));
+    }
+
+    /**
+     * Queues a reconciliation triggered by a watch event.
+     *
+     * @param reconciliation    The reconciliation
+     *
+     * @return  Future which completes when the reconciliation completes
+     */
+    public Future<Void> enqueue(Reconciliation reconciliation) {
+        Future<Void> result = add(reconciliation, true);
+        dispatch();
+        return result;
+    }
+
+    /**
+     * Queues periodic reconciliations. Each reconciliation is queued after a random delay between 0 and
+     * {@code spreadMs} milliseconds.
+     *
+     * @param reconciliations   The reconciliations
+     * @param spreadMs          The time window over which the reconciliations are spread or 0 to queue all of them
+     *                          immediately
+     *
+     * @return  Futures which complete when the reconciliations complete
+     */
+    public List<Future<Void>> enqueuePeriodic(List<Reconciliation> reconciliations, long spreadMs) {
+        List<Future<Void>> results = new ArrayList<>(reconciliations.size());
+
+        for (Reconciliation reconciliation : reconciliations) {
+            long delayMs = spreadMs > 0 ? ThreadLocalRandom.current().nextLong(spreadMs) : 0;
+
+            if (delayMs > 0) {
+                Promise<Void> result = Promise.promise();
+                results.add(result.future());
+
+                vertx.setTimer(delayMs, timerId -> {
+                    add(reconciliation, false).onComplete(result);
+                    dispatch();
+                });
+            } else {
+                results.add(add(reconciliation, false));
+            }
+        }
+
+        dispatch();
+        return results;
+    }
+
+    /**
+     * @return  The number of queued reconciliations
+     */
+    public synchronized int size() {
+        return queued.size();
+    }
+
+    private synchronized Future<Void> add(Reconciliation reconciliation, boolean watch) {
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+        Entry entry = queued.get(key);
+
+        if (entry == null) {
+            Entry current = running.get(key);
+
+            if (current != null && !watch) {
+                log.debug("{}: Reconciliation of {} {} is already running", reconciliation, kind, key);
+                coalescedCounter.increment();
+                return current.promise.future();
+            } else if (current != null) {
+                log.debug("{}: {} {} will be reconciled again when the running reconciliation completes", reconciliation, kind, key);
+            }
+
+            entry = new Entry(key, reconciliation);
+            queued.put(key, entry);
+            (watch ? watchQueue : periodicQueue).addLast(entry);
+        } else if (watch && periodicQueue.remove(entry)) {
+            log.debug("{}: Moving the queued reconciliation of {} {} to the front of the queue", reconciliation, kind, key);
+            coalescedCounter.increment();
+            watchQueue.addLast(entry);
+        } else {
+            log.debug("{}: Reconciliation of {} {} is already queued", reconciliation, kind, key);
+            coalescedCounter.increment();
+        }
+
+        queuedGauge.set(queued.size());
+        return entry.promise.future();
+    }
+
+    private void dispatch() {
+        List<Entry> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            while (running.size() < maxConcurrentReconciliations) {
+                Entry entry = poll(watchQueue);
+
+                if (entry == null) {
+                    entry = poll(periodicQueue);
+                }
+
+                if (entry == null) {
+                    break;
+                }
+
+                markRunning(entry);
+                toStart.add(entry);
+            }
+
+            queuedGauge.set(queued.size());
+        }
+
+        for (Entry entry : toStart) {
+            start(entry);
+        }
+    }
+
+    /**
+     * Removes and returns the first entry of the deque whose resource is not being reconciled. The entries which are
+     * skipped are follow-up reconciliations of running ones, so at most {@code maxConcurrentReconciliations} entries
+     * are skipped.
+     */
+    private Entry poll(Deque<Entry> deque) {
+        Iterator<Entry> it = deque.iterator();
+
+        while (it.hasNext()) {
+            Entry entry = it.next();
+
+            if (!running.containsKey(entry.key)) {
+                it.remove();
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    private void markRunning(Entry entry) {
+        queued.remove(entry.key);
+        running.put(entry.key, entry);
+    }
+
+    private void start(Entry entry) {
+        Future<Void> result;
+
+        try {
+            result = reconciler.apply(entry.reconciliation);
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        result.onComplete(res -> {
+            Entry followUp;
+
+            synchronized (this) {
+                running.remove(entry.key);
+
+                // The follow-up reconciliation of the same resource takes over the slot so that it is not overtaken
+                // by other queued reconciliations
+                followUp = queued.get(entry.key);
+                if (followUp != null) {
+                    if (!watchQueue.remove(followUp)) {
+                        periodicQueue.remove(followUp);
+                    }
+
+                    markRunning(followUp);
+                    queuedGauge.set(queued.size());
+                }
+            }
+
+            entry.promise.handle(res);
+
+            if (followUp != null) {
+                start(followUp);
+            } else {
+                dispatch();
+            }
+        });
+    }
+
+    /**
+     * Queued or running reconciliation
+     */
+    private static class Entry {
+        private final NamespaceAndName key;
+        private final Reconciliation reconciliation;
+        private final Promise<Void> promise = Promise.promise();
+
+        Entry(NamespaceAndName key, Reconciliation reconciliation) {
+            this.key = key;
+            this.reconciliation = reconciliation;
+        }
+    }
+}
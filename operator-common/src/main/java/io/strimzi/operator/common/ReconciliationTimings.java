@@ -0,0 +1,52 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.operator.common.operator.resource.StatusUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the durations of the individual steps of a single reconciliation. The collected timings are logged when
+ * the reconciliation completes and can be added to the status of the custom resource as a condition when requested
+ * using the {@link Annotations#ANNO_STRIMZI_IO_RECONCILIATION_TIMINGS} annotation. The condition is ignored when
+ * diffing the statuses, so it is updated only together with another change of the status.
+ */
+public class ReconciliationTimings {
+    public static final String CONDITION_TYPE = "ReconciliationTimings";
+
+    private final List<String> steps = new ArrayList<>();
+
+    /**
+     * Records the duration of a step
+     *
+     * @param step          Name of the step
+     * @param durationMs    Duration of the step in milliseconds
+     * @param succeeded     Whether the step succeeded
+     */
+    public synchronized void record(String step, long durationMs, boolean succeeded) {
+        steps.add(step + "=" + durationMs + "ms" + (succeeded ? "" : " (failed)"));
+    }
+
+    /**
+     * @return  Condition with the durations of all recorded steps in the order in which they completed
+     */
+    public Condition toCondition() {
+        return new ConditionBuilder()
+                .withLastTransitionTime(StatusUtils.iso8601Now())
+                .withType(CONDITION_TYPE)
+                .withStatus("True")
+                .withMessage(toString())
+                .build();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.join(", ", steps);
+    }
+}
@@ -45,9 +45,18 @@ import java.util.stream.Collectors;
 public class Util {
     private static final Logger LOGGER = LogManager.getLogger(Util.class);
 
+    /**
+     * Runs the given blocking {@code supplier} on the {@link WorkerPools#KUBERNETES_OPS_POOL} worker pool.
+     * It is used for the blocking calls to the Kubernetes API server, such as opening watches.
+     *
+     * @param vertx The vertx instance.
+     * @param supplier The blocking code.
+     * @param <T> The type of the result.
+     * @return A future which completes with the result of the supplier.
+     */
     public static <T> Future<T> async(Vertx vertx, Supplier<T> supplier) {
         Promise<T> result = Promise.promise();
-        vertx.executeBlocking(
+        vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).executeBlocking(
             future -> {
                 try {
                     future.complete(supplier.get());
@@ -95,7 +104,7 @@ public class Util {
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).executeBlocking(
                     future -> {
                         try {
                             if (completed.getAsBoolean())   {
@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The named worker pools used for the blocking calls of the operators. There is one pool per I/O target, so that
+ * a slow Kubernetes API server, a ZooKeeper stall or an unresponsive Kafka cluster do not starve the calls to the
+ * other targets.
+ *
+ * The pools are instrumented by the Vert.x metrics, which expose their queue depth ({@code vertx_pool_queue_size}),
+ * active threads ({@code vertx_pool_inUse}), wait time ({@code vertx_pool_queue_delay_seconds}) and execution time
+ * ({@code vertx_pool_usage_seconds}). The metrics of the different pools are told apart by the {@code pool_name}
+ * label, which has to be enabled in the Vert.x metrics options.
+ */
+public class WorkerPools {
+    private static final Logger log = LogManager.getLogger(WorkerPools.class);
+
+    /**
+     * The pool for the calls to the Kubernetes API server
+     */
+    public static final String KUBERNETES_OPS_POOL = "kubernetes-ops-pool";
+
+    /**
+     * The pool for the calls to ZooKeeper
+     */
+    public static final String ZOOKEEPER_OPS_POOL = "zookeeper-ops-pool";
+
+    /**
+     * The pool for the calls to the Kafka Admin API
+     */
+    public static final String KAFKA_ADMIN_OPS_POOL = "kafka-admin-ops-pool";
+
+    private static final long MAX_EXECUTE_TIME_NS = TimeUnit.SECONDS.toNanos(120);
+
+    private WorkerPools() { }
+
+    /**
+     * Creates the named worker pool with the given size. This has to be called before the pool is used for the
+     * first time, otherwise the pool already exists with the default size of Vert.x.
+     *
+     * @param vertx The Vert.x instance
+     * @param name  The name of the pool
+     * @param size  The number of threads of the pool
+     */
+    public static void create(Vertx vertx, String name, int size) {
+        log.info("Creating worker pool {} with {} threads", name, size);
+        vertx.createSharedWorkerExecutor(name, size, MAX_EXECUTE_TIME_NS);
+    }
+
+    /**
+     * Parses the size of a worker pool from the value of the given environment variable.
+     *
+     * @param envVarName        The name of the environment variable (used in the error message)
+     * @param poolSizeEnvVar    The value of the environment variable, or null if it is not set
+     * @param defaultPoolSize   The size used when the environment variable is not set or is empty
+     *
+     * @return  The size of the pool
+     *
+     * @throws InvalidConfigurationException if the size is not a number or is less than 1
+     */
+    public static int parsePoolSize(String envVarName, String poolSizeEnvVar, int defaultPoolSize) {
+        int poolSize = defaultPoolSize;
+
+        if (poolSizeEnvVar != null && !poolSizeEnvVar.trim().isEmpty()) {
+            try {
+                poolSize = Integer.parseInt(poolSizeEnvVar.trim());
+            } catch (NumberFormatException e) {
+                throw new InvalidConfigurationException(envVarName + " is not a valid number: " + poolSizeEnvVar);
+            }
+
+            if (poolSize < 1) {
+                throw new InvalidConfigurationException(envVarName + " has to be at least 1");
+            }
+        }
+
+        return poolSize;
+    }
+
+    /**
+     * Publishes the wait and execution times of the Vert.x pools as histograms, so that their percentiles can be
+     * aggregated. This has to be called before the pools are created.
+     *
+     * @param registry  The meter registry of the Vert.x metrics, or null if the metrics are disabled
+     */
+    public static void publishHistograms(MeterRegistry registry) {
+        if (registry == null) {
+            return;
+        }
+
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() == Meter.Type.TIMER && id.getName().startsWith("vertx.pool.")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        });
+    }
+}
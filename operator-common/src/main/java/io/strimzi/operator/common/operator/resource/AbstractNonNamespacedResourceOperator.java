@@ -14,6 +14,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -88,7 +89,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
         }
 
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).executeBlocking(
             future -> {
                 T current = operation().withName(name).get();
                 if (desired != null) {
@@ -40,8 +40,25 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
         super(vertx, client, resourceKind);
     }
 
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * is ready. The readiness is observed by watching the resource, the API server is polled every
+     * {@code pollIntervalMs} only when the watch cannot be used.
+     *
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param pollIntervalMs The poll interval in milliseconds, used when the resource cannot be watched.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @return A future that completes when the resource is ready.
+     */
     public Future<Void> readiness(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, pollIntervalMs, timeoutMs, this::isReady);
+        return resourceSupport.waitFor(operation().inNamespace(namespace).withName(name),
+            String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
+            "ready",
+            pollIntervalMs,
+            timeoutMs,
+            () -> isReady(namespace, name),
+            this::isReady);
     }
 
     /**
@@ -66,4 +83,15 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
             return false;
         }
     }
+
+    /**
+     * Check if a resource received from a watch is in the Ready state.
+     *
+     * @param resource The resource.
+     * @return Whether the resource in in the Ready state.
+     */
+    protected boolean isReady(T resource) {
+        return resource != null
+                && (!Readiness.isReadinessApplicable(resource.getClass()) || Readiness.isReady(resource));
+    }
 }
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.Doneable;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
@@ -17,7 +18,9 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -26,10 +29,12 @@ import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 
 /**
@@ -53,6 +58,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
+    private final Map<String, ResourceCache<T>> caches = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
@@ -69,6 +75,106 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
     protected abstract MixedOperation<T, L, D, R> operation();
 
+    /**
+     * Enables the in-memory cache of the resources in the given {@code namespace}. Once the cache is in sync, the reads
+     * done through this operator are served from memory and only the writes go to the Kubernetes API server.
+     *
+     * @param namespace The namespace which should be cached or {@code *} for all namespaces.
+     * @param metrics The metrics provider used for the cache metrics.
+     * @return A future which completes once the cache is in sync.
+     */
+    public Future<Void> enableCache(String namespace, MetricsProvider metrics) {
+        if (caches.containsKey(namespace)) {
+            return Future.succeededFuture();
+        }
+
+        FilterWatchListDeletable<T, L, Boolean, Watch> op = AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)
+                ? operation().inAnyNamespace() : operation().inNamespace(namespace);
+
+        ResourceCache<T> cache = new ResourceCache<>(vertx, resourceKind, namespace,
+            op::list,
+            (resourceVersion, watcher) -> resourceVersion != null ? op.watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(), watcher) : op.watch(watcher),
+            metrics);
+        caches.put(namespace, cache);
+
+        return Util.async(vertx, () -> {
+            cache.start();
+            log.info("Enabled cache of {} resources in namespace {}", resourceKind, namespace);
+            return null;
+        });
+    }
+
+    /**
+     * Returns the cache which can serve reads in the given {@code namespace}, or null if there is no cache or it is
+     * not in sync.
+     *
+     * @param namespace The namespace.
+     * @return The cache or null.
+     */
+    protected ResourceCache<T> cache(String namespace) {
+        if (caches.isEmpty()) {
+            return null;
+        }
+
+        ResourceCache<T> cache = caches.get(namespace);
+        if (cache == null) {
+            cache = caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+        }
+
+        if (cache != null && !cache.isSynced()) {
+            cache.recordMiss();
+            return null;
+        }
+
+        return cache;
+    }
+
+    /**
+     * Updates the cache (if any) with the outcome of a write done by this operator.
+     */
+    private void updateCache(String namespace, String name, ReconcileResult<T> result) {
+        if (caches.isEmpty()) {
+            return;
+        }
+
+        for (ResourceCache<T> cache : caches(namespace)) {
+            if (result instanceof ReconcileResult.Noop || result instanceof ReconcileResult.Created || result instanceof ReconcileResult.Patched) {
+                result.resourceOpt().ifPresent(cache::written);
+            } else {
+                cache.deleted(namespace, name);
+            }
+        }
+    }
+
+    /**
+     * Updates the cache (if any) with a resource which was written by this operator.
+     *
+     * @param resource The resource as returned by the Kubernetes API server.
+     */
+    protected void updateCache(T resource) {
+        for (ResourceCache<T> cache : caches(resource.getMetadata().getNamespace())) {
+            cache.written(resource);
+        }
+    }
+
+    /**
+     * Returns the caches which contain the resources of the given namespace: the cache of that namespace and the
+     * cache of all namespaces. The caches of the other namespaces are left out, because their watches would never
+     * remove the resources from them.
+     */
+    private List<ResourceCache<T>> caches(String namespace) {
+        List<ResourceCache<T>> namespaceCaches = new ArrayList<>(2);
+        ResourceCache<T> cache = namespace != null ? caches.get(namespace) : null;
+        if (cache != null) {
+            namespaceCaches.add(cache);
+        }
+        ResourceCache<T> anyNamespaceCache = caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+        if (anyNamespaceCache != null && anyNamespaceCache != cache) {
+            namespaceCaches.add(anyNamespaceCache);
+        }
+        return namespaceCaches;
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -99,9 +205,10 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         }
 
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
+                ResourceCache<T> cache = cache(namespace);
+                T current = cache != null ? cache.get(namespace, name) : operation().inNamespace(namespace).withName(name).get();
                 if (desired != null) {
                     if (current == null) {
                         log.debug("{} {}/{} does not exist, creating it", resourceKind, namespace, name);
@@ -125,7 +232,10 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
             false,
             promise
         );
-        return promise.future();
+        return promise.future().map(result -> {
+            updateCache(namespace, name, result);
+            return result;
+        });
     }
 
     /**
@@ -233,6 +343,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            return cache.get(namespace, name);
+        }
+
         return operation().inNamespace(namespace).withName(name).get();
     }
 
@@ -246,6 +362,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            return Future.succeededFuture(cache.get(namespace, name));
+        }
+
         return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
     }
 
@@ -256,6 +378,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A list of matching resources.
      */
     public List<T> list(String namespace, Labels selector) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            return cache.list(namespace, selector);
+        }
+
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
             return listInAnyNamespace(selector);
         } else {
@@ -303,6 +430,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            return Future.succeededFuture(cache.list(namespace, selector));
+        }
+
         FilterWatchListDeletable<T, L, Boolean, Watch> x;
 
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -318,6 +450,13 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null
+                && (!selector.isPresent() || selector.get().getMatchExpressions() == null || selector.get().getMatchExpressions().isEmpty())) {
+            return Future.succeededFuture(cache.list(namespace,
+                    selector.map(s -> Labels.fromMap(s.getMatchLabels())).orElse(null)));
+        }
+
         FilterWatchListDeletable<T, L, Boolean, Watch> x;
 
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -15,6 +15,7 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -89,12 +90,13 @@ public class CrdOperator<C extends KubernetesClient,
     public Future<T> patchAsync(T resource, boolean cascading) {
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).executeBlocking(future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
             try {
                 T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(resource);
                 log.debug("{} {} in namespace {} has been patched", resourceKind, name, namespace);
+                updateCache(result);
                 future.complete(result);
             } catch (Exception e) {
                 log.debug("Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -108,13 +110,14 @@ public class CrdOperator<C extends KubernetesClient,
     public Future<T> updateStatusAsync(T resource) {
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).executeBlocking(future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
 
             try {
                 T result = operation().inNamespace(namespace).withName(name).updateStatus(resource);
                 log.debug("Status of {} {} in namespace {} has been updated", resourceKind, name, namespace);
+                updateCache(result);
                 future.complete(result);
             } catch (Exception e) {
                 log.debug("Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
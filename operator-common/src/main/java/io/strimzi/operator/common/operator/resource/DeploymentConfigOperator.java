@@ -128,4 +128,16 @@ public class DeploymentConfigOperator extends AbstractScalableResourceOperator<O
             return false;
         }
     }
+
+    /**
+     * Checks the readiness of a DeploymentConfig received from a watch, for the same reasons as
+     * {@link #isReady(String, String)}.
+     *
+     * @param resource The DeploymentConfig.
+     * @return Whether the resource is in the Ready state.
+     */
+    @Override
+    protected boolean isReady(DeploymentConfig resource) {
+        return resource != null && Boolean.TRUE.equals(OpenShiftReadiness.isDeploymentConfigReady(resource));
+    }
 }
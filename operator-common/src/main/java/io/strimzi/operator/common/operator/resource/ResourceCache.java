@@ -0,0 +1,377 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.WorkerPools;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+
+/**
+ * An in-memory cache of the resources of a single kind in a single namespace (or in all namespaces), kept up to date
+ * using a list followed by a watch in the same way as a Kubernetes informer.
+ * Resources are indexed by namespace and name and by each of their labels so that both lookups by name and
+ * lookups by label selector can be answered without calling the Kubernetes API server.
+ *
+ * The cache only answers reads while it is in sync with the API server. Until the initial list completes, and
+ * after the watch is closed until it has been re-established, {@link #isSynced()} returns false and callers are
+ * expected to fall back to reading from the API server. When re-establishing the watch fails, it is retried with an
+ * exponential back-off.
+ *
+ * The resources returned from the cache are copies, so callers are free to modify them.
+ *
+ * @param <T> The Kubernetes resource type.
+ */
+public class ResourceCache<T extends HasMetadata> {
+    private static final Logger log = LogManager.getLogger(ResourceCache.class);
+
+    private static final ObjectMapper MAPPER = Serialization.jsonMapper();
+
+    private static final long INITIAL_RESYNC_DELAY_MS = 1_000L;
+    private static final long MAX_RESYNC_DELAY_MS = 60_000L;
+
+    private final Vertx vertx;
+    private final String kind;
+    private final String namespace;
+    private final Supplier<KubernetesResourceList<T>> lister;
+    private final BiFunction<String, Watcher<T>, Watch> watcher;
+
+    private final Map<String, T> resources = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> labelIndex = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile boolean synced = false;
+    private volatile boolean closed = false;
+    private volatile long lastSyncedMs = System.currentTimeMillis();
+    private volatile Watch watch;
+    private int resyncAttempts = 0;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         The Vertx instance used for re-syncing the cache when the watch is closed
+     * @param kind          The kind of the cached resources (used for logging and metrics)
+     * @param namespace     The namespace of the cached resources or {@code *} for all namespaces
+     * @param lister        Lists the resources from the API server
+     * @param watcher       Opens a watch from the given resource version
+     * @param metrics       The metrics provider used for the cache hit, miss and staleness metrics
+     */
+    public ResourceCache(Vertx vertx, String kind, String namespace, Supplier<KubernetesResourceList<T>> lister, BiFunction<String, Watcher<T>, Watch> watcher, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.kind = kind;
+        this.namespace = namespace;
+        this.lister = lister;
+        this.watcher = watcher;
+
+        Tags metricTags = Tags.of(Tag.of("kind", kind), Tag.of("namespace", namespace));
+
+        this.hits = metrics.counter(METRICS_PREFIX + "resource.cache.hits",
+                "Number of reads which were served from the resource cache",
+                metricTags);
+
+        this.misses = metrics.counter(METRICS_PREFIX + "resource.cache.misses",
+                "Number of reads which had to go to the Kubernetes API server because the resource cache was not in sync",
+                metricTags);
+
+        Gauge.builder(METRICS_PREFIX + "resource.cache.staleness", this, ResourceCache::stalenessMs)
+                .description("Time in milliseconds since the resource cache was last known to be in sync with the Kubernetes API server")
+                .tags(metricTags)
+                .register(metrics.meterRegistry());
+    }
+
+    /**
+     * Lists the resources and starts watching them. This method does blocking calls to the API server and should not
+     * be called on the event loop.
+     */
+    public synchronized void start() {
+        if (closed) {
+            return;
+        }
+
+        KubernetesResourceList<T> list = lister.get();
+
+        synchronized (resources) {
+            resources.clear();
+            labelIndex.clear();
+            for (T resource : list.getItems()) {
+                put(resource);
+            }
+        }
+
+        String resourceVersion = list.getMetadata() != null ? list.getMetadata().getResourceVersion() : null;
+        watch = watcher.apply(resourceVersion, new CacheWatcher());
+
+        synced = true;
+        lastSyncedMs = System.currentTimeMillis();
+        log.debug("Cache of {} resources in namespace {} synced with {} resources", kind, namespace, resources.size());
+    }
+
+    /**
+     * Stops watching the resources. The cache will not be used for any reads afterwards.
+     */
+    public synchronized void close() {
+        closed = true;
+        synced = false;
+
+        if (watch != null) {
+            watch.close();
+            watch = null;
+        }
+    }
+
+    /**
+     * @return  True if the cache is in sync with the API server and can be used to serve reads
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Records a read which could not be served from the cache.
+     */
+    void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Gets the resource with the given namespace and name from the cache.
+     *
+     * @param namespace The namespace.
+     * @param name      The name.
+     *
+     * @return  A copy of the resource or null if it is not in the cache
+     */
+    public T get(String namespace, String name) {
+        hits.increment();
+        return copy(resources.get(key(namespace, name)));
+    }
+
+    /**
+     * Lists the resources in the given namespace which match the given selector.
+     *
+     * @param namespace The namespace or {@code *} for all namespaces
+     * @param selector  The selector or null to list all resources
+     *
+     * @return  Copies of the matching resources
+     */
+    public List<T> list(String namespace, Labels selector) {
+        hits.increment();
+
+        Set<String> keys;
+        if (selector != null && !selector.toMap().isEmpty()) {
+            keys = null;
+            for (Map.Entry<String, String> label : selector.toMap().entrySet()) {
+                Set<String> matching = labelIndex.getOrDefault(label.getKey() + "=" + label.getValue(), Collections.emptySet());
+
+                if (keys == null) {
+                    keys = new HashSet<>(matching);
+                } else {
+                    keys.retainAll(matching);
+                }
+            }
+        } else {
+            keys = resources.keySet();
+        }
+
+        List<T> result = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            T resource = resources.get(key);
+
+            if (resource != null
+                    && (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) || namespace.equals(resource.getMetadata().getNamespace()))) {
+                result.add(copy(resource));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Updates the cache with a resource which was just written to the API server by the operator itself. This avoids
+     * serving an outdated version of the resource until the corresponding watch event arrives. The resource is not
+     * stored when the cache already has a newer version of it (e.g. from a watch event for a later change).
+     *
+     * @param resource  The resource returned by the API server
+     */
+    void written(T resource) {
+        if (resource != null && resource.getMetadata() != null) {
+            synchronized (resources) {
+                T cached = resources.get(key(resource.getMetadata().getNamespace(), resource.getMetadata().getName()));
+
+                if (cached == null || isNewer(resource, cached)) {
+                    put(resource);
+                } else {
+                    log.debug("Not caching {} resource {} in namespace {} with resource version {} which is not newer than the cached {}",
+                            kind, resource.getMetadata().getName(), resource.getMetadata().getNamespace(),
+                            resource.getMetadata().getResourceVersion(), cached.getMetadata().getResourceVersion());
+                }
+            }
+        }
+    }
+
+    /**
+     * Resource versions are opaque to the clients, but they are increasing numbers in practice. When either of the
+     * versions is not a number, the written resource is assumed to be newer.
+     */
+    private static boolean isNewer(HasMetadata resource, HasMetadata than) {
+        try {
+            return Long.parseLong(resource.getMetadata().getResourceVersion()) > Long.parseLong(than.getMetadata().getResourceVersion());
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Removes a resource which was just deleted by the operator itself from the cache.
+     *
+     * @param namespace The namespace.
+     * @param name      The name.
+     */
+    void deleted(String namespace, String name) {
+        synchronized (resources) {
+            remove(key(namespace, name));
+        }
+    }
+
+    private long stalenessMs() {
+        return synced ? 0 : System.currentTimeMillis() - lastSyncedMs;
+    }
+
+    private void put(T resource) {
+        String key = key(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+        T previous = resources.put(key, resource);
+
+        unindex(key, previous);
+        if (resource.getMetadata().getLabels() != null) {
+            for (Map.Entry<String, String> label : resource.getMetadata().getLabels().entrySet()) {
+                labelIndex.computeIfAbsent(label.getKey() + "=" + label.getValue(), k -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+        }
+    }
+
+    private void remove(String key) {
+        unindex(key, resources.remove(key));
+    }
+
+    private void unindex(String key, T resource) {
+        if (resource != null && resource.getMetadata().getLabels() != null) {
+            for (Map.Entry<String, String> label : resource.getMetadata().getLabels().entrySet()) {
+                Set<String> keys = labelIndex.get(label.getKey() + "=" + label.getValue());
+
+                if (keys != null) {
+                    keys.remove(key);
+                }
+            }
+        }
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T copy(T resource) {
+        if (resource == null) {
+            return null;
+        }
+
+        try {
+            return (T) MAPPER.readValue(MAPPER.writeValueAsBytes(resource), resource.getClass());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to copy cached " + kind + " resource", e);
+        }
+    }
+
+    /**
+     * Watcher which keeps the cache up to date and re-syncs the cache when the watch is closed
+     */
+    private class CacheWatcher implements Watcher<T> {
+        @Override
+        public void eventReceived(Action action, T resource) {
+            switch (action) {
+                case ADDED:
+                case MODIFIED:
+                    synchronized (resources) {
+                        put(resource);
+                    }
+                    break;
+                case DELETED:
+                    synchronized (resources) {
+                        remove(key(resource.getMetadata().getNamespace(), resource.getMetadata().getName()));
+                    }
+                    break;
+                case ERROR:
+                default:
+                    // The cache is not known to be in sync after an error, so the staleness keeps growing
+                    log.warn("Unexpected {} event for {} resource in the cache for namespace {}", action, kind, namespace);
+                    return;
+            }
+
+            lastSyncedMs = System.currentTimeMillis();
+        }
+
+        @Override
+        public void onClose(KubernetesClientException cause) {
+            synced = false;
+
+            if (!closed) {
+                log.warn("Watch for the cache of {} resources in namespace {} was closed, re-syncing", kind, namespace, cause);
+                resync();
+            }
+        }
+    }
+
+    /**
+     * Lists the resources and re-opens the watch on a worker thread. When this fails, it is retried with an
+     * exponential back-off until it succeeds or the cache is closed. The reads go to the API server in the meantime.
+     */
+    private void resync() {
+        Promise<Void> resynced = Promise.promise();
+        vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).executeBlocking(future -> {
+            start();
+            future.complete();
+        }, resynced);
+
+        resynced.future().onComplete(res -> {
+            if (res.succeeded()) {
+                resyncAttempts = 0;
+            } else if (!closed) {
+                long delayMs = Math.min(MAX_RESYNC_DELAY_MS, INITIAL_RESYNC_DELAY_MS << Math.min(resyncAttempts, 16));
+                resyncAttempts++;
+                log.error("Failed to re-sync the cache of {} resources in namespace {}, retrying in {}ms. Reads will go to the API server.", kind, namespace, delayMs, res.cause());
+                vertx.setTimer(delayMs, timerId -> resync());
+            }
+        });
+    }
+}
@@ -13,8 +13,11 @@ import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.Gettable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Watchable;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Handler;
@@ -24,7 +27,10 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.Closeable;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
 public class ResourceSupport {
     public static final long DEFAULT_TIMEOUT_MS = 300_000;
@@ -57,7 +63,7 @@ public class ResourceSupport {
 
     private <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool")
+        vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL)
                 .executeBlocking(blockingCodeHandler, true, result);
         return result.future();
     }
@@ -154,7 +160,7 @@ public class ResourceSupport {
 
             @Override
             public void eventReceived(Action action, T resource) {
-                vertx.executeBlocking(
+                vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).executeBlocking(
                     f -> {
                         try {
                             U apply = watchFn.apply(action, resource);
@@ -183,6 +189,134 @@ public class ResourceSupport {
         }.resultPromise.future();
     }
 
+    /**
+     * Waits until the resource watched by the given {@code watchable} reaches the given state, returning a Future
+     * which completes on the context thread.
+     *
+     * The state is checked once with {@code completed} after the watch is opened (so that a resource which is already
+     * in the state, or gets there while the watch is being opened, is not missed) and then with {@code completedFn}
+     * on each event of the watch, without polling the API server. If the watch cannot be opened or is closed with an
+     * error before the resource reached the state, this falls back to polling with
+     * {@link Util#waitFor(Vertx, String, String, long, long, BooleanSupplier)} for the rest of the timeout.
+     *
+     * @param watchable The watchable of the resource.
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds, used only when falling back to polling.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines whether the resource is in the state, by getting it from the API server.
+     * @param completedFn Determines whether the resource received in a watch event is in the state.
+     * @param <T> The type of watched resource.
+     *
+     * @return A Future which completes when the resource is in the given state, or fails with a
+     * {@link TimeoutException} after the timeout.
+     */
+    <T> Future<Void> waitFor(Watchable<Watch, Watcher<T>> watchable, String logContext, String logState,
+                             long pollIntervalMs, long timeoutMs, BooleanSupplier completed, Predicate<T> completedFn) {
+        return new Watcher<T>() {
+            private final Context context = vertx.getOrCreateContext();
+            private final long deadline = System.currentTimeMillis() + timeoutMs;
+            private final AtomicBoolean done = new AtomicBoolean();
+            private final Promise<Watch> watchPromise = Promise.promise();
+            private final Promise<Void> resultPromise = Promise.promise();
+            private long timerId = -1;
+
+            /* init */
+            {
+                LOGGER.debug("Watching {} to get {}", logContext, logState);
+                ResourceSupport.this.<Boolean>executeBlocking(future -> {
+                    Watch watch;
+                    try {
+                        watch = watchable.watch(this);
+                    } catch (Throwable t) {
+                        LOGGER.warn("Failed to watch {}, polling it instead", logContext, t);
+                        watch = null;
+                    }
+
+                    if (watch == null) {
+                        watchPromise.fail("No watch");
+                        future.complete(null);
+                    } else {
+                        watchPromise.complete(watch);
+                        try {
+                            future.complete(completed.getAsBoolean());
+                        } catch (Throwable t) {
+                            LOGGER.warn("Caught exception while checking whether {} is {}", logContext, logState, t);
+                            future.complete(false);
+                        }
+                    }
+                }).onComplete(res -> {
+                    if (res.result() == null) {
+                        poll();
+                    } else if (res.result()) {
+                        finish(null);
+                    } else if (!done.get()) {
+                        timerId = vertx.setTimer(Math.max(deadline - System.currentTimeMillis(), 1), ignored -> {
+                            String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                            LOGGER.error(exceptionMessage);
+                            finish(new TimeoutException(exceptionMessage));
+                        });
+                    }
+                });
+            }
+
+            @Override
+            public void eventReceived(Action action, T resource) {
+                try {
+                    if (action != Action.DELETED && action != Action.ERROR && completedFn.test(resource)) {
+                        finish(null);
+                    } else {
+                        LOGGER.trace("{} is not {}", logContext, logState);
+                    }
+                } catch (Throwable t) {
+                    LOGGER.warn("Caught exception while checking whether {} is {}", logContext, logState, t);
+                }
+            }
+
+            @Override
+            public void onClose(KubernetesClientException cause) {
+                if (cause != null && done.compareAndSet(false, true)) {
+                    LOGGER.warn("Watch of {} was closed before it got {}, polling it instead", logContext, logState, cause);
+                    context.runOnContext(ignored -> {
+                        vertx.cancelTimer(timerId);
+                        poll();
+                    });
+                }
+            }
+
+            /**
+             * Completes the wait, if it has not been completed yet, and closes the watch.
+             *
+             * @param error The error to fail the wait with, or null if the resource got to the state.
+             */
+            private void finish(Throwable error) {
+                if (done.compareAndSet(false, true)) {
+                    context.runOnContext(ignored -> {
+                        vertx.cancelTimer(timerId);
+                        watchPromise.future().onSuccess(ResourceSupport.this::closeOnWorkerThread);
+                        if (error == null) {
+                            LOGGER.debug("{} is {}", logContext, logState);
+                            resultPromise.complete();
+                        } else {
+                            resultPromise.fail(error);
+                        }
+                    });
+                }
+            }
+
+            private void poll() {
+                long timeLeft = deadline - System.currentTimeMillis();
+                if (timeLeft <= 0) {
+                    String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                    LOGGER.error(exceptionMessage);
+                    resultPromise.fail(new TimeoutException(exceptionMessage));
+                } else {
+                    Util.waitFor(vertx, logContext, logState, pollIntervalMs, timeLeft, completed).onComplete(resultPromise);
+                }
+            }
+        }.resultPromise.future();
+    }
+
     /**
      * Asynchronously deletes the given resource(s), returning a Future which completes on the context thread.
      * <strong>Note: The API server can return asynchronously, meaning the resource is still accessible from the API server
@@ -158,6 +158,60 @@ public class OperatorMetricsTest {
                 })));
     }
 
+    @Test
+    public void testReconcileStepTimers(VertxTestContext context)  {
+        MetricsProvider metrics = createCleanMetricsProvider();
+
+        AbstractWatchableStatusedResourceOperator resourceOperator = resourceOperatorWithExistingResource();
+
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metrics) {
+            @Override
+            protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
+                return timedStep(reconciliation, "first", () -> Future.succeededFuture())
+                        .compose(i -> timedStep(reconciliation, "second", () -> {
+                            throw new RuntimeException("Test error");
+                        }));
+            }
+
+            public Set<Condition> validate(CustomResource resource) {
+                return emptySet();
+            }
+
+            @Override
+            protected Future<Boolean> delete(Reconciliation reconciliation) {
+                return null;
+            }
+
+            @Override
+            protected Status createStatus() {
+                return new Status() { };
+            }
+        };
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"))
+                .onComplete(context.failing(v -> context.verify(() -> {
+                    MeterRegistry registry = metrics.meterRegistry();
+
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.step.duration")
+                            .tag("kind", "TestResource")
+                            .tag("step", "first")
+                            .tag("outcome", "success")
+                            .timer().count(), is(1L));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.step.duration")
+                            .tag("kind", "TestResource")
+                            .tag("step", "second")
+                            .tag("outcome", "failure")
+                            .timer().count(), is(1L));
+                    assertThrows(MeterNotFoundException.class, () -> registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.step.duration")
+                            .tag("step", "first")
+                            .tag("outcome", "failure")
+                            .timer());
+
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testFailingWithLockReconcile(VertxTestContext context)  {
         MetricsProvider metrics = createCleanMetricsProvider();
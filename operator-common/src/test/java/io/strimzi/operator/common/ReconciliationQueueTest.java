@@ -0,0 +1,198 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationQueueTest {
+    private static Vertx vertx;
+
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private final Map<String, Promise<Void>> running = new ConcurrentHashMap<>();
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricsProvider metrics = new MicrometerMetricsProvider(registry);
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private ReconciliationQueue queue(int maxConcurrentReconciliations) {
+        return new ReconciliationQueue(vertx, "TestResource", maxConcurrentReconciliations, metrics, reconciliation -> {
+            started.add(reconciliation.name());
+            Promise<Void> promise = Promise.promise();
+            running.put(reconciliation.name(), promise);
+            return promise.future();
+        });
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", "TestResource", "my-namespace", name);
+    }
+
+    @Test
+    public void testConcurrencyIsBounded() {
+        ReconciliationQueue queue = queue(2);
+
+        for (String name : List.of("a", "b", "c", "d")) {
+            queue.enqueue(reconciliation(name));
+        }
+
+        assertThat(started, is(List.of("a", "b")));
+        assertThat(queue.size(), is(2));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.queued").tag("kind", "TestResource").gauge().value(), is(2.0));
+
+        running.get("b").complete();
+        assertThat(started, is(List.of("a", "b", "c")));
+
+        running.get("a").fail("failed");
+        assertThat(started, is(List.of("a", "b", "c", "d")));
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    public void testQueuedReconciliationsAreDeduplicated() {
+        ReconciliationQueue queue = queue(1);
+
+        Future<Void> blocker = queue.enqueue(reconciliation("blocker"));
+        List<Future<Void>> first = queue.enqueuePeriodic(List.of(reconciliation("a"), reconciliation("b")), 0);
+        List<Future<Void>> second = queue.enqueuePeriodic(List.of(reconciliation("a"), reconciliation("b")), 0);
+        Future<Void> watch = queue.enqueue(reconciliation("a"));
+
+        assertThat(queue.size(), is(2));
+
+        running.get("blocker").complete();
+        running.get("a").complete();
+        running.get("b").complete();
+
+        assertThat(started, is(List.of("blocker", "a", "b")));
+        assertThat(blocker.succeeded(), is(true));
+        assertThat(first.get(0).succeeded() && first.get(1).succeeded(), is(true));
+        assertThat(second.get(0).succeeded() && second.get(1).succeeded(), is(true));
+        assertThat(watch.succeeded(), is(true));
+    }
+
+    @Test
+    public void testWatchReconciliationsArePrioritized() {
+        ReconciliationQueue queue = queue(1);
+
+        queue.enqueue(reconciliation("blocker"));
+        queue.enqueuePeriodic(List.of(reconciliation("a"), reconciliation("b"), reconciliation("c")), 0);
+        queue.enqueue(reconciliation("d"));
+        // Already queued periodic reconciliation is moved to the front
+        queue.enqueue(reconciliation("c"));
+
+        for (String name : List.of("blocker", "d", "c", "a", "b")) {
+            running.get(name).complete();
+        }
+
+        assertThat(started, is(List.of("blocker", "d", "c", "a", "b")));
+    }
+
+    @Test
+    public void testWatchEventsForRunningResourceAreCoalesced() {
+        ReconciliationQueue queue = queue(2);
+
+        Future<Void> first = queue.enqueue(reconciliation("a"));
+        Future<Void> second = queue.enqueue(reconciliation("a"));
+        Future<Void> third = queue.enqueue(reconciliation("a"));
+        queue.enqueue(reconciliation("b"));
+
+        // The follow-up of a does not run concurrently with the running reconciliation
+        assertThat(started, is(List.of("a", "b")));
+        assertThat(queue.size(), is(1));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.coalesced").tag("kind", "TestResource").counter().count(), is(1.0));
+
+        Promise<Void> firstRun = running.get("a");
+        firstRun.complete();
+        assertThat(first.succeeded(), is(true));
+        assertThat(second.isComplete(), is(false));
+        assertThat(started, is(List.of("a", "b", "a")));
+
+        running.get("a").complete();
+        assertThat(second.succeeded() && third.succeeded(), is(true));
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    public void testFollowUpReconciliationIsNotOvertaken() {
+        ReconciliationQueue queue = queue(1);
+
+        queue.enqueue(reconciliation("a"));
+        queue.enqueue(reconciliation("b"));
+        queue.enqueue(reconciliation("a"));
+
+        running.get("a").complete();
+        assertThat(started, is(List.of("a", "a")));
+
+        running.get("a").complete();
+        running.get("b").complete();
+        assertThat(started, is(List.of("a", "a", "b")));
+    }
+
+    @Test
+    public void testPeriodicReconciliationOfRunningResourceIsNotRepeated() {
+        ReconciliationQueue queue = queue(2);
+
+        Future<Void> watch = queue.enqueue(reconciliation("a"));
+        List<Future<Void>> periodic = queue.enqueuePeriodic(List.of(reconciliation("a"), reconciliation("b")), 0);
+
+        assertThat(started, is(List.of("a", "b")));
+        assertThat(queue.size(), is(0));
+
+        running.get("a").complete();
+        assertThat(watch.succeeded() && periodic.get(0).succeeded(), is(true));
+        assertThat(started, is(List.of("a", "b")));
+    }
+
+    @Test
+    public void testPeriodicReconciliationsAreSpread(VertxTestContext context) {
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, "TestResource", 2, metrics, reconciliation -> {
+            started.add(reconciliation.name());
+            return Future.succeededFuture();
+        });
+
+        List<Reconciliation> reconciliations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            reconciliations.add(reconciliation("resource-" + i));
+        }
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(new ArrayList<>(queue.enqueuePeriodic(reconciliations, 500)))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(started.size(), is(20));
+                    assertThat(queue.size(), is(0));
+                    async.flag();
+                })));
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.strimzi.api.kafka.model.status.Condition;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationTimingsTest {
+    @Test
+    public void testTimingsCondition() {
+        ReconciliationTimings timings = new ReconciliationTimings();
+        timings.record("zkRollingUpdate", 1500, true);
+        timings.record("kafkaRoutesReady", 20, false);
+
+        Condition condition = timings.toCondition();
+
+        assertThat(condition.getType(), is(ReconciliationTimings.CONDITION_TYPE));
+        assertThat(condition.getStatus(), is("True"));
+        assertThat(condition.getMessage(), is("zkRollingUpdate=1500ms, kafkaRoutesReady=20ms (failed)"));
+    }
+
+    @Test
+    public void testEmptyTimings() {
+        assertThat(new ReconciliationTimings().toString(), is(""));
+    }
+}
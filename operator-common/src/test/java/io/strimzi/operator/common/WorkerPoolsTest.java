@@ -0,0 +1,85 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WorkerPoolsTest {
+    private MeterRegistry registry;
+    private Vertx vertx;
+
+    @BeforeEach
+    public void before() {
+        // The same registry as the one of the operators, the histogram buckets are not published by all registries
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(new MicrometerMetricsOptions()
+                .setMicrometerRegistry(registry)
+                .addLabels(Label.POOL_NAME)
+                .setEnabled(true)));
+    }
+
+    @AfterEach
+    public void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testPoolsAreInstrumentedWithHistograms() throws Exception {
+        WorkerPools.publishHistograms(registry);
+        WorkerPools.create(vertx, WorkerPools.KUBERNETES_OPS_POOL, 2);
+        WorkerPools.create(vertx, WorkerPools.ZOOKEEPER_OPS_POOL, 1);
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        vertx.createSharedWorkerExecutor(WorkerPools.ZOOKEEPER_OPS_POOL).executeBlocking(future -> future.complete(), res -> done.complete(null));
+        done.get(10, TimeUnit.SECONDS);
+
+        Timer usage = registry.find("vertx.pool.usage").tag("pool_name", WorkerPools.ZOOKEEPER_OPS_POOL).timer();
+        assertThat(usage, is(notNullValue()));
+        assertThat(usage.count(), is(1L));
+        assertThat(usage.takeSnapshot().histogramCounts().length > 0, is(true));
+
+        Timer wait = registry.find("vertx.pool.queue.delay").tag("pool_name", WorkerPools.ZOOKEEPER_OPS_POOL).timer();
+        assertThat(wait, is(notNullValue()));
+        assertThat(wait.takeSnapshot().histogramCounts().length > 0, is(true));
+
+        // The pools are separate, so nothing ran in the Kubernetes one
+        Timer kubernetesUsage = registry.find("vertx.pool.usage").tag("pool_name", WorkerPools.KUBERNETES_OPS_POOL).timer();
+        assertThat(kubernetesUsage == null || kubernetesUsage.count() == 0, is(true));
+        assertThat(registry.find("vertx.pool.queue.size").tag("pool_name", WorkerPools.ZOOKEEPER_OPS_POOL).gauge(), is(notNullValue()));
+    }
+
+    @Test
+    public void testParsePoolSize() {
+        assertThat(WorkerPools.parsePoolSize("POOL_SIZE", null, 10), is(10));
+        assertThat(WorkerPools.parsePoolSize("POOL_SIZE", "", 10), is(10));
+        assertThat(WorkerPools.parsePoolSize("POOL_SIZE", " 4 ", 10), is(4));
+        assertThrows(InvalidConfigurationException.class, () -> WorkerPools.parsePoolSize("POOL_SIZE", "0", 10));
+        assertThrows(InvalidConfigurationException.class, () -> WorkerPools.parsePoolSize("POOL_SIZE", "many", 10));
+    }
+
+    @Test
+    public void testPublishHistogramsWithoutMetrics() {
+        // Does not fail when the Vert.x metrics are disabled
+        WorkerPools.publishHistograms(null);
+    }
+}
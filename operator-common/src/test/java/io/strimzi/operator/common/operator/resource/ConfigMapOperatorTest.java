@@ -9,13 +9,30 @@ import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.ConfigMapList;
 import io.fabric8.kubernetes.api.model.DoneableConfigMap;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
 
 import java.util.Random;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class ConfigMapOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, ConfigMap, ConfigMapList, DoneableConfigMap, Resource<ConfigMap, DoneableConfigMap>> {
@@ -51,4 +68,37 @@ public class ConfigMapOperatorTest extends AbstractResourceOperatorTest<Kubernet
                 .withData(singletonMap("FOO", Integer.toString(new Random().nextInt())))
                 .build();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWritesUpdateOnlyTheCachesOfTheirNamespace(VertxTestContext context) {
+        NonNamespaceOperation mockNamespaced = mock(NonNamespaceOperation.class);
+        when(mockNamespaced.list()).thenReturn(new ConfigMapList());
+        when(mockNamespaced.watch(any(Watcher.class))).thenReturn(mock(Watch.class));
+
+        FilterWatchListMultiDeletable mockAnyNamespace = mock(FilterWatchListMultiDeletable.class);
+        when(mockAnyNamespace.list()).thenReturn(new ConfigMapList());
+        when(mockAnyNamespace.watch(any(Watcher.class))).thenReturn(mock(Watch.class));
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(anyString())).thenReturn(mockNamespaced);
+        when(mockCms.inAnyNamespace()).thenReturn(mockAnyNamespace);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<KubernetesClient, ConfigMap, ConfigMapList, DoneableConfigMap, Resource<ConfigMap, DoneableConfigMap>> op = createResourceOperations(vertx, mockClient);
+        MicrometerMetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(op.enableCache(NAMESPACE, metrics), op.enableCache("other", metrics), op.enableCache(AbstractWatchableResourceOperator.ANY_NAMESPACE, metrics))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    op.updateCache(resource());
+
+                    assertThat(op.cache(NAMESPACE).get(NAMESPACE, RESOURCE_NAME), is(notNullValue()));
+                    assertThat(op.cache(AbstractWatchableResourceOperator.ANY_NAMESPACE).get(NAMESPACE, RESOURCE_NAME), is(notNullValue()));
+                    assertThat(op.cache("other").get(NAMESPACE, RESOURCE_NAME), is(nullValue()));
+                    async.flag();
+                })));
+    }
 }
@@ -9,7 +9,11 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.model.Labels;
@@ -19,12 +23,22 @@ import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PodOperatorTest extends
@@ -53,6 +67,103 @@ public class PodOperatorTest extends
         });
     }
 
+    private Pod readyPod() {
+        return new PodBuilder(resource())
+                .withNewStatus()
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private PodOperator podOperator(Resource mockResource) {
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockPods = mock(MixedOperation.class);
+        when(mockPods.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockPods);
+
+        return new PodOperator(vertx, mockClient);
+    }
+
+    @Test
+    public void testReadinessCompletesOnWatchEvent(VertxTestContext context) {
+        Watch mockWatch = mock(Watch.class);
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource());
+        when(mockResource.isReady()).thenReturn(Boolean.FALSE);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher<Pod> watcher = invocation.getArgument(0);
+            vertx.setTimer(100, ignored -> {
+                watcher.eventReceived(Watcher.Action.MODIFIED, resource());
+                watcher.eventReceived(Watcher.Action.MODIFIED, readyPod());
+            });
+            return mockWatch;
+        });
+
+        Checkpoint async = context.checkpoint();
+        podOperator(mockResource).readiness(NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The pod was checked once after the watch was opened, and then only through the watch events
+                verify(mockResource, times(1)).get();
+                verify(mockResource, times(1)).isReady();
+                verify(mockWatch, timeout(1_000)).close();
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReadinessTimesOutWhenWatchEventsAreNotReady(VertxTestContext context) {
+        Watch mockWatch = mock(Watch.class);
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource());
+        when(mockResource.isReady()).thenReturn(Boolean.FALSE);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher<Pod> watcher = invocation.getArgument(0);
+            vertx.setTimer(20, ignored -> watcher.eventReceived(Watcher.Action.MODIFIED, resource()));
+            return mockWatch;
+        });
+
+        Checkpoint async = context.checkpoint();
+        podOperator(mockResource).readiness(NAMESPACE, RESOURCE_NAME, 20, 200)
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TimeoutException.class));
+                verify(mockResource, times(1)).get();
+                verify(mockWatch, timeout(1_000)).close();
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReadinessFallsBackToPollingWhenWatchBreaks(VertxTestContext context) {
+        AtomicBoolean watchClosed = new AtomicBoolean();
+        Watch mockWatch = mock(Watch.class);
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource());
+        when(mockResource.isReady()).thenAnswer(invocation -> watchClosed.get());
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher<Pod> watcher = invocation.getArgument(0);
+            vertx.setTimer(100, ignored -> {
+                watchClosed.set(true);
+                watcher.onClose(new KubernetesClientException("Watch broken"));
+            });
+            return mockWatch;
+        });
+
+        Checkpoint async = context.checkpoint();
+        podOperator(mockResource).readiness(NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(mockResource, atLeast(2)).get();
+                verify(mockWatch, never()).close();
+                async.flag();
+            })));
+    }
+
     @Override
     protected Class clientType() {
         return KubernetesClient.class;
@@ -0,0 +1,242 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static Vertx vertx;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricsProvider metrics = new MicrometerMetricsProvider(registry);
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000L;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+        }
+        assertThat(condition.getAsBoolean(), is(true));
+    }
+
+    /**
+     * Creates a ConfigMap whose resource version is its value
+     */
+    private static ConfigMap configMap(String name, Map<String, String> labels, String value) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withLabels(labels)
+                    .withResourceVersion(value)
+                .endMetadata()
+                .withData(singletonMap("key", value))
+                .build();
+    }
+
+    private ResourceCache<ConfigMap> startedCache(List<ConfigMap> initial, AtomicReference<Watcher<ConfigMap>> watcherRef, List<String> watchVersions) {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>(vertx, "ConfigMap", NAMESPACE,
+            () -> new ConfigMapListBuilder()
+                    .withNewMetadata()
+                        .withResourceVersion("1")
+                    .endMetadata()
+                    .withItems(initial)
+                    .build(),
+            (resourceVersion, watcher) -> {
+                watchVersions.add(resourceVersion);
+                watcherRef.set(watcher);
+                return () -> { };
+            },
+            metrics);
+
+        cache.start();
+        return cache;
+    }
+
+    @Test
+    public void testGetAndListFromCache() {
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        List<String> watchVersions = new ArrayList<>();
+        ResourceCache<ConfigMap> cache = startedCache(List.of(
+                configMap("cm1", singletonMap("app", "a"), "1"),
+                configMap("cm2", singletonMap("app", "b"), "2")), watcher, watchVersions);
+
+        assertThat(cache.isSynced(), is(true));
+        assertThat(watchVersions, is(List.of("1")));
+        assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("1"));
+        assertThat(cache.get(NAMESPACE, "cm3"), is(nullValue()));
+        assertThat(cache.get("other-namespace", "cm1"), is(nullValue()));
+
+        assertThat(cache.list(NAMESPACE, null).size(), is(2));
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(singletonMap("app", "b"))).get(0).getMetadata().getName(), is("cm2"));
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(singletonMap("app", "c"))).size(), is(0));
+        assertThat(cache.list("other-namespace", null).size(), is(0));
+        assertThat(cache.list(AbstractWatchableResourceOperator.ANY_NAMESPACE, null).size(), is(2));
+
+        assertThat(registry.get(METRICS_PREFIX + "resource.cache.hits").tag("kind", "ConfigMap").counter().count(), is(8.0));
+    }
+
+    @Test
+    public void testReturnedResourcesAreCopies() {
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        ResourceCache<ConfigMap> cache = startedCache(List.of(configMap("cm1", null, "1")), watcher, new ArrayList<>());
+
+        cache.get(NAMESPACE, "cm1").getData().put("key", "changed");
+
+        assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("1"));
+    }
+
+    @Test
+    public void testWatchEventsUpdateCacheAndIndex() {
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        ResourceCache<ConfigMap> cache = startedCache(List.of(configMap("cm1", singletonMap("app", "a"), "1")), watcher, new ArrayList<>());
+
+        watcher.get().eventReceived(Watcher.Action.ADDED, configMap("cm2", singletonMap("app", "a"), "2"));
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(singletonMap("app", "a"))).size(), is(2));
+
+        watcher.get().eventReceived(Watcher.Action.MODIFIED, configMap("cm1", singletonMap("app", "b"), "3"));
+        assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("3"));
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(singletonMap("app", "a"))).size(), is(1));
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(singletonMap("app", "b"))).size(), is(1));
+
+        watcher.get().eventReceived(Watcher.Action.DELETED, configMap("cm2", singletonMap("app", "a"), "2"));
+        assertThat(cache.get(NAMESPACE, "cm2"), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(singletonMap("app", "a"))).size(), is(0));
+    }
+
+    @Test
+    public void testWritesUpdateCache() {
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        ResourceCache<ConfigMap> cache = startedCache(List.of(configMap("cm1", null, "1")), watcher, new ArrayList<>());
+
+        cache.written(configMap("cm1", null, "2"));
+        assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("2"));
+
+        cache.deleted(NAMESPACE, "cm1");
+        assertThat(cache.get(NAMESPACE, "cm1"), is(nullValue()));
+    }
+
+    @Test
+    public void testOlderWritesDoNotOverwriteCache() {
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        ResourceCache<ConfigMap> cache = startedCache(List.of(configMap("cm1", null, "1")), watcher, new ArrayList<>());
+
+        // The watch event for a later change arrived before the result of the write
+        watcher.get().eventReceived(Watcher.Action.MODIFIED, configMap("cm1", null, "3"));
+        cache.written(configMap("cm1", null, "2"));
+        assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("3"));
+
+        cache.written(configMap("cm1", null, "4"));
+        assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("4"));
+    }
+
+    @Test
+    public void testErrorEventDoesNotResetStaleness() throws InterruptedException {
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        List<String> watchVersions = new ArrayList<>();
+        ResourceCache<ConfigMap> cache = startedCache(List.of(configMap("cm1", null, "1")), watcher, watchVersions);
+        cache.close();
+        watcher.get().onClose(null);
+
+        Thread.sleep(20L);
+        watcher.get().eventReceived(Watcher.Action.ERROR, null);
+
+        assertThat(registry.get(METRICS_PREFIX + "resource.cache.staleness").gauge().value() >= 20.0, is(true));
+    }
+
+    @Test
+    public void testFailedResyncIsRetried() throws InterruptedException {
+        AtomicInteger lists = new AtomicInteger();
+        List<Watcher<ConfigMap>> watchers = new CopyOnWriteArrayList<>();
+        ResourceCache<ConfigMap> cache = new ResourceCache<>(vertx, "ConfigMap", NAMESPACE,
+            () -> {
+                // The first re-sync fails
+                if (lists.incrementAndGet() == 2) {
+                    throw new KubernetesClientException("API server unavailable");
+                }
+                return new ConfigMapListBuilder().withItems(configMap("cm1", null, "1")).build();
+            },
+            (resourceVersion, watcher) -> {
+                watchers.add(watcher);
+                return () -> { };
+            },
+            metrics);
+        cache.start();
+
+        watchers.get(0).onClose(new KubernetesClientException("Connection lost"));
+
+        waitFor(() -> watchers.size() == 2);
+        assertThat(lists.get(), is(3));
+        assertThat(cache.isSynced(), is(true));
+        cache.close();
+    }
+
+    @Test
+    public void testClosedWatchResyncs() throws InterruptedException {
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        List<String> watchVersions = new CopyOnWriteArrayList<>();
+        ResourceCache<ConfigMap> cache = startedCache(List.of(configMap("cm1", null, "1")), watcher, watchVersions);
+
+        watcher.get().eventReceived(Watcher.Action.ADDED, configMap("cm2", null, "2"));
+        watcher.get().onClose(new KubernetesClientException("Connection lost"));
+
+        // The cache was re-listed and the watch re-opened
+        waitFor(() -> watchVersions.size() == 2);
+        assertThat(watchVersions, is(List.of("1", "1")));
+        assertThat(cache.isSynced(), is(true));
+        assertThat(cache.get(NAMESPACE, "cm2"), is(nullValue()));
+    }
+
+    @Test
+    public void testClosedCacheIsNotSynced() {
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        List<String> watchVersions = new ArrayList<>();
+        ResourceCache<ConfigMap> cache = startedCache(List.of(configMap("cm1", null, "1")), watcher, watchVersions);
+
+        cache.close();
+        watcher.get().onClose(null);
+
+        assertThat(cache.isSynced(), is(false));
+        assertThat(watchVersions.size(), is(1));
+    }
+}
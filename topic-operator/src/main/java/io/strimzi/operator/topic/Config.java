@@ -46,6 +46,28 @@ public class Config {
         }
     };
 
+    /** The type of the topic store */
+    private static final Type<? extends String> TOPIC_STORE_TYPE = new Type<String>() {
+        @Override
+        String parse(String s) {
+            if (!TOPIC_STORE_ZOOKEEPER.equals(s) && !TOPIC_STORE_KAFKA.equals(s)) {
+                throw new IllegalArgumentException("The value must be either " + TOPIC_STORE_ZOOKEEPER + " or " + TOPIC_STORE_KAFKA);
+            }
+            return s;
+        }
+    };
+
+    /** The encoding of the topic state in the topic store */
+    private static final Type<? extends String> TOPIC_STORE_FORMAT_TYPE = new Type<String>() {
+        @Override
+        String parse(String s) {
+            if (!TOPIC_STORE_FORMAT_JSON.equals(s) && !TOPIC_STORE_FORMAT_BINARY.equals(s)) {
+                throw new IllegalArgumentException("The value must be either " + TOPIC_STORE_FORMAT_JSON + " or " + TOPIC_STORE_FORMAT_BINARY);
+            }
+            return s;
+        }
+    };
+
     /**
      * A time duration.
      */
@@ -99,7 +121,21 @@ public class Config {
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    public static final String TC_TOPIC_METADATA_BATCH_SIZE = "STRIMZI_TOPIC_METADATA_BATCH_SIZE";
+    public static final String TC_TOPIC_METADATA_BATCH_CONCURRENCY = "STRIMZI_TOPIC_METADATA_BATCH_CONCURRENCY";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
+    public static final String TC_TOPIC_STORE = "STRIMZI_TOPIC_STORE";
+    public static final String TC_STORE_TOPIC = "STRIMZI_STORE_TOPIC";
+    public static final String TC_TOPIC_STORE_FORMAT = "STRIMZI_TOPIC_STORE_FORMAT";
+    public static final String TC_KUBERNETES_OPS_POOL_SIZE = "STRIMZI_KUBERNETES_OPS_POOL_SIZE";
+    public static final String TC_ZOOKEEPER_OPS_POOL_SIZE = "STRIMZI_ZOOKEEPER_OPS_POOL_SIZE";
+    public static final String TC_KAFKA_ADMIN_OPS_POOL_SIZE = "STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE";
+
+    public static final String TOPIC_STORE_ZOOKEEPER = "zookeeper";
+    public static final String TOPIC_STORE_KAFKA = "kafka";
+
+    public static final String TOPIC_STORE_FORMAT_JSON = "json";
+    public static final String TOPIC_STORE_FORMAT_BINARY = "binary";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
     public static final String TC_TLS_TRUSTSTORE_LOCATION = "STRIMZI_TRUSTSTORE_LOCATION";
@@ -143,9 +179,36 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** The number of topics whose metadata is fetched from the Kafka cluster in a single request during the full reconciliation */
+    public static final Value<Integer> TOPIC_METADATA_BATCH_SIZE = new Value<>(TC_TOPIC_METADATA_BATCH_SIZE, POSITIVE_INTEGER, "500");
+
+    /** The maximum number of concurrent requests for fetching topic metadata from the Kafka cluster during the full reconciliation */
+    public static final Value<Integer> TOPIC_METADATA_BATCH_CONCURRENCY = new Value<>(TC_TOPIC_METADATA_BATCH_CONCURRENCY, POSITIVE_INTEGER, "4");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
+    /** Where the topic state is stored, either in ZooKeeper znodes or in a compacted Kafka topic. */
+    public static final Value<String> TOPIC_STORE = new Value<>(TC_TOPIC_STORE, TOPIC_STORE_TYPE, TOPIC_STORE_ZOOKEEPER);
+
+    /** The name of the compacted Kafka topic that stores the topic state when the kafka topic store is used. */
+    public static final Value<String> STORE_TOPIC = new Value<>(TC_STORE_TOPIC, STRING, "__strimzi_store_topic");
+
+    /**
+     * The encoding used when writing the topic state to the topic store, either JSON or a compact binary encoding.
+     * Both encodings can always be read.
+     */
+    public static final Value<String> TOPIC_STORE_FORMAT = new Value<>(TC_TOPIC_STORE_FORMAT, TOPIC_STORE_FORMAT_TYPE, TOPIC_STORE_FORMAT_JSON);
+
+    /** The number of threads used for the blocking calls to the Kubernetes API server */
+    public static final Value<Integer> KUBERNETES_OPS_POOL_SIZE = new Value<>(TC_KUBERNETES_OPS_POOL_SIZE, POSITIVE_INTEGER, "10");
+
+    /** The number of threads used for the blocking calls to ZooKeeper */
+    public static final Value<Integer> ZOOKEEPER_OPS_POOL_SIZE = new Value<>(TC_ZOOKEEPER_OPS_POOL_SIZE, POSITIVE_INTEGER, "10");
+
+    /** The number of threads used for the blocking calls to Kafka, including the store topic */
+    public static final Value<Integer> KAFKA_ADMIN_OPS_POOL_SIZE = new Value<>(TC_KAFKA_ADMIN_OPS_POOL_SIZE, POSITIVE_INTEGER, "10");
+
     /** If the connection with Kafka has to be encrypted by TLS protocol */
     public static final Value<String> TLS_ENABLED = new Value<>(TC_TLS_ENABLED, STRING, "false");
     /** The truststore with CA certificate for Kafka broker/server authentication */
@@ -171,7 +234,15 @@ public class Config {
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, TOPIC_METADATA_BATCH_SIZE);
+        addConfigValue(configValues, TOPIC_METADATA_BATCH_CONCURRENCY);
         addConfigValue(configValues, TOPICS_PATH);
+        addConfigValue(configValues, TOPIC_STORE);
+        addConfigValue(configValues, STORE_TOPIC);
+        addConfigValue(configValues, TOPIC_STORE_FORMAT);
+        addConfigValue(configValues, KUBERNETES_OPS_POOL_SIZE);
+        addConfigValue(configValues, ZOOKEEPER_OPS_POOL_SIZE);
+        addConfigValue(configValues, KAFKA_ADMIN_OPS_POOL_SIZE);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
         addConfigValue(configValues, TLS_TRUSTSTORE_PASSWORD);
@@ -6,6 +6,7 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -75,6 +76,19 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of the given topics in Kafka using a single request
+     * for the topic descriptions and a single request for the topic configs,
+     * completing the returned Future with the metadata of the topics which exist.
+     * Topics which do not exist, or whose metadata could not be fetched, are not included in the result,
+     * so callers should use {@link #topicMetadata(TopicName)} for them.
+     * If the requests cannot be made the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the metadata of the topics, indexed by their names.
+     */
+    Future<Map<TopicName, TopicMetadata>> topicMetadata(Set<TopicName> topicNames);
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
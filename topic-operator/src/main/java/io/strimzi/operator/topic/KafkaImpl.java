@@ -4,7 +4,10 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -23,10 +26,12 @@ import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * Partial implementation of {@link Kafka} omitting those methods which imply a partition assignment.
@@ -121,6 +126,51 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop with the metadata of the given topics obtained
+     * from a single {@code describeTopics} and a single {@code describeConfigs} request.
+     * Unlike {@link #topicMetadata(TopicName)} the existence of the topics is not checked using the controller first,
+     * the topics which are not known to the broker are just left out of the result.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Set<TopicName> topicNames) {
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture(Collections.emptyMap());
+        }
+        LOGGER.debug("Getting metadata for {} topics", topicNames.size());
+        try {
+            Set<String> names = topicNames.stream().map(TopicName::toString).collect(toSet());
+            Set<ConfigResource> resources = names.stream()
+                    .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name)).collect(toSet());
+            Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(names).values();
+            Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(resources).values();
+
+            Map<TopicName, TopicMetadata> result = new HashMap<>(names.size());
+            List<Future> futures = new ArrayList<>(names.size());
+            for (TopicName topicName : topicNames) {
+                ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
+                Future<TopicDescription> descriptionFuture = mapFuture(descriptions.get(topicName.toString()));
+                Future<Config> configFuture = mapFuture(configs.get(resource));
+                futures.add(CompositeFuture.all(descriptionFuture, configFuture)
+                        .map(compositeFuture -> {
+                            result.put(topicName, new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)));
+                            return null;
+                        })
+                        .recover(e -> {
+                            if (e instanceof UnknownTopicOrPartitionException) {
+                                LOGGER.debug("Topic {} does not exist", topicName);
+                            } else {
+                                LOGGER.debug("Failed to get metadata for topic {}", topicName, e);
+                            }
+                            return Future.succeededFuture();
+                        }));
+            }
+            return CompositeFuture.join(futures).map(ignored -> result);
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
@@ -0,0 +1,332 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.WorkerPools;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singleton;
+
+/**
+ * Implementation of {@link TopicStore} that stores the topic state in a compacted Kafka topic.
+ * The topic state is keyed by the topic name, deleted topics are stored as tombstones.
+ * The state is read from the store topic once when the store is created and then kept in memory,
+ * so reads do not need any remote calls. Writes are sent to the store topic and applied to the
+ * in-memory state once they are acknowledged by Kafka.
+ * This assumes that the store topic is written only by a single instance of the operator.
+ *
+ * When the store topic is used for the first time, the topic state is migrated from another store.
+ * Once all the topics have been migrated, a marker record is written to the store topic, so that
+ * a migration which did not complete is resumed when the store is created again, and a completed migration
+ * is never repeated, even if all the topics have been deleted from the store since.
+ */
+public class KafkaTopicStore implements TopicStore {
+
+    private final static Logger LOGGER = LogManager.getLogger(KafkaTopicStore.class);
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    /**
+     * The key of the record marking the completion of the migration. It is not a valid topic name,
+     * so it cannot clash with the key of a topic.
+     */
+    static final String MIGRATION_COMPLETE_KEY = "$migration-complete";
+
+    private final Vertx vertx;
+
+    private final String storeTopic;
+
+    private final Producer<String, byte[]> producer;
+
+    private final boolean binaryFormat;
+
+    private final Map<TopicName, Topic> topics;
+
+    KafkaTopicStore(Vertx vertx, String storeTopic, boolean binaryFormat, Producer<String, byte[]> producer, Map<TopicName, Topic> topics) {
+        this.vertx = vertx;
+        this.storeTopic = storeTopic;
+        this.binaryFormat = binaryFormat;
+        this.producer = producer;
+        this.topics = new ConcurrentHashMap<>(topics);
+    }
+
+    /**
+     * Create the store: Create the compacted store topic if it does not exist yet, read the topic state
+     * stored in it and, unless it has been done already, migrate the topic state from the given {@code migrateFrom} store.
+     *
+     * @param vertx The Vertx instance.
+     * @param admin The admin client used for creating the store topic.
+     * @param kafkaClientProps The properties for connecting the producer and the consumer to the Kafka cluster.
+     * @param storeTopic The name of the store topic.
+     * @param binaryFormat Whether the topics are written in the compact binary encoding rather than in JSON.
+     * @param migrateFrom The store to migrate the topic state from, or null.
+     * @return A future which completes with the store once it is ready to be used.
+     */
+    public static Future<KafkaTopicStore> create(Vertx vertx, Admin admin, Properties kafkaClientProps,
+                                                 String storeTopic, boolean binaryFormat, TopicStore migrateFrom) {
+        return createStoreTopic(vertx, admin, storeTopic)
+            .compose(ignored -> {
+                Promise<Restored> restored = Promise.promise();
+                vertx.createSharedWorkerExecutor(WorkerPools.KAFKA_ADMIN_OPS_POOL).executeBlocking(future -> {
+                    try (Consumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProperties(kafkaClientProps),
+                            new StringDeserializer(), new ByteArrayDeserializer())) {
+                        future.complete(restore(consumer, storeTopic));
+                    } catch (Exception e) {
+                        future.fail(e);
+                    }
+                }, restored);
+                return restored.future();
+            })
+            .compose(restored -> {
+                Producer<String, byte[]> producer = new KafkaProducer<>(producerProperties(kafkaClientProps),
+                        new StringSerializer(), new ByteArraySerializer());
+                return create(vertx, storeTopic, binaryFormat, producer, restored, migrateFrom);
+            });
+    }
+
+    /**
+     * Create the store from the topic state read from the store topic, migrating the topic state
+     * from the given {@code migrateFrom} store if the migration has not completed yet.
+     */
+    static Future<KafkaTopicStore> create(Vertx vertx, String storeTopic, boolean binaryFormat, Producer<String, byte[]> producer,
+                                          Restored restored, TopicStore migrateFrom) {
+        KafkaTopicStore store = new KafkaTopicStore(vertx, storeTopic, binaryFormat, producer, restored.topics);
+        LOGGER.info("Read the state of {} topics from store topic {}", restored.topics.size(), storeTopic);
+        if (!restored.migrated && migrateFrom != null) {
+            return store.migrate(migrateFrom).map(store);
+        } else {
+            return Future.succeededFuture(store);
+        }
+    }
+
+    private static Future<Void> createStoreTopic(Vertx vertx, Admin admin, String storeTopic) {
+        Promise<Void> result = Promise.promise();
+        vertx.createSharedWorkerExecutor(WorkerPools.KAFKA_ADMIN_OPS_POOL).executeBlocking(future -> {
+            try {
+                int brokers = admin.describeCluster().nodes().get().size();
+                NewTopic newTopic = new NewTopic(storeTopic, 1, (short) Math.min(3, brokers));
+                Map<String, String> configs = new HashMap<>(2);
+                configs.put(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT);
+                configs.put(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, String.valueOf(Math.max(1, Math.min(2, brokers - 1))));
+                newTopic.configs(configs);
+                KafkaFuture<Void> created = admin.createTopics(singleton(newTopic)).all();
+                created.get();
+                LOGGER.info("Created store topic {}", storeTopic);
+                future.complete();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof TopicExistsException) {
+                    LOGGER.debug("Store topic {} already exists", storeTopic);
+                    future.complete();
+                } else {
+                    future.fail(e.getCause());
+                }
+            } catch (Exception e) {
+                future.fail(e);
+            }
+        }, result);
+        return result.future();
+    }
+
+    /**
+     * The topic state read from the store topic.
+     */
+    static class Restored {
+        final Map<TopicName, Topic> topics;
+        final boolean migrated;
+
+        Restored(Map<TopicName, Topic> topics, boolean migrated) {
+            this.topics = topics;
+            this.migrated = migrated;
+        }
+    }
+
+    /**
+     * Read the store topic from the beginning up to its current end, returning the topic state stored in it.
+     */
+    static Restored restore(Consumer<String, byte[]> consumer, String storeTopic) {
+        List<PartitionInfo> partitionInfos = consumer.partitionsFor(storeTopic);
+        List<TopicPartition> partitions = partitionInfos.stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .collect(Collectors.toList());
+        consumer.assign(partitions);
+        consumer.seekToBeginning(partitions);
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+        Map<TopicName, Topic> topics = new HashMap<>();
+        boolean migrated = false;
+        while (partitions.stream().anyMatch(partition -> consumer.position(partition) < endOffsets.get(partition))) {
+            for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                if (MIGRATION_COMPLETE_KEY.equals(record.key())) {
+                    migrated = true;
+                    continue;
+                }
+                TopicName topicName = new TopicName(record.key());
+                if (record.value() == null) {
+                    topics.remove(topicName);
+                } else {
+                    topics.put(topicName, TopicSerialization.fromBytes(record.value()));
+                }
+            }
+        }
+        return new Restored(topics, migrated);
+    }
+
+    /**
+     * Write the state of all the topics of the given store to the store topic, followed by the marker record.
+     * The topics which have been written already by a previous migration which did not complete are written again,
+     * so the migration can be repeated until it completes.
+     */
+    private Future<Void> migrate(TopicStore migrateFrom) {
+        return migrateFrom.readAll().compose(migrated -> {
+            LOGGER.info("Migrating the state of {} topics to store topic {}", migrated.size(), storeTopic);
+            List<Future> futures = new ArrayList<>(migrated.size());
+            for (Topic topic : migrated.values()) {
+                futures.add(write(topic.getTopicName(), topic));
+            }
+            return CompositeFuture.all(futures);
+        }).compose(ignored -> {
+            LOGGER.info("Migration to store topic {} complete", storeTopic);
+            return send(MIGRATION_COMPLETE_KEY, new byte[0]);
+        });
+    }
+
+    private static Properties consumerProperties(Properties kafkaClientProps) {
+        Properties props = new Properties();
+        props.putAll(kafkaClientProps);
+        props.setProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        props.setProperty(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return props;
+    }
+
+    private static Properties producerProperties(Properties kafkaClientProps) {
+        Properties props = new Properties();
+        props.putAll(kafkaClientProps);
+        props.setProperty(ProducerConfig.ACKS_CONFIG, "all");
+        props.setProperty(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "true");
+        return props;
+    }
+
+    /**
+     * Send the given value of the given topic to the store topic, applying it to the in-memory state
+     * once the write has been acknowledged.
+     */
+    private Future<Void> write(TopicName topicName, Topic topic) {
+        byte[] value;
+        try {
+            value = topic != null ? TopicSerialization.toBytes(topic, binaryFormat) : null;
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+        return send(topicName.toString(), value).map(ignored -> {
+            if (topic != null) {
+                topics.put(topicName, topic);
+            } else {
+                topics.remove(topicName);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Send the given record to the store topic, completing the returned future on the context once
+     * the write has been acknowledged.
+     */
+    private Future<Void> send(String key, byte[] value) {
+        Promise<Void> handler = Promise.promise();
+        try {
+            producer.send(new ProducerRecord<>(storeTopic, key, value), (metadata, error) -> {
+                vertx.runOnContext(ignored -> {
+                    if (error != null) {
+                        handler.fail(error);
+                    } else {
+                        handler.complete();
+                    }
+                });
+            });
+        } catch (Exception e) {
+            handler.fail(e);
+        }
+        return handler.future();
+    }
+
+    @Override
+    public Future<Topic> read(TopicName topicName) {
+        return Future.succeededFuture(topics.get(topicName));
+    }
+
+    @Override
+    public Future<Map<TopicName, Topic>> readAll() {
+        return Future.succeededFuture(new HashMap<>(topics));
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        if (topics.containsKey(topic.getTopicName())) {
+            return Future.failedFuture(new EntityExistsException());
+        }
+        LOGGER.debug("create topic {} in store topic {}", topic.getTopicName(), storeTopic);
+        return write(topic.getTopicName(), topic);
+    }
+
+    @Override
+    public Future<Void> update(Topic topic) {
+        if (!topics.containsKey(topic.getTopicName())) {
+            return Future.failedFuture(new NoSuchEntityExistsException());
+        }
+        LOGGER.debug("update topic {} in store topic {}", topic.getTopicName(), storeTopic);
+        return write(topic.getTopicName(), topic);
+    }
+
+    @Override
+    public Future<Void> delete(TopicName topicName) {
+        if (!topics.containsKey(topicName)) {
+            return Future.failedFuture(new NoSuchEntityExistsException());
+        }
+        LOGGER.debug("delete topic {} from store topic {}", topicName, storeTopic);
+        return write(topicName, null);
+    }
+
+    /**
+     * Close the producer used by the store.
+     * @param timeout The maximum time to wait for the pending writes to complete.
+     */
+    public void close(Duration timeout) {
+        producer.close(timeout);
+    }
+}
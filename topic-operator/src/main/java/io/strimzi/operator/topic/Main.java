@@ -6,6 +6,7 @@ package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.strimzi.api.kafka.Crds;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -14,8 +15,10 @@ import org.apache.logging.log4j.Logger;
 import java.util.HashMap;
 import java.util.Map;
 import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.Label;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
+import io.vertx.micrometer.backends.BackendRegistries;
 
 /**
  * The entry-point to the topic operator.
@@ -46,8 +49,14 @@ public class Main {
                 new MicrometerMetricsOptions()
                         .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
                         .setJvmMetricsEnabled(true)
+                        // The metrics of the worker pools are labeled by the pool name
+                        .addLabels(Label.POOL_NAME)
                         .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
+        WorkerPools.publishHistograms(BackendRegistries.getDefaultNow());
+        WorkerPools.create(vertx, WorkerPools.KUBERNETES_OPS_POOL, config.get(Config.KUBERNETES_OPS_POOL_SIZE));
+        WorkerPools.create(vertx, WorkerPools.ZOOKEEPER_OPS_POOL, config.get(Config.ZOOKEEPER_OPS_POOL_SIZE));
+        WorkerPools.create(vertx, WorkerPools.KAFKA_ADMIN_OPS_POOL, config.get(Config.KAFKA_ADMIN_OPS_POOL_SIZE));
         Session session = new Session(kubeClient, config);
         vertx.deployVerticle(session, ar -> {
             if (ar.succeeded()) {
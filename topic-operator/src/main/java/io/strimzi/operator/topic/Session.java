@@ -13,6 +13,7 @@ import io.strimzi.api.kafka.model.DoneableKafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
@@ -56,6 +57,7 @@ public class Session extends AbstractVerticle {
     private volatile Long timerId;
     private volatile boolean stopped = false;
     private Zk zk;
+    private KafkaTopicStore kafkaTopicStore;
     private volatile HttpServer healthServer;
 
     public Session(KubernetesClient kubeClient, Config config) {
@@ -79,7 +81,7 @@ public class Session extends AbstractVerticle {
         if (timerId != null) {
             vertx.cancelTimer(timerId);
         }
-        vertx.executeBlocking(blockingResult -> {
+        vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).executeBlocking(blockingResult -> {
             long timeout = 120_000L;
             long deadline = System.currentTimeMillis() + timeout;
             LOGGER.info("Stopping");
@@ -115,6 +117,9 @@ public class Session extends AbstractVerticle {
                     long timeoutMs = Math.max(1, deadline - System.currentTimeMillis());
                     LOGGER.debug("Closing AdminClient {} with timeout {}ms", adminClient, timeoutMs);
                     try {
+                        if (kafkaTopicStore != null) {
+                            kafkaTopicStore.close(Duration.ofMillis(timeoutMs));
+                        }
                         adminClient.close(Duration.ofMillis(timeoutMs));
                         HttpServer healthServer = this.healthServer;
                         if (healthServer != null) {
@@ -174,56 +179,78 @@ public class Session extends AbstractVerticle {
                 LOGGER.debug("Using ZooKeeper {}", zk);
 
                 String topicsPath = config.get(Config.TOPICS_PATH);
-                ZkTopicStore topicStore = new ZkTopicStore(zk, topicsPath);
-
-                LOGGER.debug("Using TopicStore {}", topicStore);
-
-                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
-                LOGGER.debug("Using Operator {}", topicOperator);
-
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
-                LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
-                this.topicWatcher = new ZkTopicWatcher(topicOperator);
-                LOGGER.debug("Using TopicWatcher {}", topicWatcher);
-                this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
-                LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
-                topicsWatcher.start(zk);
-
-                Promise<Void> initReconcilePromise = Promise.promise();
-
-                watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future(), () -> startWatcher());
-                LOGGER.debug("Starting watcher");
-                startWatcher().compose(
-                    ignored -> {
-                        LOGGER.debug("Starting health server");
-                        Session.this.healthServer = startHealthServer();
-                        return Future.<Void>succeededFuture();
-                    }).onComplete(start);
-
-                final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
-                Handler<Long> periodic = new Handler<Long>() {
-                    @Override
-                    public void handle(Long oldTimerId) {
-                        if (!stopped) {
-                            timerId = null;
-                            boolean isInitialReconcile = oldTimerId == null;
-                            topicOperator.getPeriodicReconciliationsCounter().increment();
-                            topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").onComplete(result -> {
-                                if (isInitialReconcile) {
-                                    initReconcilePromise.complete();
-                                }
-                                if (!stopped) {
-                                    timerId = vertx.setTimer(interval, this);
-                                }
+                boolean binaryFormat = Config.TOPIC_STORE_FORMAT_BINARY.equals(config.get(Config.TOPIC_STORE_FORMAT));
+                ZkTopicStore zkTopicStore = new ZkTopicStore(zk, topicsPath, binaryFormat);
+
+                Future<TopicStore> topicStoreFuture;
+                if (Config.TOPIC_STORE_KAFKA.equals(config.get(Config.TOPIC_STORE))) {
+                    topicStoreFuture = KafkaTopicStore.create(vertx, adminClient, adminClientProps, config.get(Config.STORE_TOPIC), binaryFormat, zkTopicStore)
+                            .<TopicStore>map(store -> {
+                                this.kafkaTopicStore = store;
+                                return store;
                             });
-                        }
+                } else {
+                    topicStoreFuture = Future.succeededFuture(zkTopicStore);
+                }
+
+                topicStoreFuture.onComplete(topicStoreResult -> {
+                    if (topicStoreResult.failed()) {
+                        start.fail(topicStoreResult.cause());
+                    } else {
+                        startOperator(start, topicStoreResult.result(), labels, namespace);
                     }
-                };
-                periodic.handle(null);
-                LOGGER.info("Started");
+                });
             });
     }
 
+    private void startOperator(Promise<Void> start, TopicStore topicStore, Labels labels, String namespace) {
+        LOGGER.debug("Using TopicStore {}", topicStore);
+
+        this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
+        LOGGER.debug("Using Operator {}", topicOperator);
+
+        this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+        LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
+        this.topicWatcher = new ZkTopicWatcher(topicOperator);
+        LOGGER.debug("Using TopicWatcher {}", topicWatcher);
+        this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+        LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
+        topicsWatcher.start(zk);
+
+        Promise<Void> initReconcilePromise = Promise.promise();
+
+        watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future(), () -> startWatcher());
+        LOGGER.debug("Starting watcher");
+        startWatcher().compose(
+            ignored -> {
+                LOGGER.debug("Starting health server");
+                Session.this.healthServer = startHealthServer();
+                return Future.<Void>succeededFuture();
+            }).onComplete(start);
+
+        final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
+        Handler<Long> periodic = new Handler<Long>() {
+            @Override
+            public void handle(Long oldTimerId) {
+                if (!stopped) {
+                    timerId = null;
+                    boolean isInitialReconcile = oldTimerId == null;
+                    topicOperator.getPeriodicReconciliationsCounter().increment();
+                    topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").onComplete(result -> {
+                        if (isInitialReconcile) {
+                            initReconcilePromise.complete();
+                        }
+                        if (!stopped) {
+                            timerId = vertx.setTimer(interval, this);
+                        }
+                    });
+                }
+            }
+        };
+        periodic.handle(null);
+        LOGGER.info("Started");
+    }
+
     Future<Void> startWatcher() {
         Promise<Void> promise = Promise.promise();
         try {
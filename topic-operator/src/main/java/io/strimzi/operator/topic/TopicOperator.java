@@ -39,8 +39,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
@@ -48,6 +50,7 @@ import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
 class TopicOperator {
@@ -532,6 +535,17 @@ class TopicOperator {
      */
     Future<Void> reconcile(Reconciliation reconciliation, final LogContext logContext, final HasMetadata involvedObject,
                    final Topic k8sTopic, final Topic kafkaTopic, final Topic privateTopic) {
+        return reconcile(reconciliation, logContext, involvedObject, k8sTopic, kafkaTopic, privateTopic, true).onComplete(res -> {
+            if (res.succeeded()) {
+                reconciliation.succeeded();
+            } else {
+                reconciliation.failed();
+            }
+        });
+    }
+
+    private Future<Void> reconcile(Reconciliation reconciliation, final LogContext logContext, final HasMetadata involvedObject,
+                   final Topic k8sTopic, final Topic kafkaTopic, final Topic privateTopic, boolean retryOnConflict) {
         final Future<Void> reconciliationResultHandler;
         {
             TopicName topicName = k8sTopic != null ? k8sTopic.getTopicName() : kafkaTopic != null ? kafkaTopic.getTopicName() : privateTopic != null ? privateTopic.getTopicName() : null;
@@ -601,15 +615,36 @@ class TopicOperator {
             }
         }
 
-        return reconciliationResultHandler.onComplete(res -> {
-            if (res.succeeded()) {
-                reconciliation.succeeded();
-            } else {
-                reconciliation.failed();
+        return reconciliationResultHandler.recover(error -> {
+            if (error instanceof TopicStore.ConcurrentModificationException && retryOnConflict) {
+                // Another writer changed the topicStore since we read it, so reconcile against its current state
+                // rather than overwriting it
+                LOGGER.info("{}: topicStore was modified concurrently, reconciling again", logContext);
+                TopicName topicName = k8sTopic != null ? k8sTopic.getTopicName() : kafkaTopic != null ? kafkaTopic.getTopicName() : privateTopic.getTopicName();
+                ResourceName resourceName = k8sTopic != null ? k8sTopic.getOrAsKubeName() : privateTopic != null ? privateTopic.getOrAsKubeName() : kafkaTopic.getOrAsKubeName();
+                return reconcileAfterConflict(reconciliation, logContext, involvedObject, topicName, resourceName);
             }
+            return Future.failedFuture(error);
         });
     }
 
+    /**
+     * Reconcile again with the current state of the KafkaTopic, the topic in Kafka and the topicStore,
+     * after a write to the topicStore failed because of a concurrent modification.
+     */
+    private Future<Void> reconcileAfterConflict(Reconciliation reconciliation, LogContext logContext, HasMetadata involvedObject,
+                                                TopicName topicName, ResourceName resourceName) {
+        return CompositeFuture.all(
+                k8s.getFromName(resourceName).map(kt -> {
+                    reconciliation.observedTopicFuture(kt);
+                    return TopicSerialization.fromTopicResource(kt);
+                }),
+                getFromKafka(topicName),
+                getFromTopicStore(topicName))
+            .compose(compositeResult -> reconcile(reconciliation, logContext, involvedObject,
+                    compositeResult.resultAt(0), compositeResult.resultAt(1), compositeResult.resultAt(2), false));
+    }
+
     /**
      * Function for handling the exceptions thrown by attempting to delete a topic. If the  delete.topic.enable config
      * is set to false on the broker the exception is ignored an a blank future returned. For any other form of exception
@@ -1133,7 +1168,8 @@ class TopicOperator {
         @Override
         public void handle(Void v) throws OperatorException {
             topicStore.update(topic).onComplete(ar -> {
-                if (ar.failed()) {
+                // A concurrent modification is not reported, the topic gets reconciled again instead
+                if (ar.failed() && !(ar.cause() instanceof TopicStore.ConcurrentModificationException)) {
                     enqueue(new Event(involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
                 }
                 handler.handle(ar);
@@ -1211,7 +1247,8 @@ class TopicOperator {
         @Override
         public void handle(Void v) throws OperatorException {
             topicStore.delete(topicName).onComplete(ar -> {
-                if (ar.failed()) {
+                // A concurrent modification is not reported, the topic gets reconciled again instead
+                if (ar.failed() && !(ar.cause() instanceof TopicStore.ConcurrentModificationException)) {
                     enqueue(new Event(involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
                 }
                 handler.handle(ar);
@@ -1267,17 +1304,16 @@ class TopicOperator {
         LOGGER.info("Starting {} reconciliation", reconciliationType);
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
-                // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-        ).compose(reconcileState -> {
-            Future<List<KafkaTopic>> ktFut = k8s.listResources();
-            return ktFut.recover(ex -> Future.failedFuture(
+        )).compose(topicNamesFromKafka -> {
+            List<TopicName> topicsFromKafka = topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList());
+            // Take a snapshot of the topics in Kafka, in the topic store and in Kubernetes
+            Future<List<KafkaTopic>> ktFut = k8s.listResources().recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
-            )).map(ktList -> {
-                reconcileState.setKafkaTopics(ktList);
-                return reconcileState;
-            });
+            ));
+            return CompositeFuture.all(prefetchTopicMetadata(reconciliationType, topicsFromKafka), readAllFromTopicStore(reconciliationType), ktFut)
+                    // Reconcile the topic found in Kafka
+                    .compose(snapshot -> reconcileFromKafka(reconciliationType, topicsFromKafka,
+                            snapshot.resultAt(0), snapshot.resultAt(1), snapshot.resultAt(2)));
         }).compose(reconcileState -> {
             List<Future> futs = new ArrayList<>();
             topicCounter.set(reconcileState.ktList.size());
@@ -1336,10 +1372,103 @@ class TopicOperator {
     }
 
 
+    /**
+     * Fetch the metadata of the given topics from Kafka in chunks of {@link Config#TOPIC_METADATA_BATCH_SIZE} topics,
+     * with at most {@link Config#TOPIC_METADATA_BATCH_CONCURRENCY} chunks being fetched concurrently.
+     * The returned Future never fails. The topics whose metadata could not be fetched are left out of the result.
+     * The prefetched metadata are only used to find the unchanged topics. The topics which get reconciled fetch
+     * their metadata again with the topic lock held, so that changes made after the prefetch are not reverted.
+     */
+    Future<Map<TopicName, TopicMetadata>> prefetchTopicMetadata(String reconciliationType, List<TopicName> topicNames) {
+        Map<TopicName, TopicMetadata> metadata = new ConcurrentHashMap<>(topicNames.size());
+        int batchSize = config.get(Config.TOPIC_METADATA_BATCH_SIZE);
+        Queue<Set<TopicName>> chunks = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < topicNames.size(); i += batchSize) {
+            chunks.add(new HashSet<>(topicNames.subList(i, Math.min(i + batchSize, topicNames.size()))));
+        }
+
+        int concurrency = Math.min(config.get(Config.TOPIC_METADATA_BATCH_CONCURRENCY), chunks.size());
+        List<Future<Void>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(prefetchTopicMetadata(reconciliationType, chunks, metadata));
+        }
+        return join(futures).map(ignored -> {
+            LOGGER.debug("Prefetched metadata of {} of {} topics during {} reconciliation", metadata.size(), topicNames.size(), reconciliationType);
+            return metadata;
+        });
+    }
+
+    /**
+     * Fetch the metadata of the queued chunks of topics one chunk after another, until the queue is empty.
+     */
+    private Future<Void> prefetchTopicMetadata(String reconciliationType, Queue<Set<TopicName>> chunks,
+                                               Map<TopicName, TopicMetadata> metadata) {
+        Set<TopicName> chunk = chunks.poll();
+        if (chunk == null) {
+            return Future.succeededFuture();
+        }
+        return kafka.topicMetadata(chunk)
+                .<Void>map(chunkMetadata -> {
+                    metadata.putAll(chunkMetadata);
+                    return null;
+                })
+                .recover(error -> {
+                    LOGGER.warn("Error getting metadata of {} topics during {} reconciliation, they will be fetched individually",
+                            chunk.size(), reconciliationType, error);
+                    return Future.succeededFuture();
+                })
+                .compose(ignored -> prefetchTopicMetadata(reconciliationType, chunks, metadata));
+    }
+
+    /**
+     * Read all the topics from the topic store.
+     * The returned Future never fails, if the topics cannot be listed it completes with an empty map,
+     * so the topics then get read individually while they are reconciled.
+     */
+    private Future<Map<TopicName, Topic>> readAllFromTopicStore(String reconciliationType) {
+        return topicStore.readAll().recover(error -> {
+            LOGGER.warn("Error reading topics from topic store during {} reconciliation, they will be read individually",
+                    reconciliationType, error);
+            return Future.succeededFuture(emptyMap());
+        });
+    }
+
+    /**
+     * Whether the given topic is the same in Kafka, in the topic store and in Kubernetes and the status of its
+     * KafkaTopic is up to date, so that reconciling it would not change anything.
+     * This is used during the full reconciliation with the snapshots taken at its start. The topics which changed
+     * after the snapshots were taken will be reconciled as a result of the corresponding watch events.
+     */
+    private boolean isReconciled(LogContext logContext, Topic privateTopic, TopicMetadata metadata, KafkaTopic kafkaTopicResource) {
+        if (metadata == null || kafkaTopicResource == null) {
+            return false;
+        }
+        try {
+            Topic k8sTopic = TopicSerialization.fromTopicResource(kafkaTopicResource);
+            Topic kafkaTopic = TopicSerialization.fromTopicMetadata(metadata);
+            if (!privateTopic.getOrAsKubeName().equals(k8sTopic.getResourceName())
+                    || !TopicDiff.diff(privateTopic, kafkaTopic).isEmpty()
+                    || !TopicDiff.diff(privateTopic, k8sTopic).isEmpty()) {
+                return false;
+            }
+            KafkaTopicStatus kts = new KafkaTopicStatus();
+            StatusUtils.setStatusConditionAndObservedGeneration(kafkaTopicResource, kts, (Throwable) null);
+            return new StatusDiff(kafkaTopicResource.getStatus(), kts).isEmpty();
+        } catch (RuntimeException e) {
+            LOGGER.debug("{}: Cannot compare the snapshots of topic {}", logContext, privateTopic.getTopicName(), e);
+            return false;
+        }
+    }
+
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
+     * The topics which are the same in the given snapshots of Kafka, the topic store and Kubernetes are
+     * just marked as succeeded, the others are reconciled individually with the topic lock held.
      */
-    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka,
+                                                      Map<TopicName, TopicMetadata> metadata,
+                                                      Map<TopicName, Topic> privateTopics,
+                                                      List<KafkaTopic> ktList) {
         Set<TopicName> succeeded = new HashSet<>();
         Set<TopicName> undetermined = new HashSet<>();
         Map<TopicName, Throwable> failed = new HashMap<>();
@@ -1347,10 +1476,24 @@ class TopicOperator {
         LOGGER.debug("Reconciling kafka topics {}", topicsFromKafka);
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
+        state.setKafkaTopics(ktList);
         if (topicsFromKafka.size() > 0) {
+            Map<String, KafkaTopic> ktByName = new HashMap<>(ktList.size());
+            for (KafkaTopic kt : ktList) {
+                ktByName.put(kt.getMetadata().getName(), kt);
+            }
+
             List<Future<Void>> futures = new ArrayList<>();
             for (TopicName topicName : topicsFromKafka) {
                 LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
+                Topic privateTopic = privateTopics.get(topicName);
+                if (privateTopic != null
+                        && isReconciled(logContext, privateTopic, metadata.get(topicName), ktByName.get(privateTopic.getOrAsKubeName().toString()))) {
+                    LOGGER.debug("{}: Topic {} is the same in Kafka, topicStore and k8s -> succeeded", logContext, topicName);
+                    metadata.remove(topicName);
+                    succeeded.add(topicName);
+                    continue;
+                }
                 futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka", false) {
                     @Override
                     public Future<Void> execute() {
@@ -19,6 +19,9 @@ import org.apache.kafka.common.config.ConfigResource;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -40,6 +43,15 @@ class TopicSerialization {
     public static final String JSON_KEY_REPLICAS = "replicas";
     public static final String JSON_KEY_CONFIG = "config";
 
+    /**
+     * The first byte of the binary encoding of a Topic.
+     * The legacy JSON encoding never starts with it, which is how the two encodings are told apart.
+     */
+    static final byte BINARY_MAGIC = 0;
+
+    /** The current version of the binary encoding. */
+    static final byte BINARY_VERSION = 1;
+
     @SuppressWarnings("unchecked")
     private static Map<String, String> topicConfigFromTopicConfig(KafkaTopic kafkaTopic) {
         if (kafkaTopic.getSpec().getConfig() != null) {
@@ -284,6 +296,114 @@ class TopicSerialization {
         return builder.build();
     }
 
+    /**
+     * Returns the compact binary encoding of the given Topic.
+     * The encoding consists of the {@link #BINARY_MAGIC} byte, the {@link #BINARY_VERSION} byte,
+     * the topic name, the resource name, the number of partitions, the number of replicas and the config entries.
+     * Numbers are encoded as unsigned varints and strings as their varint length followed by their UTF-8 bytes.
+     */
+    public static byte[] toBinary(Topic topic) {
+        Map<String, String> config = topic.getConfig();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + 64 * config.size());
+        out.write(BINARY_MAGIC);
+        out.write(BINARY_VERSION);
+        writeString(out, topic.getTopicName().toString());
+        writeString(out, topic.getOrAsKubeName().toString());
+        writeVarInt(out, topic.getNumPartitions());
+        writeVarInt(out, topic.getNumReplicas());
+        writeVarInt(out, config.size());
+        for (Map.Entry<String, String> entry : config.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the Topic represented by the given binary encoding, as returned by {@link #toBinary(Topic)}.
+     */
+    public static Topic fromBinary(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.get() != BINARY_MAGIC) {
+                throw new IllegalArgumentException("Not a binary encoded topic");
+            }
+            byte version = buffer.get();
+            if (version != BINARY_VERSION) {
+                throw new IllegalArgumentException("Unsupported binary topic encoding version " + version);
+            }
+            Topic.Builder builder = new Topic.Builder()
+                    .withTopicName(readString(buffer))
+                    .withMapName(readString(buffer))
+                    .withNumPartitions(readVarInt(buffer))
+                    .withNumReplicas((short) readVarInt(buffer));
+            int configs = readVarInt(buffer);
+            for (int i = 0; i < configs; i++) {
+                builder.withConfigEntry(readString(buffer), readString(buffer));
+            }
+            return builder.build();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated binary encoded topic", e);
+        }
+    }
+
+    /**
+     * Returns the Topic represented by the given bytes, which are either in the binary encoding
+     * returned by {@link #toBinary(Topic)} or in the legacy JSON encoding returned by {@link #toJson(Topic)}.
+     * This is what is read from the topic stores.
+     */
+    public static Topic fromBytes(byte[] bytes) {
+        if (bytes.length > 0 && bytes[0] == BINARY_MAGIC) {
+            return fromBinary(bytes);
+        } else {
+            return fromJson(bytes);
+        }
+    }
+
+    /**
+     * Returns the given Topic in the binary encoding if {@code binary} is true, otherwise in the JSON encoding.
+     * This is what is written to the topic stores.
+     */
+    public static byte[] toBytes(Topic topic, boolean binary) {
+        return binary ? toBinary(topic) : toJson(topic);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in binary encoded topic");
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = readVarInt(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
     private static ObjectMapper objectMapper() {
         JsonFactory jf = new JsonFactory();
         jf.configure(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION, false);
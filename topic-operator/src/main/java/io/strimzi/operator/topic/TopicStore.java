@@ -6,6 +6,8 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.Map;
+
 /**
  * Represents a persistent data store where the operator can store its copy of the
  * topic state that won't be modified by either K8S or Kafka.
@@ -20,6 +22,10 @@ interface TopicStore {
 
     }
 
+    public static class ConcurrentModificationException extends Exception {
+
+    }
+
     /**
      * Asynchronously get the topic with the given name
      * completing the returned future when done.
@@ -30,6 +36,15 @@ interface TopicStore {
      */
     Future<Topic> read(TopicName name);
 
+    /**
+     * Asynchronously get all the topics in the store
+     * completing the returned future when done.
+     * Topics which could not be read are left out of the result,
+     * so callers should use {@link #read(TopicName)} for the topics which are missing in it.
+     * @return A future which completes with the topics, indexed by their names.
+     */
+    Future<Map<TopicName, Topic>> readAll();
+
     /**
      * Asynchronously persist the given topic in the store
      * completing the returned future when done.
@@ -45,6 +60,8 @@ interface TopicStore {
      * completing the returned future when done.
      * If no topic with the given name exists, the future will complete with a
      * {@link NoSuchEntityExistsException}.
+     * If the topic was modified concurrently since it was last read or written by this store,
+     * the future will complete with a {@link ConcurrentModificationException}.
      * @param topic The topic.
      * @return A future which completes when the given topic has been updated.
      */
@@ -55,6 +72,8 @@ interface TopicStore {
      * completing the returned future when done.
      * If no topic with the given name exists, the future will complete with a
      * {@link NoSuchEntityExistsException}.
+     * If the topic was modified concurrently since it was last read or written by this store,
+     * the future will complete with a {@link ConcurrentModificationException}.
      * @param topic The topic.
      * @return A future which completes when the given topic has been deleted.
      */
@@ -6,17 +6,22 @@ package io.strimzi.operator.topic;
 
 import io.strimzi.operator.topic.zk.AclBuilder;
 import io.strimzi.operator.topic.zk.Zk;
-import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import org.I0Itec.zkclient.exception.ZkBadVersionException;
 import org.I0Itec.zkclient.exception.ZkNoNodeException;
 import org.I0Itec.zkclient.exception.ZkNodeExistsException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of {@link TopicStore} that stores the topic state in ZooKeeper.
@@ -31,9 +36,31 @@ public class ZkTopicStore implements TopicStore {
 
     private final List<ACL> acl;
 
+    private final boolean binaryFormat;
+
+    /**
+     * The topics read from or written to ZooKeeper by this store, together with the version of their znode.
+     * Updates and deletes are conditional on the cached version, so a concurrent modification of a znode
+     * (for example by another operator instance) is detected, rather than silently overwritten.
+     * When it is detected, the entry is replaced by the current content of the znode and the write fails with a
+     * {@link ConcurrentModificationException}, so that the caller can reconcile against the current content.
+     */
+    private final Map<TopicName, VersionedTopic> cache = new ConcurrentHashMap<>();
+
     public ZkTopicStore(Zk zk, String topicsPath) {
+        this(zk, topicsPath, false);
+    }
+
+    /**
+     * @param zk The ZooKeeper client.
+     * @param topicsPath The path of the znode under which the topic znodes are stored.
+     * @param binaryFormat Whether the topics are written in the compact binary encoding rather than in JSON.
+     *                     Topics in either encoding can be read.
+     */
+    public ZkTopicStore(Zk zk, String topicsPath, boolean binaryFormat) {
         this.zk = zk;
         this.topicsPath = topicsPath;
+        this.binaryFormat = binaryFormat;
         acl = new AclBuilder().setWorld(AclBuilder.Permission.values()).build();
         createStrimziTopicsPath();
     }
@@ -62,35 +89,83 @@ public class ZkTopicStore implements TopicStore {
         return topicsPath + "/" + name;
     }
 
+    /**
+     * Add the given topic to the cache, unless the cache already holds a newer version of it.
+     */
+    private void cache(TopicName topicName, VersionedTopic versioned) {
+        cache.merge(topicName, versioned, (cached, updated) -> updated.version >= cached.version ? updated : cached);
+    }
+
     @Override
     public Future<Topic> read(TopicName topicName) {
-        Promise<Topic> handler = Promise.promise();
+        VersionedTopic cached = cache.get(topicName);
+        if (cached != null) {
+            return Future.succeededFuture(cached.topic);
+        }
+        return readVersioned(topicName).map(versioned -> versioned != null ? versioned.topic : null);
+    }
+
+    /**
+     * Read the topic and the version of its znode from ZooKeeper, updating the cache.
+     * The returned future completes with null if there is no znode for the topic.
+     */
+    private Future<VersionedTopic> readVersioned(TopicName topicName) {
+        Promise<VersionedTopic> handler = Promise.promise();
         String topicPath = getTopicPath(topicName);
-        zk.getData(topicPath, result -> {
-            final AsyncResult<Topic> fut;
+        Stat stat = new Stat();
+        zk.getData(topicPath, stat, result -> {
             if (result.succeeded()) {
-                fut = Future.succeededFuture(TopicSerialization.fromJson(result.result()));
+                VersionedTopic versioned = new VersionedTopic(TopicSerialization.fromBytes(result.result()), stat.getVersion());
+                cache(topicName, versioned);
+                handler.complete(versioned);
+            } else if (result.cause() instanceof ZkNoNodeException) {
+                cache.remove(topicName);
+                handler.complete(null);
             } else {
-                if (result.cause() instanceof ZkNoNodeException) {
-                    fut = Future.succeededFuture(null);
-                } else {
-                    fut = result.map((Topic) null);
-                }
+                handler.fail(result.cause());
             }
-            handler.handle(fut);
         });
         return handler.future();
     }
 
+    @Override
+    public Future<Map<TopicName, Topic>> readAll() {
+        Promise<List<String>> children = Promise.promise();
+        zk.children(topicsPath, children);
+        return children.future().compose(names -> {
+            LOGGER.debug("Reading {} znodes in {}", names.size(), topicsPath);
+            Map<TopicName, Topic> topics = new ConcurrentHashMap<>(names.size());
+            List<Future> futures = new ArrayList<>(names.size());
+            for (String name : names) {
+                TopicName topicName = new TopicName(name);
+                futures.add(read(topicName).map(topic -> {
+                    if (topic != null) {
+                        topics.put(topicName, topic);
+                    }
+                    return null;
+                }).recover(error -> {
+                    LOGGER.debug("Error reading znode {}", getTopicPath(topicName), error);
+                    return Future.succeededFuture();
+                }));
+            }
+            return CompositeFuture.join(futures).map(topics);
+        });
+    }
+
     @Override
     public Future<Void> create(Topic topic) {
         Promise<Void> handler = Promise.promise();
-        byte[] data = TopicSerialization.toJson(topic);
+        byte[] data = TopicSerialization.toBytes(topic, binaryFormat);
         String topicPath = getTopicPath(topic.getTopicName());
         LOGGER.debug("create znode {}", topicPath);
         zk.create(topicPath, data, acl, CreateMode.PERSISTENT, result -> {
-            if (result.failed() && result.cause() instanceof ZkNodeExistsException) {
-                handler.handle(Future.failedFuture(new EntityExistsException()));
+            if (result.succeeded()) {
+                // A newly created znode always has version 0
+                cache(topic.getTopicName(), new VersionedTopic(topic, 0));
+                handler.complete();
+            } else if (result.cause() instanceof ZkNodeExistsException) {
+                cache.remove(topic.getTopicName());
+                handler.fail(new EntityExistsException());
             } else {
                 handler.handle(result);
             }
@@ -100,28 +175,79 @@ public class ZkTopicStore implements TopicStore {
 
     @Override
     public Future<Void> update(Topic topic) {
-        Promise<Void> handler = Promise.promise();
-        byte[] data = TopicSerialization.toJson(topic);
-        // TODO pass a non-zero version
-        String topicPath = getTopicPath(topic.getTopicName());
-        LOGGER.debug("update znode {}", topicPath);
-        zk.setData(topicPath, data, -1, handler);
-        return handler.future();
+        TopicName topicName = topic.getTopicName();
+        String topicPath = getTopicPath(topicName);
+        byte[] data = TopicSerialization.toBytes(topic, binaryFormat);
+        return currentVersion(topicName).compose(version -> {
+            LOGGER.debug("update znode {} with version {}", topicPath, version);
+            Promise<Stat> handler = Promise.promise();
+            zk.setDataReturnStat(topicPath, data, version, handler);
+            return handler.future().<Void>map(stat -> {
+                cache(topicName, new VersionedTopic(topic, stat.getVersion()));
+                return null;
+            }).recover(error -> onWriteFailed(topicName, error));
+        });
     }
 
     @Override
     public Future<Void> delete(TopicName topicName) {
-        Promise<Void> handler = Promise.promise();
-        // TODO pass a non-zero version
         String topicPath = getTopicPath(topicName);
-        LOGGER.debug("delete znode {}", topicPath);
-        zk.delete(topicPath, -1, result -> {
-            if (result.failed() && result.cause() instanceof ZkNoNodeException) {
-                handler.handle(Future.failedFuture(new NoSuchEntityExistsException()));
-            } else {
-                handler.handle(result);
-            }
+        return currentVersion(topicName).compose(version -> {
+            LOGGER.debug("delete znode {} with version {}", topicPath, version);
+            Promise<Void> handler = Promise.promise();
+            zk.delete(topicPath, version, handler);
+            return handler.future().map(ignored -> {
+                cache.remove(topicName);
+                return ignored;
+            }).recover(error -> {
+                if (error instanceof ZkNoNodeException) {
+                    cache.remove(topicName);
+                    return Future.failedFuture(new NoSuchEntityExistsException());
+                }
+                return onWriteFailed(topicName, error);
+            });
         });
-        return handler.future();
+    }
+
+    /**
+     * Handle the failure of an update or a delete. When the znode was modified concurrently, the cached entry is
+     * replaced by the current content of the znode and the returned future fails with a
+     * {@link ConcurrentModificationException}.
+     */
+    private Future<Void> onWriteFailed(TopicName topicName, Throwable error) {
+        cache.remove(topicName);
+        if (error instanceof ZkBadVersionException) {
+            LOGGER.debug("znode {} was modified concurrently", getTopicPath(topicName));
+            return readVersioned(topicName)
+                    .recover(readError -> Future.succeededFuture())
+                    .compose(ignored -> Future.failedFuture(new ConcurrentModificationException()));
+        }
+        return Future.failedFuture(error);
+    }
+
+    /**
+     * Get the version of the znode of the given topic, reading it from ZooKeeper if it is not cached.
+     * When there is no znode for the topic, the version is -1, so that the subsequent update or delete fails
+     * because the znode does not exist.
+     */
+    private Future<Integer> currentVersion(TopicName topicName) {
+        VersionedTopic cached = cache.get(topicName);
+        if (cached != null) {
+            return Future.succeededFuture(cached.version);
+        }
+        return readVersioned(topicName).map(versioned -> versioned != null ? versioned.version : -1);
+    }
+
+    /**
+     * A topic together with the version of the znode it was read from or written to.
+     */
+    private static class VersionedTopic {
+        private final Topic topic;
+        private final int version;
+
+        VersionedTopic(Topic topic, int version) {
+            this.topic = topic;
+            this.version = version;
+        }
     }
 }
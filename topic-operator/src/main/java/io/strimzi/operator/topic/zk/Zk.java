@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.topic.zk;
 
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -12,6 +13,7 @@ import org.I0Itec.zkclient.ZkClient;
 import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.util.List;
 
@@ -22,7 +24,7 @@ public interface Zk {
 
     static void create(Vertx vertx, String zkConnectionString, int sessionTimeout, int connectionTimeout,
                               Handler<AsyncResult<Zk>> handler) {
-        vertx.executeBlocking(f -> {
+        vertx.createSharedWorkerExecutor(WorkerPools.ZOOKEEPER_OPS_POOL).executeBlocking(f -> {
             try {
                 f.complete(createSync(vertx, zkConnectionString, sessionTimeout, connectionTimeout));
             } catch (Throwable t) {
@@ -79,6 +81,18 @@ public interface Zk {
      */
     Zk setData(String path, byte[] data, int version, Handler<AsyncResult<Void>> handler);
 
+    /**
+     * Asynchronously set the data in the znode at the given path to the
+     * given data iff the given version is -1, or matches the version of the znode,
+     * then invoke the given handler with the {@link Stat} of the updated znode.
+     * @param path The path.
+     * @param data The data.
+     * @param version The version.
+     * @param handler The result handler.
+     * @return This instance.
+     */
+    Zk setDataReturnStat(String path, byte[] data, int version, Handler<AsyncResult<Stat>> handler);
+
     /**
      * Asynchronously fetch the children of the znode at the given {@code path}, calling the given
      * handler with the result.
@@ -116,6 +130,17 @@ public interface Zk {
      */
     Zk getData(String path, Handler<AsyncResult<byte[]>> handler);
 
+    /**
+     * Asynchronously fetch the data of the given znode at the given path, calling the given handler
+     * with the result. The given {@code stat} is populated with the {@link Stat} of the znode
+     * before the handler is called.
+     * @param path The path.
+     * @param stat The stat to populate.
+     * @param handler The result handler.
+     * @return This instance.
+     */
+    Zk getData(String path, Stat stat, Handler<AsyncResult<byte[]>> handler);
+
     /**
      * Asynchronously set given the data {@code watcher} on the given {@code path},
      * returning a future which completes when the watcher is subscribed.
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.topic.zk;
 
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -18,6 +19,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
@@ -77,6 +79,20 @@ public class ZkImpl implements Zk {
         return this;
     }
 
+    @Override
+    public Zk setDataReturnStat(String path, byte[] data, int version, Handler<AsyncResult<Stat>> handler) {
+        workerPool().executeBlocking(
+            future -> {
+                try {
+                    future.complete(zookeeper.writeDataReturnStat(path, data, version));
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            handler);
+        return this;
+    }
+
     @Override
     public Zk disconnect(Handler<AsyncResult<Void>> handler) {
 
@@ -107,6 +123,20 @@ public class ZkImpl implements Zk {
         return this;
     }
 
+    @Override
+    public Zk getData(String path, Stat stat, Handler<AsyncResult<byte[]>> handler) {
+        workerPool().executeBlocking(
+            future -> {
+                try {
+                    future.complete(zookeeper.readData(path, stat));
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            handler);
+        return this;
+    }
+
     static class DataWatchAdapter implements IZkDataListener {
 
         private final Handler<AsyncResult<byte[]>> watcher;
@@ -188,7 +218,7 @@ public class ZkImpl implements Zk {
     }
 
     private WorkerExecutor workerPool() {
-        return vertx.createSharedWorkerExecutor(getClass().getName(), 4);
+        return vertx.createSharedWorkerExecutor(WorkerPools.ZOOKEEPER_OPS_POOL);
     }
 
     @Override
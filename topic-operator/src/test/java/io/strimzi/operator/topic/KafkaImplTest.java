@@ -4,8 +4,11 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
@@ -29,15 +32,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -245,6 +253,31 @@ public class KafkaImplTest {
         })));
     }
 
+    @Test
+    public void testBatchedTopicMetadata(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        Map<String, Either<TopicDescription, Exception>> descriptions = new HashMap<>();
+        descriptions.put("found", Either.ofLeft(mock(TopicDescription.class)));
+        descriptions.put("not-found", Either.ofRight(new UnknownTopicOrPartitionException()));
+        descriptions.put("timeout", Either.ofLeft(mock(TopicDescription.class)));
+        mockDescribeTopics(admin, descriptions);
+        Map<ConfigResource, Either<Config, Exception>> configs = new HashMap<>();
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "found"), Either.ofLeft(mock(Config.class)));
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "not-found"), Either.ofRight(new UnknownTopicOrPartitionException()));
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "timeout"), Either.ofRight(new TimeoutException()));
+        mockDescribeConfigs(admin, configs);
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        Set<TopicName> topicNames = new HashSet<>(asList(new TopicName("found"), new TopicName("not-found"), new TopicName("timeout")));
+        impl.topicMetadata(topicNames).onComplete(testContext.succeeding(metadata -> testContext.verify(() -> {
+            assertEquals(singleton(new TopicName("found")), metadata.keySet());
+            assertNotNull(metadata.get(new TopicName("found")).getDescription());
+            assertNotNull(metadata.get(new TopicName("found")).getConfig());
+            verify(admin, never()).createTopics(any(), any());
+            testContext.completeNow();
+        })));
+    }
+
     @Test
     public void testDelete(VertxTestContext testContext) {
         Admin admin = mock(Admin.class);
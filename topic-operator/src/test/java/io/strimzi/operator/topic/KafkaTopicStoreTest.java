@@ -0,0 +1,228 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaTopicStoreTest {
+
+    private static final String STORE_TOPIC = "__strimzi_store_topic";
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testCrud(VertxTestContext context) {
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        KafkaTopicStore store = new KafkaTopicStore(vertx, STORE_TOPIC, false, producer, Collections.emptyMap());
+
+        Topic topic = new Topic.Builder("my_topic", 2, (short) 3, singletonMap("foo", "bar")).build();
+        Topic updatedTopic = new Topic.Builder("my_topic", 2, (short) 3, singletonMap("foo", "baz")).build();
+
+        Checkpoint async = context.checkpoint();
+        store.create(topic)
+            .compose(ignored -> store.create(topic))
+            .<Topic>map(ignored -> {
+                throw new AssertionError("The topic should not be created twice");
+            })
+            .recover(e -> {
+                context.verify(() -> assertThat(e, instanceOf(TopicStore.EntityExistsException.class)));
+                return store.read(topic.getTopicName());
+            })
+            .onComplete(context.succeeding(read -> context.verify(() -> assertThat(read, is(topic)))))
+            .compose(ignored -> store.update(updatedTopic))
+            .compose(ignored -> store.readAll())
+            .onComplete(context.succeeding(all -> context.verify(() -> assertThat(all, is(singletonMap(topic.getTopicName(), updatedTopic))))))
+            .compose(ignored -> store.delete(topic.getTopicName()))
+            .compose(ignored -> store.read(topic.getTopicName()))
+            .onComplete(context.succeeding(read -> context.verify(() -> {
+                assertThat(read, is(nullValue()));
+                assertThat(producer.history().size(), is(3));
+                assertThat(producer.history().get(0).key(), is("my_topic"));
+                assertThat(TopicSerialization.fromJson(producer.history().get(1).value()), is(roundTrip(updatedTopic)));
+                assertThat(producer.history().get(2).value(), is(nullValue()));
+            })))
+            .compose(ignored -> store.delete(topic.getTopicName()))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TopicStore.NoSuchEntityExistsException.class));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFailedWriteIsNotApplied(VertxTestContext context) {
+        MockProducer<String, byte[]> producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        KafkaTopicStore store = new KafkaTopicStore(vertx, STORE_TOPIC, false, producer, Collections.emptyMap());
+        Topic topic = new Topic.Builder("my_topic", 2, (short) 3, Collections.emptyMap()).build();
+
+        Checkpoint async = context.checkpoint();
+        store.create(topic)
+            .recover(ignored -> store.read(topic.getTopicName()).mapEmpty())
+            .compose(ignored -> store.read(topic.getTopicName()))
+            .onComplete(context.succeeding(read -> context.verify(() -> {
+                assertThat(read, is(nullValue()));
+                async.flag();
+            })));
+        producer.errorNext(new RuntimeException("failed"));
+    }
+
+    @Test
+    public void testRestore() {
+        TopicPartition partition = new TopicPartition(STORE_TOPIC, 0);
+        MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(STORE_TOPIC, singletonList(new PartitionInfo(STORE_TOPIC, 0, Node.noNode(), new Node[0], new Node[0])));
+        consumer.updateBeginningOffsets(singletonMap(partition, 0L));
+        consumer.updateEndOffsets(singletonMap(partition, 4L));
+
+        Topic first = new Topic.Builder("first", 1, (short) 1, Collections.emptyMap()).build();
+        Topic second = new Topic.Builder("second", 1, (short) 1, Collections.emptyMap()).build();
+        Topic updatedSecond = new Topic.Builder("second", 2, (short) 1, Collections.emptyMap()).build();
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 0L, "first", TopicSerialization.toJson(first)));
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 1L, "second", TopicSerialization.toJson(second)));
+        });
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 2L, "first", null));
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 3L, "second", TopicSerialization.toJson(updatedSecond)));
+        });
+
+        KafkaTopicStore.Restored restored = KafkaTopicStore.restore(consumer, STORE_TOPIC);
+
+        assertThat(restored.topics, is(singletonMap(new TopicName("second"), roundTrip(updatedSecond))));
+        assertThat(restored.migrated, is(false));
+    }
+
+    @Test
+    public void testRestoreAfterMigration() {
+        MockConsumer<String, byte[]> consumer = storeTopicConsumer(3L);
+        Topic first = new Topic.Builder("first", 1, (short) 1, Collections.emptyMap()).build();
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 0L, "first", TopicSerialization.toJson(first)));
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 1L, KafkaTopicStore.MIGRATION_COMPLETE_KEY, new byte[0]));
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 2L, "first", null));
+        });
+
+        KafkaTopicStore.Restored restored = KafkaTopicStore.restore(consumer, STORE_TOPIC);
+
+        assertThat(restored.topics, is(Collections.emptyMap()));
+        assertThat(restored.migrated, is(true));
+    }
+
+    @Test
+    public void testMigration(VertxTestContext context) {
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        Topic first = new Topic.Builder("first", 1, (short) 1, Collections.emptyMap()).build();
+        Topic second = new Topic.Builder("second", 2, (short) 1, Collections.emptyMap()).build();
+        MockTopicStore zkStore = zkStore(first, second);
+
+        Checkpoint async = context.checkpoint();
+        KafkaTopicStore.create(vertx, STORE_TOPIC, false, producer, new KafkaTopicStore.Restored(Collections.emptyMap(), false), zkStore)
+            .compose(store -> store.readAll())
+            .onComplete(context.succeeding(all -> context.verify(() -> {
+                assertThat(all.keySet(), is(new HashSet<>(asList(first.getTopicName(), second.getTopicName()))));
+                assertThat(producer.history().size(), is(3));
+                assertThat(producer.history().get(2).key(), is(KafkaTopicStore.MIGRATION_COMPLETE_KEY));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testMigrationIsResumedAfterRestart(VertxTestContext context) {
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        Topic first = new Topic.Builder("first", 1, (short) 1, Collections.emptyMap()).build();
+        Topic second = new Topic.Builder("second", 2, (short) 1, Collections.emptyMap()).build();
+        MockTopicStore zkStore = zkStore(first, second);
+
+        // The previous migration stopped after writing the first topic
+        MockConsumer<String, byte[]> consumer = storeTopicConsumer(1L);
+        consumer.schedulePollTask(() ->
+            consumer.addRecord(new ConsumerRecord<>(STORE_TOPIC, 0, 0L, "first", TopicSerialization.toJson(first))));
+        KafkaTopicStore.Restored restored = KafkaTopicStore.restore(consumer, STORE_TOPIC);
+
+        Checkpoint async = context.checkpoint();
+        KafkaTopicStore.create(vertx, STORE_TOPIC, false, producer, restored, zkStore)
+            .compose(store -> store.readAll())
+            .onComplete(context.succeeding(all -> context.verify(() -> {
+                assertThat(all.keySet(), is(new HashSet<>(asList(first.getTopicName(), second.getTopicName()))));
+                assertThat(producer.history().get(producer.history().size() - 1).key(), is(KafkaTopicStore.MIGRATION_COMPLETE_KEY));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testCompletedMigrationIsNotRepeated(VertxTestContext context) {
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        // The topic store in ZooKeeper still has a topic which has been deleted since the migration
+        MockTopicStore zkStore = zkStore(new Topic.Builder("deleted", 1, (short) 1, Collections.emptyMap()).build());
+
+        Checkpoint async = context.checkpoint();
+        KafkaTopicStore.create(vertx, STORE_TOPIC, false, producer, new KafkaTopicStore.Restored(Collections.emptyMap(), true), zkStore)
+            .compose(store -> store.readAll())
+            .onComplete(context.succeeding(all -> context.verify(() -> {
+                assertThat(all, is(Collections.emptyMap()));
+                assertThat(producer.history().size(), is(0));
+                async.flag();
+            })));
+    }
+
+    private static MockConsumer<String, byte[]> storeTopicConsumer(long endOffset) {
+        TopicPartition partition = new TopicPartition(STORE_TOPIC, 0);
+        MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(STORE_TOPIC, singletonList(new PartitionInfo(STORE_TOPIC, 0, Node.noNode(), new Node[0], new Node[0])));
+        consumer.updateBeginningOffsets(singletonMap(partition, 0L));
+        consumer.updateEndOffsets(singletonMap(partition, endOffset));
+        return consumer;
+    }
+
+    private static MockTopicStore zkStore(Topic... topics) {
+        MockTopicStore store = new MockTopicStore();
+        for (Topic topic : topics) {
+            store.setCreateTopicResponse(topic.getTopicName(), null);
+            store.create(topic);
+        }
+        return store;
+    }
+
+    private static Topic roundTrip(Topic topic) {
+        return TopicSerialization.fromJson(TopicSerialization.toJson(topic));
+    }
+}
@@ -35,6 +35,7 @@ public class MockKafka implements Kafka {
     private int topicMetadataResposeCall = 0;
     private List<Function<TopicName, Future<TopicMetadata>>> topicMetadataRespose = singletonList(
         t -> failedFuture("Unexpected. Your test probably need to configure the MockKafka with a topicMetadataResponse."));
+    private Function<Set<TopicName>, Future<Map<TopicName, TopicMetadata>>> topicsMetadataResponse = null;
     private Function<TopicName, Future<Boolean>> topicExistsResult =
         t -> failedFuture("Unexpected. Your test probably need to configure the MockKafka with a topicExistsResult.");
     private Function<String, Future<Void>> createTopicResponse =
@@ -65,6 +66,16 @@ public class MockKafka implements Kafka {
         return this;
     }
 
+    /**
+     * Sets the response to the metadata requests for several topics at once.
+     * Unless set, the metadata of each topic is taken from the current topicMetadataResponse,
+     * without advancing the sequence set by {@link #setTopicMetadataResponses(Function[])}.
+     */
+    public MockKafka setTopicsMetadataResponse(Function<Set<TopicName>, Future<Map<TopicName, TopicMetadata>>> topicsMetadataResponse) {
+        this.topicsMetadataResponse = topicsMetadataResponse;
+        return this;
+    }
+
     public MockKafka setTopicMetadataResponse(TopicName topic, TopicMetadata topicMetadata, Exception exception) {
         Function<TopicName, Future<TopicMetadata>> old = getTopicNameFutureFunction();
         this.topicMetadataRespose = singletonList(t -> {
@@ -208,6 +219,22 @@ public class MockKafka implements Kafka {
         return getTopicNameFutureFunction().apply(topicName);
     }
 
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Set<TopicName> topicNames) {
+        if (topicsMetadataResponse != null) {
+            return topicsMetadataResponse.apply(topicNames);
+        }
+        Function<TopicName, Future<TopicMetadata>> response = topicMetadataRespose.get(min(topicMetadataResposeCall, topicMetadataRespose.size() - 1));
+        Map<TopicName, TopicMetadata> result = new HashMap<>();
+        for (TopicName topicName : topicNames) {
+            Future<TopicMetadata> metadata = response.apply(topicName);
+            if (metadata.succeeded() && metadata.result() != null) {
+                result.put(topicName, metadata.result());
+            }
+        }
+        return succeededFuture(result);
+    }
+
     Function<TopicName, Future<TopicMetadata>> getTopicNameFutureFunction() {
         return topicMetadataRespose.get(min(topicMetadataResposeCall++, topicMetadataRespose.size() - 1));
     }
@@ -21,6 +21,7 @@ public class MockTopicStore implements TopicStore {
     private Function<TopicName, Future<Void>> deleteTopicResponse = t -> Future.failedFuture("Unexpected. Your test's MockTopicStore probably needs a deleteTopicResponse configured.");
     private Function<TopicName, Future<Void>> updateTopicResponse = t -> Future.failedFuture("Unexpected. Your test's MockTopicStore probably needs a updateTopicResponse configured.");
     private Function<TopicName, Future<Topic>> getTopicResponse = t -> null;
+    private Map<TopicName, Topic> concurrentUpdates = new HashMap<>();
 
     @Override
     public Future<Topic> read(TopicName name) {
@@ -33,6 +34,11 @@ public class MockTopicStore implements TopicStore {
         }
     }
 
+    @Override
+    public Future<Map<TopicName, Topic>> readAll() {
+        return Future.succeededFuture(new HashMap<>(topics));
+    }
+
     @Override
     public Future<Void> create(Topic topic) {
         Future<Void> response = createTopicResponse.apply(topic.getTopicName());
@@ -47,6 +53,11 @@ public class MockTopicStore implements TopicStore {
 
     @Override
     public Future<Void> update(Topic topic) {
+        Topic concurrentTopic = concurrentUpdates.remove(topic.getTopicName());
+        if (concurrentTopic != null) {
+            topics.put(topic.getTopicName(), concurrentTopic);
+            return Future.failedFuture(new TopicStore.ConcurrentModificationException());
+        }
         Topic old = topics.put(topic.getTopicName(), topic);
         if (old != null) {
             return Future.succeededFuture();
@@ -127,6 +138,15 @@ public class MockTopicStore implements TopicStore {
         return this;
     }
 
+    /**
+     * Make the next update of the given topic fail because of a concurrent modification, which stored the
+     * given topic instead.
+     */
+    public MockTopicStore setConcurrentUpdate(Topic concurrentTopic) {
+        concurrentUpdates.put(concurrentTopic.getTopicName(), concurrentTopic);
+        return this;
+    }
+
     public MockTopicStore setGetTopicResponse(TopicName topic, Future<Topic> f) {
         Function<TopicName, Future<Topic>> old = this.getTopicResponse;
         this.getTopicResponse = t -> {
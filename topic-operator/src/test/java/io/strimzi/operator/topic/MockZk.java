@@ -10,6 +10,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +20,7 @@ class MockZk implements Zk {
 
     public AsyncResult<Void> createResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".connectResult");
     public AsyncResult<Void> setDataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".setDataResult");
+    public AsyncResult<Stat> setDataReturnStatResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".setDataReturnStatResult");
     public AsyncResult<List<String>> childrenResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".childrenResult");
     public AsyncResult<byte[]> dataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".dataResult");
     private Handler<AsyncResult<List<String>>> childrenHandler;
@@ -55,6 +57,12 @@ class MockZk implements Zk {
         return this;
     }
 
+    @Override
+    public Zk setDataReturnStat(String path, byte[] data, int version, Handler<AsyncResult<Stat>> handler) {
+        handler.handle(setDataReturnStatResult);
+        return this;
+    }
+
     @Override
     public Zk children(String path, Handler<AsyncResult<List<String>>> handler) {
         handler.handle(childrenResult);
@@ -79,6 +87,12 @@ class MockZk implements Zk {
         return this;
     }
 
+    @Override
+    public Zk getData(String path, Stat stat, Handler<AsyncResult<byte[]>> handler) {
+        handler.handle(dataResult);
+        return this;
+    }
+
     @Override
     public Future<Zk> watchData(String path, Handler<AsyncResult<byte[]>> watcher) {
         dataHandlers.put(path, watcher);
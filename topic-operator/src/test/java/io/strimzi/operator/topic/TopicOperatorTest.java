@@ -17,6 +17,7 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.junit5.Checkpoint;
@@ -24,6 +25,7 @@ import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.common.errors.ClusterAuthorizationException;
 import org.apache.kafka.common.errors.TopicDeletionDisabledException;
 import org.apache.kafka.common.errors.TopicExistsException;
@@ -35,18 +37,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
 import static io.fabric8.kubernetes.client.Watcher.Action.MODIFIED;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
@@ -856,6 +863,44 @@ public class TopicOperatorTest {
         });
     }
 
+    /**
+     * Test reconciliation when another operator instance updates the topic store during a 3 way merge: the
+     * reconciliation is done again against the current content of the topic store, rather than overwriting it.
+     */
+    @Test
+    public void testReconcile_withResource_withKafka_withPrivate_3WayMergeConflictsInTopicStore(VertxTestContext context) throws InterruptedException {
+        Topic kubeTopic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        Topic kafkaTopic = new Topic.Builder(topicName, resourceName, 12, (short) 2, map("cleanup.policy", "baz"), metadata).build();
+        Topic privateTopic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "baz"), metadata).build();
+        Topic resultTopic = new Topic.Builder(topicName, resourceName, 12, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+
+        CountDownLatch async0 = new CountDownLatch(3);
+        mockKafka.setCreateTopicResponse(topicName -> Future.succeededFuture());
+        mockKafka.createTopic(kafkaTopic).onComplete(ar -> async0.countDown());
+        mockKafka.setUpdateTopicResponse(topicName -> Future.succeededFuture());
+        mockKafka.setTopicMetadataResponse(topicName, Utils.getTopicMetadata(resultTopic), null);
+
+        KafkaTopic resource = TopicSerialization.toTopicResource(kubeTopic, labels);
+        LogContext logContext = LogContext.periodic(topicName.toString());
+        mockK8s.setCreateResponse(topicName.asKubeName(), null);
+        mockK8s.createResource(resource).onComplete(ar -> async0.countDown());
+        mockK8s.setModifyResponse(topicName.asKubeName(), null);
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(privateTopic).onComplete(ar -> async0.countDown());
+        // The other instance stores the result of the same merge first
+        mockTopicStore.setConcurrentUpdate(resultTopic);
+        async0.await();
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcile(reconciliation(), logContext, resource, kubeTopic, kafkaTopic, privateTopic).onComplete(reconcileResult -> {
+            assertSucceeded(context, reconcileResult);
+            mockK8s.assertNoEvents(context);
+            mockTopicStore.assertContains(context, resultTopic);
+            context.verify(() -> assertThat(mockKafka.getTopicState(topicName), is(resultTopic)));
+            async.flag();
+        });
+    }
+
     // TODO 3way reconcilation where kafka and kube agree
     // TODO 3way reconcilation where all three agree
     // TODO 3way reconcilation with conflict
@@ -1109,6 +1154,161 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileAllTopics_unchangedTopicIsTakenFromSnapshot(VertxTestContext context) {
+        TopicMetadata topicMetadata = Utils.getTopicMetadata(topicName.toString(),
+                new org.apache.kafka.clients.admin.Config(Collections.emptyList()));
+        Topic topic = TopicSerialization.fromTopicMetadata(topicMetadata);
+        KafkaTopic kafkaTopic = new KafkaTopicBuilder(TopicSerialization.toTopicResource(topic, labels))
+                .editMetadata()
+                    .withGeneration(1L)
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+        mockK8s.setCreateResponse(resourceName, null);
+        mockK8s.createResource(kafkaTopic);
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(topic);
+        mockKafka.setTopicsList(singleton(topicName.toString()));
+        mockKafka.setTopicMetadataResponse(topicName, topicMetadata, null);
+        // The topic is the same everywhere, so it should not be read again with the lock held
+        mockTopicStore.setGetTopicResponse(topicName, Future.failedFuture("The topic should be taken from the snapshot"));
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(ignored -> context.verify(() -> {
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+            assertThat(mockK8s.getStatuses().isEmpty(), is(true));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testPrefetchTopicMetadata_chunksAreFetchedWithLimitedConcurrency(VertxTestContext context) {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.TOPIC_METADATA_BATCH_SIZE.key, "2");
+        configMap.put(Config.TOPIC_METADATA_BATCH_CONCURRENCY.key, "2");
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", new Config(configMap), metrics);
+
+        List<TopicName> topicNames = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            topicNames.add(new TopicName("topic-" + i));
+        }
+        List<Set<TopicName>> chunks = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        mockKafka.setTopicsMetadataResponse(chunk -> {
+            chunks.add(chunk);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Promise<Map<TopicName, TopicMetadata>> promise = Promise.promise();
+            vertx.setTimer(10, timerId -> {
+                inFlight.decrementAndGet();
+                Map<TopicName, TopicMetadata> result = new HashMap<>();
+                for (TopicName name : chunk) {
+                    result.put(name, Utils.getTopicMetadata(name.toString(), new org.apache.kafka.clients.admin.Config(Collections.emptyList())));
+                }
+                promise.complete(result);
+            });
+            return promise.future();
+        });
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.prefetchTopicMetadata("periodic", topicNames).onComplete(context.succeeding(metadata -> context.verify(() -> {
+            assertThat(metadata.keySet(), is(new HashSet<>(topicNames)));
+            assertThat(chunks.stream().map(Set::size).sorted().collect(Collectors.toList()), is(asList(1, 2, 2, 2)));
+            assertThat(maxInFlight.get(), is(2));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testPrefetchTopicMetadata_failedChunkIsLeftOut(VertxTestContext context) {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.TOPIC_METADATA_BATCH_SIZE.key, "1");
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", new Config(configMap), metrics);
+
+        TopicName failingTopic = new TopicName("failing-topic");
+        mockKafka.setTopicsMetadataResponse(chunk -> chunk.contains(failingTopic)
+                ? Future.failedFuture(new RuntimeException("some failure"))
+                : Future.succeededFuture(singletonMap(topicName,
+                        Utils.getTopicMetadata(topicName.toString(), new org.apache.kafka.clients.admin.Config(Collections.emptyList())))));
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.prefetchTopicMetadata("periodic", asList(failingTopic, topicName)).onComplete(context.succeeding(metadata -> context.verify(() -> {
+            assertThat(metadata.keySet(), is(singleton(topicName)));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testReconcileAllTopics_metadataIsFetchedIndividuallyWhenPrefetchFails(VertxTestContext context) {
+        TopicMetadata topicMetadata = Utils.getTopicMetadata(topicName.toString(),
+                new org.apache.kafka.clients.admin.Config(Collections.emptyList()));
+        Topic topic = TopicSerialization.fromTopicMetadata(topicMetadata);
+        KafkaTopic kafkaTopic = new KafkaTopicBuilder(TopicSerialization.toTopicResource(topic, labels))
+                .editMetadata()
+                    .withGeneration(1L)
+                .endMetadata()
+                .build();
+        mockK8s.setCreateResponse(resourceName, null);
+        mockK8s.createResource(kafkaTopic);
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(TopicSerialization.fromTopicResource(kafkaTopic));
+        mockKafka.setTopicsList(singleton(topicName.toString()));
+        mockKafka.setTopicsMetadataResponse(chunk -> Future.failedFuture(new RuntimeException("some failure")));
+        AtomicInteger individualCalls = new AtomicInteger();
+        mockKafka.setTopicMetadataResponse(name -> {
+            individualCalls.incrementAndGet();
+            return Future.succeededFuture(topicMetadata);
+        });
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(ignored -> context.verify(() -> {
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+            assertThat(individualCalls.get(), greaterThan(0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testReconcileAllTopics_stalePrefetchedMetadataAreNotUsedWithLockHeld(VertxTestContext context) {
+        // The topic got changed through its KafkaTopic after the metadata were prefetched
+        TopicMetadata staleMetadata = Utils.getTopicMetadata(topicName.toString(),
+                new org.apache.kafka.clients.admin.Config(Collections.emptyList()));
+        TopicMetadata currentMetadata = Utils.getTopicMetadata(topicName.toString(),
+                new org.apache.kafka.clients.admin.Config(singleton(new ConfigEntry("cleanup.policy", "compact"))));
+        Topic topic = TopicSerialization.fromTopicMetadata(currentMetadata);
+        KafkaTopic kafkaTopic = new KafkaTopicBuilder(TopicSerialization.toTopicResource(topic, labels))
+                .editMetadata()
+                    .withGeneration(1L)
+                .endMetadata()
+                .build();
+        mockK8s.setCreateResponse(resourceName, null);
+        mockK8s.createResource(kafkaTopic);
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(TopicSerialization.fromTopicResource(kafkaTopic));
+        mockKafka.setTopicsList(singleton(topicName.toString()));
+        mockKafka.setTopicsMetadataResponse(chunk -> Future.succeededFuture(singletonMap(topicName, staleMetadata)));
+        mockKafka.setTopicMetadataResponse(name -> Future.succeededFuture(currentMetadata));
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(ignored -> context.verify(() -> {
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+            assertThat(mockK8s.getFromName(resourceName).result().getSpec().getConfig(), is(singletonMap("cleanup.policy", "compact")));
+            assertThat(mockTopicStore.read(topicName).result().getConfig(), is(singletonMap("cleanup.policy", "compact")));
+            async.flag();
+        })));
+    }
+
     @Test
     public void testReconcileAllTopics_listMapsFails(VertxTestContext context) {
         RuntimeException error = new RuntimeException("some failure");
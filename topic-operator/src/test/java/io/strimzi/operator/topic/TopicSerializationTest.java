@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,7 @@ import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class TopicSerializationTest {
@@ -117,6 +119,48 @@ public class TopicSerializationTest {
         assertThat(readTopic, is(wroteTopic));
     }
 
+    @Test
+    public void testBinarySerializationRoundTrip() {
+        Topic.Builder builder = new Topic.Builder();
+        builder.withTopicName("tom");
+        builder.withMapName("bob");
+        builder.withNumReplicas((short) 3);
+        builder.withNumPartitions(200);
+        builder.withConfigEntry("foo", "bar");
+        builder.withConfigEntry("unicode", "\u00e9\u4e2d");
+        Topic wroteTopic = builder.build();
+        byte[] bytes = TopicSerialization.toBinary(wroteTopic);
+        assertThat(bytes[0], is(TopicSerialization.BINARY_MAGIC));
+        assertThat(bytes[1], is(TopicSerialization.BINARY_VERSION));
+        assertThat(bytes.length < TopicSerialization.toJson(wroteTopic).length, is(true));
+
+        assertThat(TopicSerialization.fromBinary(bytes), is(wroteTopic));
+        assertThat(TopicSerialization.fromBytes(bytes), is(wroteTopic));
+    }
+
+    @Test
+    public void testFromBytesReadsLegacyJson() {
+        Topic wroteTopic = new Topic.Builder("tom", 2, (short) 1, singletonMap("foo", "bar")).build();
+        byte[] json = TopicSerialization.toBytes(wroteTopic, false);
+
+        Topic readTopic = TopicSerialization.fromBytes(json);
+        assertThat(readTopic.getTopicName(), is(wroteTopic.getTopicName()));
+        assertThat(readTopic.getNumPartitions(), is(2));
+        assertThat(readTopic.getConfig(), is(singletonMap("foo", "bar")));
+    }
+
+    @Test
+    public void testFromBinaryRejectsUnknownVersionAndTruncatedInput() {
+        byte[] bytes = TopicSerialization.toBinary(new Topic.Builder("tom", 2, (short) 1, singletonMap("foo", "bar")).build());
+
+        byte[] unknownVersion = bytes.clone();
+        unknownVersion[1] = 99;
+        assertThrows(IllegalArgumentException.class, () -> TopicSerialization.fromBinary(unknownVersion));
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+        assertThrows(IllegalArgumentException.class, () -> TopicSerialization.fromBinary(truncated));
+    }
+
 
     @Test
     public void testToNewTopic() {
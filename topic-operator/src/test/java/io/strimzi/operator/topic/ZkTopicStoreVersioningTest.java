@@ -0,0 +1,192 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.I0Itec.zkclient.exception.ZkBadVersionException;
+import org.I0Itec.zkclient.exception.ZkNoNodeException;
+import org.apache.zookeeper.data.Stat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the versioned (compare-and-set) writes of {@link ZkTopicStore}, using a mocked {@link Zk}.
+ */
+@ExtendWith(VertxExtension.class)
+public class ZkTopicStoreVersioningTest {
+
+    private static final String TOPIC_PATH = "/strimzi/topics/my_topic";
+
+    private final Topic topic = new Topic.Builder("my_topic", 2, (short) 3, Collections.singletonMap("foo", "bar")).build();
+    private final Topic updatedTopic = new Topic.Builder("my_topic", 3, (short) 3, Collections.singletonMap("foo", "bar")).build();
+
+    private Zk zk;
+    private ZkTopicStore store;
+
+    @BeforeEach
+    public void setup() {
+        zk = mock(Zk.class);
+        doAnswer(invocation -> {
+            invocation.<Handler<AsyncResult<Void>>>getArgument(4).handle(Future.succeededFuture());
+            return zk;
+        }).when(zk).create(any(), any(), any(), any(), any());
+        store = new ZkTopicStore(zk, "/strimzi/topics");
+    }
+
+    private void givenZnodeVersion(int version) {
+        doAnswer(invocation -> {
+            invocation.<Stat>getArgument(1).setVersion(version);
+            invocation.<Handler<AsyncResult<byte[]>>>getArgument(2).handle(Future.succeededFuture(TopicSerialization.toJson(topic)));
+            return zk;
+        }).when(zk).getData(eq(TOPIC_PATH), any(Stat.class), any());
+    }
+
+    private void givenUpdateSucceedsForVersion(int version) {
+        doAnswer(invocation -> {
+            Handler<AsyncResult<Stat>> handler = invocation.getArgument(3);
+            if (invocation.<Integer>getArgument(2) == version) {
+                Stat stat = new Stat();
+                stat.setVersion(version + 1);
+                handler.handle(Future.succeededFuture(stat));
+            } else {
+                handler.handle(Future.failedFuture(new ZkBadVersionException("bad version")));
+            }
+            return zk;
+        }).when(zk).setDataReturnStat(eq(TOPIC_PATH), any(), anyInt(), any());
+    }
+
+    @Test
+    public void testReadIsCachedAndUpdateUsesTheVersionRead(VertxTestContext context) {
+        givenZnodeVersion(5);
+        givenUpdateSucceedsForVersion(5);
+
+        Checkpoint async = context.checkpoint();
+        store.read(topic.getTopicName())
+            .compose(ignored -> store.read(topic.getTopicName()))
+            .onComplete(context.succeeding(read -> context.verify(() -> assertThat(read.getNumPartitions(), is(topic.getNumPartitions())))))
+            .compose(ignored -> store.update(updatedTopic))
+            .compose(ignored -> store.read(topic.getTopicName()))
+            .onComplete(context.succeeding(read -> context.verify(() -> {
+                assertThat(read, is(updatedTopic));
+                verify(zk, times(1)).getData(eq(TOPIC_PATH), any(Stat.class), any());
+                verify(zk, times(1)).setDataReturnStat(eq(TOPIC_PATH), any(), eq(5), any());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testCreatedTopicIsUpdatedWithoutRead(VertxTestContext context) {
+        givenUpdateSucceedsForVersion(0);
+
+        Checkpoint async = context.checkpoint();
+        store.create(topic)
+            .compose(ignored -> store.update(updatedTopic))
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                verify(zk, times(0)).getData(any(), any(Stat.class), any());
+                verify(zk, times(1)).setDataReturnStat(eq(TOPIC_PATH), any(), eq(0), any());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testUpdateFailsOnConflict(VertxTestContext context) {
+        // The cached version is 0, but another writer has updated the znode to version 7 meanwhile
+        givenZnodeVersion(7);
+        givenUpdateSucceedsForVersion(7);
+
+        Checkpoint async = context.checkpoint();
+        store.create(updatedTopic)
+            .compose(ignored -> store.update(updatedTopic))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TopicStore.ConcurrentModificationException.class));
+                // The znode of the other writer is not overwritten
+                verify(zk, times(1)).setDataReturnStat(eq(TOPIC_PATH), any(), eq(0), any());
+                verify(zk, times(0)).setDataReturnStat(eq(TOPIC_PATH), any(), eq(7), any());
+            })))
+            .<Topic>compose(ignored -> Future.failedFuture("unexpected"), ignored -> store.read(topic.getTopicName()))
+            .onComplete(context.succeeding(read -> context.verify(() -> {
+                // The cache now has the content of the other writer
+                assertThat(read.getNumPartitions(), is(topic.getNumPartitions()));
+                verify(zk, times(1)).getData(eq(TOPIC_PATH), any(Stat.class), any());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testDeleteFailsOnConflict(VertxTestContext context) {
+        givenZnodeVersion(7);
+        doAnswer(invocation -> {
+            invocation.<Handler<AsyncResult<Void>>>getArgument(2).handle(Future.failedFuture(new ZkBadVersionException("bad version")));
+            return zk;
+        }).when(zk).delete(eq(TOPIC_PATH), eq(0), any());
+
+        Checkpoint async = context.checkpoint();
+        store.create(topic)
+            .compose(ignored -> store.delete(topic.getTopicName()))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TopicStore.ConcurrentModificationException.class));
+                verify(zk, times(1)).delete(eq(TOPIC_PATH), anyInt(), any());
+                verify(zk, times(1)).getData(eq(TOPIC_PATH), any(Stat.class), any());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testDeleteUsesTheCachedVersion(VertxTestContext context) {
+        givenZnodeVersion(2);
+        doAnswer(invocation -> {
+            Handler<AsyncResult<Void>> handler = invocation.getArgument(2);
+            handler.handle(Future.succeededFuture());
+            return zk;
+        }).when(zk).delete(eq(TOPIC_PATH), eq(2), any());
+
+        Checkpoint async = context.checkpoint();
+        store.read(topic.getTopicName())
+            .compose(ignored -> store.delete(topic.getTopicName()))
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                verify(zk, times(1)).delete(eq(TOPIC_PATH), eq(2), any());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testDeleteOfMissingTopic(VertxTestContext context) {
+        doAnswer(invocation -> {
+            invocation.<Handler<AsyncResult<byte[]>>>getArgument(2).handle(Future.failedFuture(new ZkNoNodeException()));
+            return zk;
+        }).when(zk).getData(eq(TOPIC_PATH), any(Stat.class), any());
+        doAnswer(invocation -> {
+            invocation.<Handler<AsyncResult<Void>>>getArgument(2).handle(Future.failedFuture(new ZkNoNodeException()));
+            return zk;
+        }).when(zk).delete(eq(TOPIC_PATH), anyInt(), any());
+
+        Checkpoint async = context.checkpoint();
+        store.delete(topic.getTopicName())
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TopicStore.NoSuchEntityExistsException.class));
+                async.flag();
+            })));
+    }
+}
@@ -12,12 +12,17 @@ import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.DoneableKafkaUser;
 import io.strimzi.api.kafka.model.KafkaUser;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.KeyPairPoolMetrics;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.operator.ClientsCaCache;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
 import io.strimzi.operator.user.operator.KafkaUserQuotasOperator;
 import io.strimzi.operator.user.operator.ScramShaCredentials;
@@ -28,8 +33,10 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.Label;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
+import io.vertx.micrometer.backends.BackendRegistries;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -58,9 +65,16 @@ public class Main {
                 new MicrometerMetricsOptions()
                         .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
                         .setJvmMetricsEnabled(true)
+                        // The metrics of the worker pools are labeled by the pool name
+                        .addLabels(Label.POOL_NAME)
                         .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
 
+        WorkerPools.publishHistograms(BackendRegistries.getDefaultNow());
+        WorkerPools.create(vertx, WorkerPools.KUBERNETES_OPS_POOL, config.getKubernetesOpsPoolSize());
+        WorkerPools.create(vertx, WorkerPools.ZOOKEEPER_OPS_POOL, config.getZookeeperOpsPoolSize());
+        WorkerPools.create(vertx, WorkerPools.KAFKA_ADMIN_OPS_POOL, config.getKafkaAdminOpsPoolSize());
+
         KubernetesClient client = new DefaultKubernetesClient();
         AdminClientProvider adminClientProvider = new DefaultAdminClientProvider();
 
@@ -77,22 +91,33 @@ public class Main {
         String dnsCacheTtl = System.getenv("STRIMZI_DNS_CACHE_TTL") == null ? "30" : System.getenv("STRIMZI_DNS_CACHE_TTL");
         Security.setProperty("networkaddress.cache.ttl", dnsCacheTtl);
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        KeyPairPool keyPairPool = null;
+        if (config.getKeyPairPoolSize() > 0) {
+            keyPairPool = new KeyPairPool(config.getKeyPairPoolSize(), config.getKeyPairPoolRefillThreads()).start();
+            KeyPairPoolMetrics.register(keyPairPool, new MicrometerMetricsProvider());
+        }
+
+        CertManager certManager = config.getCertManagerType().create(keyPairPool);
         SecretOperator secretOperations = new SecretOperator(vertx, client);
         CrdOperator<KubernetesClient, KafkaUser, KafkaUserList, DoneableKafkaUser> crdOperations = new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, DoneableKafkaUser.class, Crds.kafkaUser());
         return createAdminClient(adminClientProvider, config, secretOperations)
                 .compose(adminClient -> {
-                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient);
+                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient, config.getAclsAdminApiBatchSize());
                     ScramShaCredentials scramShaCredentials = new ScramShaCredentials(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
-                    ScramShaCredentialsOperator scramShaCredentialsOperator = new ScramShaCredentialsOperator(vertx, scramShaCredentials);
-                    KafkaUserQuotasOperator quotasOperator = new KafkaUserQuotasOperator(vertx, config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+                    ScramShaCredentialsOperator scramShaCredentialsOperator = new ScramShaCredentialsOperator(vertx, adminClient, scramShaCredentials);
+                    KafkaUserQuotasOperator quotasOperator = new KafkaUserQuotasOperator(vertx, adminClient, config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+
+                    ClientsCaCache clientsCaCache = new ClientsCaCache(secretOperations, client, config.getCaNamespace(), config.getCaCertSecretName(), config.getCaKeySecretName());
 
                     KafkaUserOperator kafkaUserOperations = new KafkaUserOperator(vertx,
                             certManager, crdOperations,
                             config.getLabels(),
                             secretOperations, scramShaCredentialsOperator, quotasOperator, aclOperations, config.getCaCertSecretName(), config.getCaKeySecretName(), config.getCaNamespace(),
-                            config.getSecretPrefix());
+                            config.getSecretPrefix(), clientsCaCache);
 
+                    return clientsCaCache.start(vertx).map(kafkaUserOperations);
+                })
+                .compose(kafkaUserOperations -> {
                     Promise<String> promise = Promise.promise();
                     UserOperator operator = new UserOperator(config.getNamespace(),
                             config,
@@ -14,7 +14,6 @@ import io.vertx.core.http.HttpServer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.TimeUnit;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.vertx.micrometer.backends.BackendRegistries;
 
@@ -53,9 +52,6 @@ public class UserOperator extends AbstractVerticle {
     public void start(Promise<Void> start) {
         log.info("Starting UserOperator for namespace {}", namespace);
 
-        // Configure the executor here, but it is used only in other places
-        getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
-
         kafkaUserOperator.createWatch(namespace, kafkaUserOperator.recreateWatch(namespace))
             .compose(w -> {
                 log.info("Started operator for {} kind", "KafkaUser");
@@ -86,10 +82,11 @@ public class UserOperator extends AbstractVerticle {
     }
 
     /**
-      Periodical reconciliation (in case we lost some event)
+      Periodical reconciliation (in case we lost some event). The reconciliations are spread over the first half of
+      the reconciliation interval so that they do not all start at the same time.
      */
     private void reconcileAll(String trigger) {
-        kafkaUserOperator.reconcileAll(trigger, namespace, ignored -> { });
+        kafkaUserOperator.reconcileAll(trigger, namespace, reconciliationInterval / 2, ignored -> { });
     }
 
     /**
@@ -5,9 +5,12 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -29,12 +32,26 @@ public class UserOperatorConfig {
     public static final String STRIMZI_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
+    public static final String STRIMZI_ACLS_ADMIN_API_BATCH_SIZE = "STRIMZI_ACLS_ADMIN_API_BATCH_SIZE";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
+    public static final String STRIMZI_KEY_PAIR_POOL_SIZE = "STRIMZI_KEY_PAIR_POOL_SIZE";
+    public static final String STRIMZI_KEY_PAIR_POOL_REFILL_THREADS = "STRIMZI_KEY_PAIR_POOL_REFILL_THREADS";
+    public static final String STRIMZI_KUBERNETES_OPS_POOL_SIZE = "STRIMZI_KUBERNETES_OPS_POOL_SIZE";
+    public static final String STRIMZI_ZOOKEEPER_OPS_POOL_SIZE = "STRIMZI_ZOOKEEPER_OPS_POOL_SIZE";
+    public static final String STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE = "STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_ZOOKEEPER_CONNECT = "localhost:2181";
     public static final long DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS = 6_000;
     public static final String DEFAULT_SECRET_PREFIX = "";
+    public static final int DEFAULT_ACLS_ADMIN_API_BATCH_SIZE = 500;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
+    public static final int DEFAULT_KEY_PAIR_POOL_SIZE = 0;
+    public static final int DEFAULT_KEY_PAIR_POOL_REFILL_THREADS = 1;
+    public static final int DEFAULT_KUBERNETES_OPS_POOL_SIZE = 10;
+    public static final int DEFAULT_ZOOKEEPER_OPS_POOL_SIZE = 10;
+    public static final int DEFAULT_KAFKA_ADMIN_OPS_POOL_SIZE = 10;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -48,6 +65,13 @@ public class UserOperatorConfig {
     private final String eoKeySecretName;
     private final String caNamespace;
     private final String secretPrefix;
+    private final int aclsAdminApiBatchSize;
+    private final CertManagerType certManagerType;
+    private final int keyPairPoolSize;
+    private final int keyPairPoolRefillThreads;
+    private final int kubernetesOpsPoolSize;
+    private final int zookeeperOpsPoolSize;
+    private final int kafkaAdminOpsPoolSize;
 
     /**
      * Constructor
@@ -64,6 +88,13 @@ public class UserOperatorConfig {
      * @param eoKeySecretName The name of the secret containing the Entity Operator key and certificate
      * @param caNamespace Namespace with the CA secret.
      * @param secretPrefix Prefix used for the Secret names
+     * @param aclsAdminApiBatchSize Maximum number of ACL bindings created or deleted in a single Admin API request
+     * @param certManagerType The implementation of the certificates manager used for the user certificates
+     * @param keyPairPoolSize Number of key pairs generated in advance, or 0 for generating the key pairs when needed
+     * @param keyPairPoolRefillThreads Number of threads generating the key pairs in advance
+     * @param kubernetesOpsPoolSize Number of threads of the worker pool for the blocking Kubernetes API calls
+     * @param zookeeperOpsPoolSize Number of threads of the worker pool for the blocking ZooKeeper calls
+     * @param kafkaAdminOpsPoolSize Number of threads of the worker pool for the blocking Kafka Admin API calls
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"}) //TODO: to remove when removing the zookeeper related parameters
     public UserOperatorConfig(String namespace,
@@ -76,7 +107,14 @@ public class UserOperatorConfig {
                               String clusterCaCertSecretName,
                               String eoKeySecretName,
                               String caNamespace,
-                              String secretPrefix) {
+                              String secretPrefix,
+                              int aclsAdminApiBatchSize,
+                              CertManagerType certManagerType,
+                              int keyPairPoolSize,
+                              int keyPairPoolRefillThreads,
+                              int kubernetesOpsPoolSize,
+                              int zookeeperOpsPoolSize,
+                              int kafkaAdminOpsPoolSize) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -89,6 +127,13 @@ public class UserOperatorConfig {
         this.eoKeySecretName = eoKeySecretName;
         this.caNamespace = caNamespace;
         this.secretPrefix = secretPrefix;
+        this.aclsAdminApiBatchSize = aclsAdminApiBatchSize;
+        this.certManagerType = certManagerType;
+        this.keyPairPoolSize = keyPairPoolSize;
+        this.keyPairPoolRefillThreads = keyPairPoolRefillThreads;
+        this.kubernetesOpsPoolSize = kubernetesOpsPoolSize;
+        this.zookeeperOpsPoolSize = zookeeperOpsPoolSize;
+        this.kafkaAdminOpsPoolSize = kafkaAdminOpsPoolSize;
     }
 
     /**
@@ -161,8 +206,58 @@ public class UserOperatorConfig {
             secretPrefix = DEFAULT_SECRET_PREFIX;
         }
 
+        int aclsAdminApiBatchSize = DEFAULT_ACLS_ADMIN_API_BATCH_SIZE;
+        String aclsAdminApiBatchSizeEnvVar = map.get(UserOperatorConfig.STRIMZI_ACLS_ADMIN_API_BATCH_SIZE);
+        if (aclsAdminApiBatchSizeEnvVar != null && !aclsAdminApiBatchSizeEnvVar.isEmpty()) {
+            aclsAdminApiBatchSize = Integer.parseInt(aclsAdminApiBatchSizeEnvVar);
+            if (aclsAdminApiBatchSize <= 0) {
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_ACLS_ADMIN_API_BATCH_SIZE + " must be greater than zero");
+            }
+        }
+
+        CertManagerType certManagerType = DEFAULT_CERT_MANAGER;
+        String certManagerEnvVar = map.get(UserOperatorConfig.STRIMZI_CERT_MANAGER);
+        if (certManagerEnvVar != null && !certManagerEnvVar.isEmpty()) {
+            switch (certManagerEnvVar.trim().toLowerCase(Locale.ENGLISH)) {
+                case "openssl":
+                    certManagerType = CertManagerType.OPENSSL;
+                    break;
+                case "jca":
+                    certManagerType = CertManagerType.JCA;
+                    break;
+                default:
+                    throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, jca");
+            }
+        }
+
+        int keyPairPoolSize = DEFAULT_KEY_PAIR_POOL_SIZE;
+        String keyPairPoolSizeEnvVar = map.get(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE);
+        if (keyPairPoolSizeEnvVar != null && !keyPairPoolSizeEnvVar.isEmpty()) {
+            keyPairPoolSize = Integer.parseInt(keyPairPoolSizeEnvVar);
+            if (keyPairPoolSize < 0) {
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE + " cannot be negative");
+            }
+        }
+
+        int keyPairPoolRefillThreads = DEFAULT_KEY_PAIR_POOL_REFILL_THREADS;
+        String keyPairPoolRefillThreadsEnvVar = map.get(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_REFILL_THREADS);
+        if (keyPairPoolRefillThreadsEnvVar != null && !keyPairPoolRefillThreadsEnvVar.isEmpty()) {
+            keyPairPoolRefillThreads = Integer.parseInt(keyPairPoolRefillThreadsEnvVar);
+            if (keyPairPoolRefillThreads <= 0) {
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_REFILL_THREADS + " must be greater than zero");
+            }
+        }
+
+        int kubernetesOpsPoolSize = WorkerPools.parsePoolSize(UserOperatorConfig.STRIMZI_KUBERNETES_OPS_POOL_SIZE,
+                map.get(UserOperatorConfig.STRIMZI_KUBERNETES_OPS_POOL_SIZE), DEFAULT_KUBERNETES_OPS_POOL_SIZE);
+        int zookeeperOpsPoolSize = WorkerPools.parsePoolSize(UserOperatorConfig.STRIMZI_ZOOKEEPER_OPS_POOL_SIZE,
+                map.get(UserOperatorConfig.STRIMZI_ZOOKEEPER_OPS_POOL_SIZE), DEFAULT_ZOOKEEPER_OPS_POOL_SIZE);
+        int kafkaAdminOpsPoolSize = WorkerPools.parsePoolSize(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE,
+                map.get(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE), DEFAULT_KAFKA_ADMIN_OPS_POOL_SIZE);
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, zookeeperConnect, zookeeperSessionTimeoutMs, labels,
-                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix);
+                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix, aclsAdminApiBatchSize,
+                certManagerType, keyPairPoolSize, keyPairPoolRefillThreads, kubernetesOpsPoolSize, zookeeperOpsPoolSize, kafkaAdminOpsPoolSize);
     }
 
     public static int getClientsCaValidityDays() {
@@ -266,6 +361,55 @@ public class UserOperatorConfig {
         return secretPrefix;
     }
 
+    /**
+     * @return  The maximum number of ACL bindings created or deleted in a single Admin API request
+     */
+    public int getAclsAdminApiBatchSize() {
+        return aclsAdminApiBatchSize;
+    }
+
+    /**
+     * @return  The implementation of the certificates manager
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
+    /**
+     * @return  The number of key pairs generated in advance, or 0 if the key pairs are generated when needed
+     */
+    public int getKeyPairPoolSize() {
+        return keyPairPoolSize;
+    }
+
+    /**
+     * @return  The number of threads generating the key pairs in advance
+     */
+    public int getKeyPairPoolRefillThreads() {
+        return keyPairPoolRefillThreads;
+    }
+
+    /**
+     * @return  The number of threads of the worker pool for the blocking Kubernetes API calls
+     */
+    public int getKubernetesOpsPoolSize() {
+        return kubernetesOpsPoolSize;
+    }
+
+    /**
+     * @return  The number of threads of the worker pool for the blocking ZooKeeper calls
+     */
+    public int getZookeeperOpsPoolSize() {
+        return zookeeperOpsPoolSize;
+    }
+
+    /**
+     * @return  The number of threads of the worker pool for the blocking Kafka Admin API calls
+     */
+    public int getKafkaAdminOpsPoolSize() {
+        return kafkaAdminOpsPoolSize;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -279,6 +423,13 @@ public class UserOperatorConfig {
                 ",clusterCaCertSecretName=" + clusterCaCertSecretName +
                 ",eoKeySecretName=" + eoKeySecretName +
                 ",caNamespace=" + caNamespace +
+                ",aclsAdminApiBatchSize=" + aclsAdminApiBatchSize +
+                ",certManagerType=" + certManagerType +
+                ",keyPairPoolSize=" + keyPairPoolSize +
+                ",keyPairPoolRefillThreads=" + keyPairPoolRefillThreads +
+                ",kubernetesOpsPoolSize=" + kubernetesOpsPoolSize +
+                ",zookeeperOpsPoolSize=" + zookeeperOpsPoolSize +
+                ",kafkaAdminOpsPoolSize=" + kafkaAdminOpsPoolSize +
                 ")";
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesces the changes which concurrent reconciliations make through the same Kafka Admin API (for example the
+ * ACL bindings to create, or the SCRAM credentials to alter), or the descriptions they need, into batched requests. At most one request is in flight
+ * at a time and the items submitted while it is in flight are sent together in the next request, in batches of at
+ * most {@code batchSize} items.
+ *
+ * @param <T> The type of the items, for example AclBinding for creating ACLs
+ * @param <R> The type of the results of the individual items, Void for the changes
+ */
+class AdminApiBatcher<T, R> {
+    private static final Logger log = LogManager.getLogger(AdminApiBatcher.class.getName());
+
+    /**
+     * The default maximum number of items sent in a single request
+     */
+    static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final Vertx vertx;
+    private final String description;
+    private final int batchSize;
+    private final Function<Collection<T>, Map<T, KafkaFuture<R>>> request;
+    private final Queue<Map.Entry<T, Promise<R>>> pending = new ArrayDeque<>();
+    private boolean inFlight = false;
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param description Description of the items used in the log messages, e.g. "ACL creations"
+     * @param batchSize Maximum number of items sent in a single request
+     * @param request Sends a request with the given items, returning the futures of the individual items
+     */
+    AdminApiBatcher(Vertx vertx, String description, int batchSize, Function<Collection<T>, Map<T, KafkaFuture<R>>> request) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero");
+        }
+        this.vertx = vertx;
+        this.description = description;
+        this.batchSize = batchSize;
+        this.request = request;
+    }
+
+    /**
+     * Submits the given items to be sent in the next request.
+     *
+     * @param items The items
+     * @return A future which completes once all the given items have been sent and acknowledged
+     */
+    Future<Void> submit(Collection<T> items) {
+        if (items.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        List<Future> futures = new ArrayList<>(items.size());
+        Context context = vertx.getOrCreateContext();
+        synchronized (this) {
+            for (T item : items) {
+                Promise<R> promise = Promise.promise();
+                pending.add(new AbstractMap.SimpleEntry<>(item, promise));
+                futures.add(promise.future());
+            }
+        }
+        sendNext(context);
+        return CompositeFuture.all(futures).mapEmpty();
+    }
+
+    /**
+     * Submits the given item to be sent in the next request.
+     *
+     * @param item The item
+     * @return A future which completes with the result of the item once it has been sent and acknowledged
+     */
+    Future<R> submit(T item) {
+        Promise<R> promise = Promise.promise();
+        Context context = vertx.getOrCreateContext();
+        synchronized (this) {
+            pending.add(new AbstractMap.SimpleEntry<>(item, promise));
+        }
+        sendNext(context);
+        return promise.future();
+    }
+
+    private void sendNext(Context context) {
+        List<Map.Entry<T, Promise<R>>> batch;
+        synchronized (this) {
+            if (inFlight || pending.isEmpty()) {
+                return;
+            }
+            inFlight = true;
+            batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            while (batch.size() < batchSize && !pending.isEmpty()) {
+                batch.add(pending.poll());
+            }
+        }
+
+        log.debug("Sending a batch of {} {}", batch.size(), description);
+        Map<T, KafkaFuture<R>> results;
+        try {
+            results = request.apply(batch.stream().map(Map.Entry::getKey).collect(Collectors.toCollection(LinkedHashSet::new)));
+        } catch (Throwable t) {
+            for (Map.Entry<T, Promise<R>> item : batch) {
+                context.runOnContext(ignored -> item.getValue().fail(t));
+            }
+            sent(context);
+            return;
+        }
+
+        for (Map.Entry<T, Promise<R>> item : batch) {
+            results.get(item.getKey()).whenComplete((result, error) -> context.runOnContext(v -> {
+                if (error != null) {
+                    item.getValue().fail(error);
+                } else {
+                    item.getValue().complete(result);
+                }
+            }));
+        }
+        KafkaFuture.allOf(results.values().toArray(new KafkaFuture[0])).whenComplete((ignored, error) -> sent(context));
+    }
+
+    private void sent(Context context) {
+        synchronized (this) {
+            inFlight = false;
+        }
+        sendNext(context);
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.strimzi.operator.common.WorkerPools;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache of the clients CA certificate and key Secrets, which are the same for all the users. The Secrets are read
+ * once and kept in memory until a watch reports that either of them has changed. Until the watches are started (or
+ * while they are being re-established after one of them was closed) the Secrets are read from the Kubernetes API
+ * server on every call, as without the cache.
+ */
+public class ClientsCaCache {
+    private static final Logger log = LogManager.getLogger(ClientsCaCache.class.getName());
+
+    private static final long INITIAL_RESTART_DELAY_MS = 1_000L;
+    private static final long MAX_RESTART_DELAY_MS = 60_000L;
+
+    private final SecretOperator secretOperations;
+    private final KubernetesClient client;
+    private final String namespace;
+    private final String caCertName;
+    private final String caKeyName;
+
+    private final List<Watch> watches = new ArrayList<>(2);
+    private Vertx vertx;
+    private boolean started = false;
+    private boolean watching = false;
+    private boolean restarting = false;
+    private int restartAttempts = 0;
+    private long generation = 0;
+    private ClientsCaSecrets cached;
+
+    /**
+     * @param secretOperations For reading the Secrets.
+     * @param client The Kubernetes client used for watching the Secrets.
+     * @param namespace The namespace of the Secrets containing the clients CA certificate and private key.
+     * @param caCertName The name of the Secret containing the clients CA certificate.
+     * @param caKeyName The name of the Secret containing the clients CA private key.
+     */
+    public ClientsCaCache(SecretOperator secretOperations, KubernetesClient client, String namespace, String caCertName, String caKeyName) {
+        this.secretOperations = secretOperations;
+        this.client = client;
+        this.namespace = namespace;
+        this.caCertName = caCertName;
+        this.caKeyName = caKeyName;
+    }
+
+    /**
+     * Starts watching the clients CA Secrets. The cache is used only once the watches are started. When either
+     * of the watches is closed, both are re-established with an exponential back-off.
+     *
+     * @param vertx The Vertx instance.
+     * @return A future which completes once the watches are started.
+     */
+    public Future<Void> start(Vertx vertx) {
+        synchronized (this) {
+            this.vertx = vertx;
+            started = true;
+        }
+        return startWatches();
+    }
+
+    private Future<Void> startWatches() {
+        Promise<Void> result = Promise.promise();
+        vertx.createSharedWorkerExecutor(WorkerPools.KUBERNETES_OPS_POOL).executeBlocking(future -> {
+            try {
+                watch(caCertName);
+                watch(caKeyName);
+                synchronized (this) {
+                    watching = true;
+                    restarting = false;
+                    restartAttempts = 0;
+                }
+                log.debug("Watching the clients CA Secrets {} and {} in namespace {}", caCertName, caKeyName, namespace);
+                future.complete();
+            } catch (Throwable t) {
+                closeWatches();
+                future.fail(t);
+            }
+        }, result);
+        return result.future();
+    }
+
+    /**
+     * Stops watching the clients CA Secrets and clears the cache.
+     */
+    public void close() {
+        synchronized (this) {
+            started = false;
+            watching = false;
+            invalidate();
+        }
+        closeWatches();
+    }
+
+    private void closeWatches() {
+        List<Watch> closing;
+        synchronized (this) {
+            closing = new ArrayList<>(watches);
+            watches.clear();
+        }
+        for (Watch watch : closing) {
+            watch.close();
+        }
+    }
+
+    private void watch(String name) {
+        Watch watch = client.secrets().inNamespace(namespace).withName(name).watch(new Watcher<Secret>() {
+            @Override
+            public void eventReceived(Action action, Secret secret) {
+                changed(name, action == Action.DELETED ? null : secret.getMetadata().getResourceVersion());
+            }
+
+            @Override
+            public void onClose(KubernetesClientException cause) {
+                // The watches closed by the cache itself are closed without a cause
+                if (cause != null) {
+                    log.warn("Watch of the clients CA Secret {} in namespace {} closed, the Secrets will be read without the cache until it is re-established", name, namespace, cause);
+                    restart();
+                }
+            }
+        });
+
+        synchronized (this) {
+            watches.add(watch);
+        }
+    }
+
+    /**
+     * Closes both watches and schedules re-establishing them, unless this is already scheduled or the cache was closed.
+     */
+    private void restart() {
+        long delayMs;
+        synchronized (this) {
+            watching = false;
+            invalidate();
+            if (!started || restarting) {
+                return;
+            }
+            restarting = true;
+            delayMs = Math.min(MAX_RESTART_DELAY_MS, INITIAL_RESTART_DELAY_MS << Math.min(restartAttempts, 16));
+            restartAttempts++;
+        }
+
+        closeWatches();
+        log.debug("Re-establishing the watches of the clients CA Secrets in namespace {} in {}ms", namespace, delayMs);
+        vertx.setTimer(delayMs, timerId -> {
+            synchronized (this) {
+                if (!started) {
+                    restarting = false;
+                    return;
+                }
+            }
+            startWatches().onFailure(error -> {
+                log.warn("Failed to re-establish the watches of the clients CA Secrets in namespace {}", namespace, error);
+                synchronized (this) {
+                    restarting = false;
+                }
+                restart();
+            });
+        });
+    }
+
+    /**
+     * Invalidates the cache unless the given version of the given Secret is the cached one (as is the case for the
+     * events the watch sends for the existing Secrets when it starts).
+     */
+    private synchronized void changed(String name, String resourceVersion) {
+        if (cached != null && resourceVersion != null && resourceVersion.equals(cached.resourceVersion(name))) {
+            return;
+        }
+
+        log.debug("Clients CA Secret {} in namespace {} changed", name, namespace);
+        invalidate();
+    }
+
+    private void invalidate() {
+        generation++;
+        cached = null;
+    }
+
+    /**
+     * Gets the clients CA Secrets, reading them from the Kubernetes API server only if they changed since they
+     * were last read.
+     *
+     * @return The clients CA Secrets
+     */
+    public ClientsCaSecrets get() {
+        long readGeneration;
+        synchronized (this) {
+            if (cached != null) {
+                return cached;
+            }
+            readGeneration = generation;
+        }
+
+        ClientsCaSecrets read = new ClientsCaSecrets(secretOperations.get(namespace, caCertName), secretOperations.get(namespace, caKeyName));
+
+        synchronized (this) {
+            // Do not cache Secrets which might have changed while they were being read
+            if (watching && generation == readGeneration) {
+                cached = read;
+            }
+        }
+        return read;
+    }
+
+    /**
+     * The clients CA Secrets.
+     */
+    public static class ClientsCaSecrets {
+        private final Secret caCertSecret;
+        private final Secret caKeySecret;
+
+        ClientsCaSecrets(Secret caCertSecret, Secret caKeySecret) {
+            this.caCertSecret = caCertSecret;
+            this.caKeySecret = caKeySecret;
+        }
+
+        /**
+         * @return The Secret containing the clients CA certificate, or null if it does not exist
+         */
+        public Secret caCertSecret() {
+            return caCertSecret;
+        }
+
+        /**
+         * @return The Secret containing the clients CA private key, or null if it does not exist
+         */
+        public Secret caKeySecret() {
+            return caKeySecret;
+        }
+
+        String resourceVersion(String name) {
+            for (Secret secret : new Secret[] {caCertSecret, caKeySecret}) {
+                if (secret != null && name.equals(secret.getMetadata().getName())) {
+                    return secret.getMetadata().getResourceVersion();
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -62,6 +63,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
     private final KafkaUserQuotasOperator kafkaUserQuotasOperator;
     private PasswordGenerator passwordGenerator = new PasswordGenerator(12);
     private final String secretPrefix;
+    private final ClientsCaCache clientsCaCache;
 
     /**
      * @param vertx The Vertx instance.
@@ -85,6 +87,34 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                              ScramShaCredentialsOperator scramShaCredentialOperator,
                              KafkaUserQuotasOperator kafkaUserQuotasOperator,
                              SimpleAclOperator aclOperations, String caCertName, String caKeyName, String caNamespace, String secretPrefix) {
+        this(vertx, certManager, crdOperator, labels, secretOperations, scramShaCredentialOperator, kafkaUserQuotasOperator,
+                aclOperations, caCertName, caKeyName, caNamespace, secretPrefix, null);
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param certManager For managing certificates.
+     * @param crdOperator For operating on Custom Resources.
+     * @param labels A selector for which users in the namespace to consider as the operators
+     * @param secretOperations For operating on Secrets.
+     * @param scramShaCredentialOperator For operating on SCRAM SHA credentials.
+     * @param kafkaUserQuotasOperator For operating on Kafka User quotas.
+     * @param aclOperations For operating on ACLs.
+     * @param caCertName The name of the Secret containing the clients CA certificate.
+     * @param caKeyName The name of the Secret containing the clients CA private key.
+     * @param caNamespace The namespace of the Secret containing the clients CA certificate and private key.
+     * @param secretPrefix The prefix used to add to the name of the Secrets generated from the KafkaUser resources.
+     * @param clientsCaCache The cache of the clients CA Secrets, or null for reading them in every reconciliation.
+     */
+    public KafkaUserOperator(Vertx vertx,
+                             CertManager certManager,
+                             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList, DoneableKafkaUser> crdOperator,
+                             Labels labels,
+                             SecretOperator secretOperations,
+                             ScramShaCredentialsOperator scramShaCredentialOperator,
+                             KafkaUserQuotasOperator kafkaUserQuotasOperator,
+                             SimpleAclOperator aclOperations, String caCertName, String caKeyName, String caNamespace, String secretPrefix,
+                             ClientsCaCache clientsCaCache) {
         super(vertx, "KafkaUser", crdOperator, new MicrometerMetricsProvider());
         this.certManager = certManager;
         Map<String, String> matchLabels = labels.toMap();
@@ -97,6 +127,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         this.caKeyName = caKeyName;
         this.caNamespace = caNamespace;
         this.secretPrefix = secretPrefix;
+        this.clientsCaCache = clientsCaCache;
     }
 
     @Override
@@ -124,7 +155,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
 
     private <T> Future<T> invokeAsync(Supplier<T> getter) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("zookeeper-ops-pool").executeBlocking(future -> {
+        vertx.createSharedWorkerExecutor(WorkerPools.KAFKA_ADMIN_OPS_POOL).executeBlocking(future -> {
             try {
                 future.complete(getter.get());
             } catch (Throwable t) {
@@ -146,8 +177,16 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
      */
     @Override
     protected Future<KafkaUserStatus> createOrUpdate(Reconciliation reconciliation, KafkaUser resource) {
-        Secret clientsCaCert = secretOperations.get(caNamespace, caCertName);
-        Secret clientsCaKey = secretOperations.get(caNamespace, caKeyName);
+        Secret clientsCaCert;
+        Secret clientsCaKey;
+        if (clientsCaCache != null) {
+            ClientsCaCache.ClientsCaSecrets clientsCa = clientsCaCache.get();
+            clientsCaCert = clientsCa.caCertSecret();
+            clientsCaKey = clientsCa.caKeySecret();
+        } else {
+            clientsCaCert = secretOperations.get(caNamespace, caCertName);
+            clientsCaKey = secretOperations.get(caNamespace, caKeyName);
+        }
         Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(secretPrefix, reconciliation.name()));
 
         KafkaUserStatus userStatus = new KafkaUserStatus();
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -15,6 +16,13 @@ import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import org.I0Itec.zkclient.ZkClient;
 import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -22,24 +30,136 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 public class KafkaUserQuotasOperator {
     private static final Logger log = LogManager.getLogger(KafkaUserQuotasOperator.class.getName());
 
     private final static int CONNECTION_TIMEOUT = 30_000;
 
+    private static final List<String> QUOTA_KEYS = Arrays.asList("producer_byte_rate", "consumer_byte_rate", "request_percentage");
+
     private ZkClient zkClient;
     private Vertx vertx;
+    private final AdminApiBatcher<ClientQuotaAlteration, Void> batcher;
+    private final AdminApiBatcher<String, Map<String, Double>> describeBatcher;
+
+    /**
+     * Whether the quotas are managed through the Admin API. Set to false once the Kafka cluster turns out not to
+     * support it.
+     */
+    private volatile boolean adminApiSupported;
 
     public KafkaUserQuotasOperator(Vertx vertx, String zookeeperUrl, int zookeeperSessionTimeout) {
+        this(vertx, null, zookeeperUrl, zookeeperSessionTimeout);
+    }
+
+    /**
+     * Constructor. When an Admin client is given, the quotas are described and altered through the Kafka Admin API
+     * and the requests of concurrent reconciliations are batched into single requests. When the Kafka cluster does not support this
+     * API, the quotas are managed directly in ZooKeeper.
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance, or null for managing the quotas only in ZooKeeper
+     * @param zookeeperUrl ZooKeeper connection string
+     * @param zookeeperSessionTimeout ZooKeeper session timeout in milliseconds
+     */
+    public KafkaUserQuotasOperator(Vertx vertx, Admin adminClient, String zookeeperUrl, int zookeeperSessionTimeout) {
         this.zkClient = new ZkClient(zookeeperUrl, zookeeperSessionTimeout, CONNECTION_TIMEOUT, new BytesPushThroughSerializer());
         this.vertx = vertx;
+        this.adminApiSupported = adminClient != null;
+        this.batcher = new AdminApiBatcher<>(vertx, "client quota alterations", AdminApiBatcher.DEFAULT_BATCH_SIZE, alterations -> {
+            Map<ClientQuotaEntity, KafkaFuture<Void>> results = adminClient.alterClientQuotas(alterations).values();
+            return alterations.stream()
+                    .collect(Collectors.toMap(alteration -> alteration, alteration -> results.get(alteration.entity())));
+        });
+        this.describeBatcher = new AdminApiBatcher<>(vertx, "client quota descriptions", AdminApiBatcher.DEFAULT_BATCH_SIZE, usernames -> {
+            // A single user is described on its own, otherwise the quotas of all the users are described at once
+            ClientQuotaFilterComponent component = usernames.size() == 1
+                    ? ClientQuotaFilterComponent.ofEntity(ClientQuotaEntity.USER, usernames.iterator().next())
+                    : ClientQuotaFilterComponent.ofEntityType(ClientQuotaEntity.USER);
+            KafkaFuture<Map<ClientQuotaEntity, Map<String, Double>>> entities = adminClient
+                    .describeClientQuotas(ClientQuotaFilter.containsOnly(Collections.singletonList(component))).entities();
+            return usernames.stream()
+                    .collect(Collectors.toMap(username -> username,
+                        username -> entities.thenApply(quotas -> quotas.getOrDefault(userEntity(username), Collections.emptyMap()))));
+        });
     }
 
     Future<ReconcileResult<KafkaUserQuotas>> reconcile(String username, KafkaUserQuotas quotas) {
+        if (adminApiSupported) {
+            return reconcileWithAdminApi(username, quotas)
+                    .recover(error -> {
+                        if (error instanceof UnsupportedVersionException) {
+                            if (adminApiSupported) {
+                                log.info("The Kafka cluster does not support managing quotas through the Admin API, they will be managed in ZooKeeper");
+                                adminApiSupported = false;
+                            }
+                            return reconcileInZookeeper(username, quotas);
+                        } else {
+                            return Future.failedFuture(error);
+                        }
+                    });
+        } else {
+            return reconcileInZookeeper(username, quotas);
+        }
+    }
+
+    private Future<ReconcileResult<KafkaUserQuotas>> reconcileWithAdminApi(String username, KafkaUserQuotas quotas) {
+        // Quotas which are not set are removed
+        Map<String, Double> desired = new HashMap<>(3);
+        putQuota(desired, "producer_byte_rate", quotas != null ? quotas.getProducerByteRate() : null);
+        putQuota(desired, "consumer_byte_rate", quotas != null ? quotas.getConsumerByteRate() : null);
+        putQuota(desired, "request_percentage", quotas != null ? quotas.getRequestPercentage() : null);
+
+        return describeBatcher.submit(username).compose(current -> {
+            List<ClientQuotaAlteration.Op> ops = new ArrayList<>(3);
+            for (String key : QUOTA_KEYS) {
+                if (!Objects.equals(current.get(key), desired.get(key))) {
+                    ops.add(new ClientQuotaAlteration.Op(key, desired.get(key)));
+                }
+            }
+
+            if (ops.isEmpty()) {
+                log.debug("Nothing to update in quotas for user {}", username);
+                return Future.succeededFuture(ReconcileResult.noop(quotas));
+            }
+
+            log.debug("Altering quotas {} of user {}", ops, username);
+            return batcher.submit(Collections.singleton(new ClientQuotaAlteration(userEntity(username), ops)))
+                    .map(ignored -> {
+                        if (quotas == null) {
+                            return ReconcileResult.deleted();
+                        } else if (current.isEmpty()) {
+                            return ReconcileResult.created(quotas);
+                        } else {
+                            return ReconcileResult.patched(quotas);
+                        }
+                    });
+        });
+    }
+
+    private static ClientQuotaEntity userEntity(String username) {
+        return new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+    }
+
+    private static void putQuota(Map<String, Double> quotas, String key, Integer value) {
+        if (value != null) {
+            quotas.put(key, value.doubleValue());
+        }
+    }
+
+    private Future<ReconcileResult<KafkaUserQuotas>> reconcileInZookeeper(String username, KafkaUserQuotas quotas) {
         Promise<ReconcileResult<KafkaUserQuotas>> prom = Promise.promise();
         
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        vertx.createSharedWorkerExecutor(WorkerPools.ZOOKEEPER_OPS_POOL).executeBlocking(
             future -> {
                 try {
                     boolean exists = exists(username);
@@ -4,26 +4,120 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
+/**
+ * Manages the SCRAM-SHA credentials of the users. When an Admin client is given, the credentials are altered through
+ * the Kafka Admin API and the changes of concurrent reconciliations are batched into single requests. When the Kafka
+ * cluster does not support this API (Kafka versions older than 2.7.0), the credentials are managed directly in
+ * ZooKeeper through {@link ScramShaCredentials}.
+ */
 public class ScramShaCredentialsOperator {
+    private static final Logger log = LogManager.getLogger(ScramShaCredentialsOperator.class.getName());
+
+    private final static ScramMechanism MECHANISM = ScramMechanism.SCRAM_SHA_512;
+    private final static int ITERATIONS = 4096;
 
-    private ScramShaCredentials credsManager;
+    private final ScramShaCredentials credsManager;
+    private final Vertx vertx;
+    private final Admin adminClient;
+    private final AdminApiBatcher<UserScramCredentialAlteration, Void> batcher;
 
-    private Vertx vertx;
+    /**
+     * Whether the SCRAM credentials are managed through the Admin API. Set to false once the Kafka cluster turns out
+     * not to support it.
+     */
+    private volatile boolean adminApiSupported;
 
+    /**
+     * Constructor for managing the credentials only in ZooKeeper
+     *
+     * @param vertx Vertx instance
+     * @param credsManager For managing the credentials in ZooKeeper
+     */
     public ScramShaCredentialsOperator(Vertx vertx, ScramShaCredentials credsManager) {
+        this(vertx, null, credsManager);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance, or null for managing the credentials only in ZooKeeper
+     * @param credsManager For managing the credentials in ZooKeeper when the Admin API is not supported
+     */
+    public ScramShaCredentialsOperator(Vertx vertx, Admin adminClient, ScramShaCredentials credsManager) {
         this.credsManager = credsManager;
         this.vertx = vertx;
+        this.adminClient = adminClient;
+        this.adminApiSupported = adminClient != null;
+        this.batcher = new AdminApiBatcher<>(vertx, "SCRAM credential alterations", AdminApiBatcher.DEFAULT_BATCH_SIZE, alterations -> {
+            Map<String, KafkaFuture<Void>> results = adminClient.alterUserScramCredentials(new ArrayList<>(alterations)).values();
+            return alterations.stream()
+                    .collect(Collectors.toMap(alteration -> alteration, alteration -> results.get(alteration.user())));
+        });
     }
 
     Future<Void> reconcile(String username, String password) {
+        if (adminApiSupported) {
+            return reconcileWithAdminApi(username, password)
+                    .recover(error -> {
+                        if (error instanceof UnsupportedVersionException) {
+                            adminApiNotSupported();
+                            return reconcileInZookeeper(username, password);
+                        } else {
+                            return Future.failedFuture(error);
+                        }
+                    });
+        } else {
+            return reconcileInZookeeper(username, password);
+        }
+    }
+
+    private Future<Void> reconcileWithAdminApi(String username, String password) {
+        UserScramCredentialAlteration alteration;
+        if (password != null) {
+            alteration = new UserScramCredentialUpsertion(username, new ScramCredentialInfo(MECHANISM, ITERATIONS), password);
+        } else {
+            alteration = new UserScramCredentialDeletion(username, MECHANISM);
+        }
+
+        return batcher.submit(Collections.singleton(alteration))
+                .recover(error -> {
+                    if (password == null && error instanceof ResourceNotFoundException) {
+                        log.debug("Credentials for user {} already don't exist", username);
+                        return Future.succeededFuture();
+                    } else {
+                        return Future.failedFuture(error);
+                    }
+                });
+    }
+
+    private Future<Void> reconcileInZookeeper(String username, String password) {
         Promise<Void> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        vertx.createSharedWorkerExecutor(WorkerPools.ZOOKEEPER_OPS_POOL).executeBlocking(
             future -> {
                 boolean exists = credsManager.exists(username);
                 if (password != null) {
@@ -44,6 +138,31 @@ public class ScramShaCredentialsOperator {
     }
 
     public List<String> list() {
+        if (adminApiSupported) {
+            try {
+                return adminClient.describeUserScramCredentials().all().get().values().stream()
+                        .filter(description -> description.credentialInfos().stream().anyMatch(info -> info.mechanism() == MECHANISM))
+                        .map(UserScramCredentialsDescription::name)
+                        .collect(Collectors.toList());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof UnsupportedVersionException) {
+                    adminApiNotSupported();
+                } else {
+                    throw new RuntimeException("Failed to list the users with SCRAM credentials", e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while listing the users with SCRAM credentials", e);
+            }
+        }
+
         return credsManager.list();
     }
+
+    private void adminApiNotSupported() {
+        if (adminApiSupported) {
+            log.info("The Kafka cluster does not support managing SCRAM credentials through the Admin API, they will be managed in ZooKeeper");
+            adminApiSupported = false;
+        }
+    }
 }
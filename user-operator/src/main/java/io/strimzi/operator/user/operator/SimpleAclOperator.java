@@ -5,6 +5,7 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
@@ -13,6 +14,8 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -29,9 +32,13 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -42,8 +49,20 @@ public class SimpleAclOperator {
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
 
+    /**
+     * The default maximum number of ACL bindings created or deleted in a single Admin API request
+     */
+    public static final int DEFAULT_BATCH_SIZE = AdminApiBatcher.DEFAULT_BATCH_SIZE;
+
     private final Vertx vertx;
     private final Admin adminClient;
+    private final AdminApiBatcher<AclBinding, Void> createBatcher;
+    private final AdminApiBatcher<AclBindingFilter, Void> deleteBatcher;
+
+    /**
+     * The ACL bindings of all users taken by the last call to {@link #getUsersWithAcls()}, or null
+     */
+    private volatile AclSnapshot snapshot;
 
     /**
      * Constructor
@@ -52,8 +71,34 @@ public class SimpleAclOperator {
      * @param adminClient Kafka Admin client instance
      */
     public SimpleAclOperator(Vertx vertx, Admin adminClient)  {
+        this(vertx, adminClient, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param batchSize Maximum number of ACL bindings created or deleted in a single Admin API request
+     */
+    public SimpleAclOperator(Vertx vertx, Admin adminClient, int batchSize)  {
         this.vertx = vertx;
         this.adminClient = adminClient;
+        this.createBatcher = new AdminApiBatcher<>(vertx, "ACL creations", batchSize, bindings -> adminClient.createAcls(bindings).values());
+        this.deleteBatcher = new AdminApiBatcher<>(vertx, "ACL deletions", batchSize, filters -> {
+            Map<AclBindingFilter, KafkaFuture<Void>> results = new HashMap<>(filters.size());
+            for (Map.Entry<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> result : adminClient.deleteAcls(filters).values().entrySet()) {
+                results.put(result.getKey(), result.getValue().thenApply(filterResults -> {
+                    for (DeleteAclsResult.FilterResult filterResult : filterResults.values()) {
+                        if (filterResult.exception() != null) {
+                            throw filterResult.exception();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            return results;
+        });
     }
 
     /**
@@ -65,12 +110,12 @@ public class SimpleAclOperator {
      */
     public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(String username, Set<SimpleAclRule> desired) {
         Promise<ReconcileResult<Set<SimpleAclRule>>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        vertx.createSharedWorkerExecutor(WorkerPools.KAFKA_ADMIN_OPS_POOL).executeBlocking(
             future -> {
                 Set<SimpleAclRule> current;
 
                 try {
-                    current = getAcls(username);
+                    current = getCurrentAcls(username);
                 } catch (Exception e)   {
                     // if authorization is not enabled in the Kafka resource, but the KafkaUser resource doesn't
                     // have ACLs, the UO can just ignore the corresponding exception
@@ -112,15 +157,13 @@ public class SimpleAclOperator {
      * Create all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(String username, Set<SimpleAclRule> desired) {
-        try {
-            Collection<AclBinding> aclBindings = getAclBindings(username, desired);
-            adminClient.createAcls(aclBindings).all().get();
-        } catch (Exception e) {
-            log.error("Adding Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
-        }
-
-        return Future.succeededFuture(ReconcileResult.created(desired));
+        invalidateSnapshot(username);
+        return createBatcher.submit(getAclBindings(username, desired))
+                .map(ignored -> ReconcileResult.created(desired))
+                .recover(e -> {
+                    log.error("Adding Acl rules for user {} failed", username, e);
+                    return Future.failedFuture(e);
+                });
     }
 
     /**
@@ -175,15 +218,44 @@ public class SimpleAclOperator {
      * Deletes all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(String username, Set<SimpleAclRule> current) {
+        invalidateSnapshot(username);
+        return deleteBatcher.submit(getAclBindingFilters(username, current))
+                .map(ignored -> ReconcileResult.<Set<SimpleAclRule>>deleted())
+                .recover(e -> {
+                    log.error("Deleting Acl rules for user {} failed", username, e);
+                    return Future.failedFuture(e);
+                });
+    }
 
-        try {
-            Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
-            adminClient.deleteAcls(aclBindingFilters).all().get();
-        } catch (Exception e) {
-            log.error("Deleting Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
+    /**
+     * Returns the Set of ACLs applying to single user. The ACLs are taken from the snapshot of the last call to
+     * {@link #getUsersWithAcls()} when the snapshot has not been used for this user yet, otherwise they are
+     * described using the Admin API.
+     *
+     * @param username  Name of the user.
+     * @return The Set of ACLs applying to single user.
+     */
+    private Set<SimpleAclRule> getCurrentAcls(String username) {
+        AclSnapshot snapshot = this.snapshot;
+        Collection<AclBinding> aclBindings = snapshot != null ? snapshot.take(username) : null;
+
+        if (aclBindings == null) {
+            return getAcls(username);
+        }
+
+        log.debug("Using the snapshot of the ACL rules of user {}", username);
+        Set<SimpleAclRule> result = new HashSet<>(aclBindings.size());
+        for (AclBinding aclBinding : aclBindings) {
+            result.add(SimpleAclRule.fromAclBinding(aclBinding));
+        }
+        return result;
+    }
+
+    private void invalidateSnapshot(String username) {
+        AclSnapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            snapshot.invalidate(username);
         }
-        return Future.succeededFuture(ReconcileResult.deleted());
     }
 
     /**
@@ -224,7 +296,8 @@ public class SimpleAclOperator {
     }
 
     /**
-     * Returns set with all usernames which have some ACLs.
+     * Returns set with all usernames which have some ACLs. The ACL bindings described for this are kept as a snapshot,
+     * indexed by user, which the subsequent reconciliations of the users use instead of describing their ACLs again.
      *
      * @return The set with all usernames which have some ACLs.
      */
@@ -238,13 +311,18 @@ public class SimpleAclOperator {
         try {
             aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
         } catch (InterruptedException | ExecutionException e) {
+            snapshot = null;
             return result;
         }
 
+        Map<String, List<AclBinding>> aclBindingsByUser = new HashMap<>();
+
         for (AclBinding aclBinding : aclBindings) {
             KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
             if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType()))  {
+                aclBindingsByUser.computeIfAbsent(principal.getName(), name -> new ArrayList<>()).add(aclBinding);
+
                 // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
                 String username = KafkaUserModel.decodeUsername(principal.getName());
 
@@ -264,6 +342,37 @@ public class SimpleAclOperator {
             }
         }
 
+        snapshot = new AclSnapshot(aclBindingsByUser);
+
         return result;
     }
+
+    /**
+     * The ACL bindings of all users, indexed by the user principal name. The bindings of each user are used at most
+     * once, by the first reconciliation of the user after the snapshot was taken, and never after the ACLs of the
+     * user were changed by this operator. Any further reconciliation of the user describes its ACLs again.
+     */
+    static class AclSnapshot {
+        private final Map<String, List<AclBinding>> aclBindingsByUser;
+        private final Set<String> used = ConcurrentHashMap.newKeySet();
+
+        AclSnapshot(Map<String, List<AclBinding>> aclBindingsByUser) {
+            this.aclBindingsByUser = aclBindingsByUser;
+        }
+
+        /**
+         * @return The ACL bindings of the given user, or null when the snapshot cannot be used for the user anymore
+         */
+        Collection<AclBinding> take(String username) {
+            if (used.add(username)) {
+                return aclBindingsByUser.getOrDefault(username, Collections.emptyList());
+            } else {
+                return null;
+            }
+        }
+
+        void invalidate(String username) {
+            used.add(username);
+        }
+    }
 }
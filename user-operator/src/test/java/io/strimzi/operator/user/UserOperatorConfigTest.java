@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -107,4 +108,63 @@ public class UserOperatorConfigTest {
 
         assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
     }
+
+    @Test
+    public void testFromMapAclsAdminApiBatchSize()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).getAclsAdminApiBatchSize(), is(UserOperatorConfig.DEFAULT_ACLS_ADMIN_API_BATCH_SIZE));
+
+        envVars.put(UserOperatorConfig.STRIMZI_ACLS_ADMIN_API_BATCH_SIZE, "100");
+        assertThat(UserOperatorConfig.fromMap(envVars).getAclsAdminApiBatchSize(), is(100));
+
+        envVars.put(UserOperatorConfig.STRIMZI_ACLS_ADMIN_API_BATCH_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapCertManagerType()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "jca");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.JCA));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapKeyPairPool()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).getKeyPairPoolSize(), is(UserOperatorConfig.DEFAULT_KEY_PAIR_POOL_SIZE));
+        assertThat(UserOperatorConfig.fromMap(envVars).getKeyPairPoolRefillThreads(), is(UserOperatorConfig.DEFAULT_KEY_PAIR_POOL_REFILL_THREADS));
+
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE, "1000");
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_REFILL_THREADS, "4");
+        assertThat(UserOperatorConfig.fromMap(envVars).getKeyPairPoolSize(), is(1000));
+        assertThat(UserOperatorConfig.fromMap(envVars).getKeyPairPoolRefillThreads(), is(4));
+
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_REFILL_THREADS, "0");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapWorkerPoolSizes()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKubernetesOpsPoolSize(), is(UserOperatorConfig.DEFAULT_KUBERNETES_OPS_POOL_SIZE));
+        assertThat(config.getZookeeperOpsPoolSize(), is(UserOperatorConfig.DEFAULT_ZOOKEEPER_OPS_POOL_SIZE));
+        assertThat(config.getKafkaAdminOpsPoolSize(), is(UserOperatorConfig.DEFAULT_KAFKA_ADMIN_OPS_POOL_SIZE));
+
+        envVars.put(UserOperatorConfig.STRIMZI_KUBERNETES_OPS_POOL_SIZE, "20");
+        envVars.put(UserOperatorConfig.STRIMZI_ZOOKEEPER_OPS_POOL_SIZE, "2");
+        envVars.put(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE, "4");
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKubernetesOpsPoolSize(), is(20));
+        assertThat(config.getZookeeperOpsPoolSize(), is(2));
+        assertThat(config.getKafkaAdminOpsPoolSize(), is(4));
+
+        envVars.put(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.ResourceUtils;
+import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ClientsCaCacheTest {
+    private static Vertx vertx;
+
+    private KubernetesClient client;
+    private SecretOperator secretOperations;
+    private ClientsCaCache cache;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        client = new MockKube()
+                .withInitialSecrets(new HashSet<>(asList(ResourceUtils.createClientsCaCertSecret(), ResourceUtils.createClientsCaKeySecret())))
+                .build();
+        secretOperations = spy(new SecretOperator(vertx, client));
+        cache = new ClientsCaCache(secretOperations, client, ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME);
+    }
+
+    @Test
+    public void testSecretsAreReadOnceWhileUnchanged(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        cache.start(vertx).onComplete(context.succeeding(ignored -> context.verify(() -> {
+            ClientsCaCache.ClientsCaSecrets first = cache.get();
+            ClientsCaCache.ClientsCaSecrets second = cache.get();
+
+            assertThat(second, is(first));
+            assertThat(first.caCertSecret().getMetadata().getName(), is(ResourceUtils.CA_CERT_NAME));
+            assertThat(first.caKeySecret().getMetadata().getName(), is(ResourceUtils.CA_KEY_NAME));
+            verify(secretOperations, times(1)).get(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+            verify(secretOperations, times(1)).get(ResourceUtils.NAMESPACE, ResourceUtils.CA_KEY_NAME);
+
+            cache.close();
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testChangedSecretIsReadAgain(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        cache.start(vertx).onComplete(context.succeeding(ignored -> context.verify(() -> {
+            cache.get();
+
+            Secret renewed = new SecretBuilder(ResourceUtils.createClientsCaCertSecret())
+                    .addToData("ca.crt", Base64.getEncoder().encodeToString("renewed-clients-ca-crt".getBytes(StandardCharsets.US_ASCII)))
+                    .build();
+            client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.CA_CERT_NAME).createOrReplace(renewed);
+
+            assertThat(cache.get().caCertSecret().getData().get("ca.crt"), is(renewed.getData().get("ca.crt")));
+            verify(secretOperations, times(2)).get(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+
+            cache.close();
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testSecretsAreNotCachedWithoutWatch() {
+        cache.get();
+        cache.get();
+
+        verify(secretOperations, times(2)).get(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+        verify(secretOperations, times(2)).get(ResourceUtils.NAMESPACE, ResourceUtils.CA_KEY_NAME);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testWatchesAreReestablishedAfterClose() throws Exception {
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation mockSecrets = mock(MixedOperation.class);
+        NonNamespaceOperation mockNamespacedSecrets = mock(NonNamespaceOperation.class);
+        Resource mockSecret = mock(Resource.class);
+        when(mockClient.secrets()).thenReturn(mockSecrets);
+        when(mockSecrets.inNamespace(anyString())).thenReturn(mockNamespacedSecrets);
+        when(mockNamespacedSecrets.withName(anyString())).thenReturn(mockSecret);
+
+        List<Watcher<Secret>> watchers = new CopyOnWriteArrayList<>();
+        List<Watch> watches = new CopyOnWriteArrayList<>();
+        when(mockSecret.watch(any(Watcher.class))).thenAnswer(invocation -> {
+            watchers.add(invocation.getArgument(0));
+            Watch watch = mock(Watch.class);
+            watches.add(watch);
+            return watch;
+        });
+        cache = new ClientsCaCache(secretOperations, mockClient, ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME);
+
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        cache.start(vertx).onComplete(res -> started.complete(null));
+        started.get(10, TimeUnit.SECONDS);
+        assertThat(watchers.size(), is(2));
+
+        // Closing one of the watches stops using the cache and closes the other one
+        watchers.get(0).onClose(new KubernetesClientException("Watch closed"));
+        verify(watches.get(1)).close();
+        cache.get();
+        cache.get();
+        verify(secretOperations, times(2)).get(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+
+        // Both watches are re-established and the cache is used again
+        long deadline = System.currentTimeMillis() + 10_000L;
+        while (watchers.size() < 4 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100L);
+        }
+        assertThat(watchers.size(), is(4));
+        cache.get();
+        cache.get();
+        verify(secretOperations, times(3)).get(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+
+        cache.close();
+    }
+}
@@ -5,12 +5,22 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.test.EmbeddedZooKeeper;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,12 +29,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
 public class KafkaUserQuotasIT {
@@ -448,6 +473,129 @@ public class KafkaUserQuotasIT {
             })));
     }
 
+    /**
+     * Mocks the Admin API with the given current quotas of the users, collecting the requested alterations
+     */
+    private static Admin mockAdminClient(Map<String, Map<String, Double>> currentQuotas, List<ClientQuotaAlteration> alterations) {
+        Admin mockAdminClient = mock(Admin.class);
+        when(mockAdminClient.describeClientQuotas(any())).thenAnswer(invocation -> {
+            ClientQuotaFilter filter = invocation.getArgument(0);
+            Optional<String> match = filter.components().iterator().next().match();
+            return new DescribeClientQuotasResult(KafkaFuture.completedFuture(currentQuotas.entrySet().stream()
+                    .filter(entry -> !match.isPresent() || match.get().equals(entry.getKey()))
+                    .collect(Collectors.toMap(entry -> new ClientQuotaEntity(singletonMap(ClientQuotaEntity.USER, entry.getKey())), Map.Entry::getValue))));
+        });
+        when(mockAdminClient.alterClientQuotas(any())).thenAnswer(invocation -> {
+            Collection<ClientQuotaAlteration> requested = invocation.getArgument(0);
+            alterations.addAll(requested);
+            return new AlterClientQuotasResult(requested.stream()
+                    .collect(Collectors.toMap(ClientQuotaAlteration::entity, alteration -> KafkaFuture.completedFuture(null))));
+        });
+        return mockAdminClient;
+    }
+
+    private static Map<String, Double> ops(ClientQuotaAlteration alteration) {
+        Map<String, Double> ops = new HashMap<>();
+        alteration.ops().forEach(op -> ops.put(op.key(), op.value()));
+        return ops;
+    }
+
+    @Test
+    public void testReconcileWithAdminApi(VertxTestContext testContext)  {
+        List<ClientQuotaAlteration> alterations = new ArrayList<>();
+        Map<String, Double> currentQuotas = new HashMap<>();
+        currentQuotas.put("consumer_byte_rate", 1_000.0);
+        currentQuotas.put("request_percentage", 50.0);
+        Admin mockAdminClient = mockAdminClient(singletonMap("CN=adminApiUser", currentQuotas), alterations);
+        KafkaUserQuotasOperator adminKuq = new KafkaUserQuotasOperator(vertx, mockAdminClient, zkServer.getZkConnectString(), 6_000);
+
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setConsumerByteRate(2_000_000);
+        quotas.setProducerByteRate(1_000_000);
+
+        Checkpoint async = testContext.checkpoint();
+        adminKuq.reconcile("CN=adminApiUser", quotas)
+            .onComplete(testContext.succeeding(rr -> testContext.verify(() -> {
+                assertThat(rr, instanceOf(ReconcileResult.Patched.class));
+                assertThat(alterations.size(), is(1));
+                ClientQuotaAlteration alteration = alterations.get(0);
+                assertThat(alteration.entity().entries(), is(singletonMap(ClientQuotaEntity.USER, "CN=adminApiUser")));
+                Map<String, Double> ops = ops(alteration);
+                assertThat(ops.get("consumer_byte_rate"), is(2_000_000.0));
+                assertThat(ops.get("producer_byte_rate"), is(1_000_000.0));
+                assertThat(ops.containsKey("request_percentage"), is(true));
+                assertThat(ops.get("request_percentage"), is(nullValue()));
+
+                // The quotas are not written to ZooKeeper
+                assertThat(adminKuq.exists("CN=adminApiUser"), is(false));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileWithAdminApiAltersOnlyChangedQuotas(VertxTestContext testContext)  {
+        List<ClientQuotaAlteration> alterations = new ArrayList<>();
+        Map<String, Double> currentQuotas = new HashMap<>();
+        currentQuotas.put("consumer_byte_rate", 1_000.0);
+        currentQuotas.put("producer_byte_rate", 1_000.0);
+        Admin mockAdminClient = mockAdminClient(singletonMap("changedUser", currentQuotas), alterations);
+        KafkaUserQuotasOperator adminKuq = new KafkaUserQuotasOperator(vertx, mockAdminClient, zkServer.getZkConnectString(), 6_000);
+
+        Checkpoint async = testContext.checkpoint();
+        adminKuq.reconcile("changedUser", defaultQuotas)
+            .onComplete(testContext.succeeding(rr -> testContext.verify(() -> {
+                assertThat(alterations.size(), is(1));
+                assertThat(ops(alterations.get(0)), is(singletonMap("producer_byte_rate", 2_000.0)));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileWithAdminApiIsNoopWhenQuotasMatch(VertxTestContext testContext)  {
+        List<ClientQuotaAlteration> alterations = new ArrayList<>();
+        Map<String, Double> currentQuotas = new HashMap<>();
+        currentQuotas.put("consumer_byte_rate", 1_000.0);
+        currentQuotas.put("producer_byte_rate", 2_000.0);
+        Admin mockAdminClient = mockAdminClient(singletonMap("unchangedUser", currentQuotas), alterations);
+        KafkaUserQuotasOperator adminKuq = new KafkaUserQuotasOperator(vertx, mockAdminClient, zkServer.getZkConnectString(), 6_000);
+
+        Checkpoint async = testContext.checkpoint();
+        adminKuq.reconcile("unchangedUser", defaultQuotas)
+            .compose(rr -> {
+                testContext.verify(() -> assertThat(rr, instanceOf(ReconcileResult.Noop.class)));
+                // A user without quotas is not altered either
+                return adminKuq.reconcile("userWithoutQuotas", null);
+            })
+            .onComplete(testContext.succeeding(rr -> testContext.verify(() -> {
+                assertThat(rr, instanceOf(ReconcileResult.Noop.class));
+                verify(mockAdminClient, never()).alterClientQuotas(any());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileFallsBackToZookeeper(VertxTestContext testContext)  {
+        Admin mockAdminClient = mock(Admin.class);
+        when(mockAdminClient.describeClientQuotas(any())).thenAnswer(invocation -> {
+            KafkaFutureImpl<Map<ClientQuotaEntity, Map<String, Double>>> future = new KafkaFutureImpl<>();
+            future.completeExceptionally(new UnsupportedVersionException("Not supported"));
+            return new DescribeClientQuotasResult(future);
+        });
+        KafkaUserQuotasOperator adminKuq = new KafkaUserQuotasOperator(vertx, mockAdminClient, zkServer.getZkConnectString(), 6_000);
+
+        Checkpoint async = testContext.checkpoint();
+        adminKuq.reconcile("fallbackUser", defaultQuotas)
+            .compose(ignored -> adminKuq.reconcile("otherFallbackUser", defaultQuotas))
+            .onComplete(testContext.succeeding(rr -> testContext.verify(() -> {
+                assertThat(adminKuq.getQuotas("fallbackUser").getJsonObject("config").getString("consumer_byte_rate"), is("1000"));
+                assertThat(adminKuq.getQuotas("otherFallbackUser").getJsonObject("config").getString("consumer_byte_rate"), is("1000"));
+                // The Admin API is not used anymore once it turned out not to be supported
+                verify(mockAdminClient, times(1)).describeClientQuotas(any());
+                verify(mockAdminClient, never()).alterClientQuotas(any());
+                async.flag();
+            })));
+    }
+
     @Test
     public void testEncodeUser()    {
         assertThat(KafkaUserQuotasOperator.encodeUsername("jack"), is("jack"));
@@ -0,0 +1,153 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ScramShaCredentialsOperatorTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private void mockAlterUserScramCredentials(Admin mockAdminClient, List<List<UserScramCredentialAlteration>> requests,
+                                               Function<UserScramCredentialAlteration, KafkaFuture<Void>> result) {
+        when(mockAdminClient.alterUserScramCredentials(any())).thenAnswer(invocation -> {
+            List<UserScramCredentialAlteration> alterations = invocation.getArgument(0);
+            requests.add(new ArrayList<>(alterations));
+            Map<String, KafkaFuture<Void>> futures = new HashMap<>(alterations.size());
+            for (UserScramCredentialAlteration alteration : alterations) {
+                futures.put(alteration.user(), result.apply(alteration));
+            }
+            return new AlterUserScramCredentialsResult(futures);
+        });
+    }
+
+    @Test
+    public void testReconcileWithAdminApi(VertxTestContext context) {
+        Admin mockAdminClient = mock(Admin.class);
+        ScramShaCredentials mockCredentials = mock(ScramShaCredentials.class);
+        List<List<UserScramCredentialAlteration>> requests = new ArrayList<>();
+        mockAlterUserScramCredentials(mockAdminClient, requests, alteration -> {
+            KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+            if (alteration instanceof UserScramCredentialDeletion) {
+                future.completeExceptionally(new ResourceNotFoundException("No such credential"));
+            } else {
+                future.complete(null);
+            }
+            return future;
+        });
+
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, mockAdminClient, mockCredentials);
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile("my-user", "my-password")
+            .compose(ignored -> operator.reconcile("my-other-user", null))
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                assertThat(requests.size(), is(2));
+                assertThat(requests.get(0).get(0), instanceOf(UserScramCredentialUpsertion.class));
+                assertThat(requests.get(0).get(0).user(), is("my-user"));
+                assertThat(requests.get(1).get(0), instanceOf(UserScramCredentialDeletion.class));
+                assertThat(requests.get(1).get(0).user(), is("my-other-user"));
+
+                verify(mockCredentials, never()).createOrUpdate(any(), any());
+                verify(mockCredentials, never()).delete(any());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFallbackToZookeeper(VertxTestContext context) {
+        Admin mockAdminClient = mock(Admin.class);
+        ScramShaCredentials mockCredentials = mock(ScramShaCredentials.class);
+        mockAlterUserScramCredentials(mockAdminClient, new ArrayList<>(), alteration -> {
+            KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+            future.completeExceptionally(new UnsupportedVersionException("Not supported"));
+            return future;
+        });
+
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, mockAdminClient, mockCredentials);
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile("my-user", "my-password")
+            .compose(ignored -> operator.reconcile("my-other-user", "my-other-password"))
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                // The Admin API is not used anymore once it turned out not to be supported
+                verify(mockAdminClient, times(1)).alterUserScramCredentials(any());
+                verify(mockCredentials).createOrUpdate("my-user", "my-password");
+                verify(mockCredentials).createOrUpdate("my-other-user", "my-other-password");
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testListWithAdminApi() {
+        Admin mockAdminClient = mock(Admin.class);
+        ScramShaCredentials mockCredentials = mock(ScramShaCredentials.class);
+
+        Map<String, UserScramCredentialsDescription> descriptions = asList(
+                new UserScramCredentialsDescription("scram-512-user", singletonList(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096))),
+                new UserScramCredentialsDescription("scram-256-user", singletonList(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_256, 4096))),
+                new UserScramCredentialsDescription("no-scram-user", emptyList()))
+                .stream()
+                .collect(Collectors.toMap(UserScramCredentialsDescription::name, description -> description));
+        DescribeUserScramCredentialsResult result = mock(DescribeUserScramCredentialsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(descriptions));
+        when(mockAdminClient.describeUserScramCredentials()).thenReturn(result);
+
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, mockAdminClient, mockCredentials);
+
+        assertThat(operator.list(), is(singletonList("scram-512-user")));
+        verify(mockCredentials, never()).list();
+    }
+}
@@ -7,9 +7,12 @@ package io.strimzi.operator.user.operator;
 import io.strimzi.api.kafka.model.AclOperation;
 import io.strimzi.api.kafka.model.AclResourcePatternType;
 import io.strimzi.api.kafka.model.AclRuleType;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -24,6 +27,7 @@ import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourcePatternFilter;
@@ -35,16 +39,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
@@ -53,6 +62,9 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -228,6 +240,67 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testReconcileUsesSnapshotOfGetUsersWithAcls(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW,
+                new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL), "*", AclOperation.READ);
+
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding)));
+        assertThat(aclOp.getUsersWithAcls(), is(Collections.singleton("foo")));
+
+        Checkpoint async = context.checkpoint();
+        aclOp.reconcile("CN=foo", Collections.singleton(readRule))
+            .onComplete(context.succeeding(rr -> {
+                context.verify(() -> {
+                    // The ACLs of the user are taken from the snapshot
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+                    assertThat(rr, instanceOf(ReconcileResult.Patched.class));
+                });
+
+                aclOp.reconcile("CN=foo", Collections.singleton(readRule))
+                    .onComplete(context.succeeding(rr2 -> context.verify(() -> {
+                        // The snapshot is used only once for each user
+                        verify(mockAdminClient, times(2)).describeAcls(any());
+                        verify(mockAdminClient, never()).createAcls(any());
+                        verify(mockAdminClient, never()).deleteAcls(any());
+                        async.flag();
+                    })));
+            }));
+    }
+
+    @Test
+    public void testBatcherCoalescesConcurrentChanges(VertxTestContext context) {
+        List<Collection<String>> requests = new ArrayList<>();
+        KafkaFutureImpl<Void> firstRequest = new KafkaFutureImpl<>();
+        AdminApiBatcher<String, Void> batcher = new AdminApiBatcher<>(vertx, "test items", 2, items -> {
+            requests.add(new ArrayList<>(items));
+            KafkaFuture<Void> result = requests.size() == 1 ? firstRequest : KafkaFuture.completedFuture(null);
+            return items.stream().collect(Collectors.toMap(item -> item, item -> result));
+        });
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(v -> {
+            Future<Void> first = batcher.submit(Collections.singleton("a"));
+            // Sent together once the first request completes
+            Future<Void> second = batcher.submit(asList("b", "c"));
+            Future<Void> third = batcher.submit(Collections.singleton("d"));
+            context.verify(() -> assertThat(requests.size(), is(1)));
+            firstRequest.complete(null);
+
+            CompositeFuture.all(first, second, third).onComplete(context.succeeding(ignored -> context.verify(() -> {
+                assertThat(requests, is(asList(asList("a"), asList("b", "c"), asList("d"))));
+                async.flag();
+            })));
+        });
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings)
             throws InterruptedException, ExecutionException {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
@@ -237,21 +310,36 @@ public class SimpleAclOperatorTest {
         when(mockAdminClient.describeAcls(aclBindingFilter != null ? aclBindingFilter : any())).thenReturn(result);
     }
 
-    private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor)
-            throws InterruptedException, ExecutionException {
-        CreateAclsResult result = mock(CreateAclsResult.class);
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(null);
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenReturn(result);
+    private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor) {
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBinding> aclBindings = invocation.getArgument(0);
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(aclBindings.stream()
+                    .collect(Collectors.toMap(aclBinding -> aclBinding, aclBinding -> KafkaFuture.completedFuture(null))));
+            return result;
+        });
     }
 
-    private void mockDeleteAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor)
-            throws InterruptedException, ExecutionException {
-        DeleteAclsResult result = mock(DeleteAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(aclBindings);
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenReturn(result);
+    private void mockDeleteAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor) {
+        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> aclBindingFilters = invocation.getArgument(0);
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values = new HashMap<>();
+            for (AclBindingFilter aclBindingFilter : aclBindingFilters) {
+                List<DeleteAclsResult.FilterResult> deleted = new ArrayList<>();
+                for (AclBinding aclBinding : aclBindings) {
+                    if (aclBindingFilter.matches(aclBinding)) {
+                        DeleteAclsResult.FilterResult filterResult = mock(DeleteAclsResult.FilterResult.class);
+                        when(filterResult.binding()).thenReturn(aclBinding);
+                        deleted.add(filterResult);
+                    }
+                }
+                DeleteAclsResult.FilterResults filterResults = mock(DeleteAclsResult.FilterResults.class);
+                when(filterResults.values()).thenReturn(deleted);
+                values.put(aclBindingFilter, KafkaFuture.completedFuture(filterResults));
+            }
+            when(result.values()).thenReturn(values);
+            return result;
+        });
     }
 }